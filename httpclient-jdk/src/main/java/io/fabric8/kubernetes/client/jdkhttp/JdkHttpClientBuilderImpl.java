@@ -61,6 +61,7 @@ class JdkHttpClientBuilderImpl implements Builder {
   private boolean preferHttp11;
   private TlsVersion[] tlsVersions;
   private java.net.http.HttpClient httpClient;
+  RequestLimiter requestLimiter = new RequestLimiter(0, 0);
 
   JdkHttpClientBuilderImpl(JdkHttpClientFactory factory) {
     this.clientFactory = factory;
@@ -186,6 +187,19 @@ class JdkHttpClientBuilderImpl implements Builder {
     return this;
   }
 
+  @Override
+  public Builder maxConcurrentRequests(int maxRequests, int maxRequestsPerHost) {
+    this.requestLimiter = new RequestLimiter(maxRequests, maxRequestsPerHost);
+    return this;
+  }
+
+  @Override
+  public Builder connectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+    // the pool is only configurable for the whole jvm, by the jdk.httpclient.connectionPoolSize
+    // and jdk.httpclient.keepalive.timeout system properties
+    return this;
+  }
+
   public JdkHttpClientBuilderImpl copy(java.net.http.HttpClient httpClient) {
     JdkHttpClientBuilderImpl copy = new JdkHttpClientBuilderImpl(this.clientFactory);
     copy.connectTimeout = this.connectTimeout;
@@ -198,6 +212,7 @@ class JdkHttpClientBuilderImpl implements Builder {
     copy.preferHttp11 = this.preferHttp11;
     copy.followRedirects = this.followRedirects;
     copy.httpClient = httpClient;
+    copy.requestLimiter = this.requestLimiter;
     return copy;
   }
 
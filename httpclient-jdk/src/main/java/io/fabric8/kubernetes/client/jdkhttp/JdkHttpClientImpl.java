@@ -16,6 +16,7 @@
 
 package io.fabric8.kubernetes.client.jdkhttp;
 
+import io.fabric8.kubernetes.client.http.ConnectionPoolStats;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
@@ -292,9 +293,11 @@ public class JdkHttpClientImpl implements HttpClient {
     }
 
     HandlerAndAsyncBody<T> handlerAndAsyncBody = handlerAndAsyncBodySupplier.get();
+    // streamed bodies may stay open indefinitely, they must not hold a slot of the limiter
+    boolean limited = handlerAndAsyncBody.asyncBody == null;
 
-    CompletableFuture<AsyncResponse<T>> cf = this.getHttpClient().sendAsync(builderImpl.build().request,
-        handlerAndAsyncBody.handler).thenApply(r -> new AsyncResponse<>(r, handlerAndAsyncBody.asyncBody));
+    CompletableFuture<AsyncResponse<T>> cf = limitedSendAsync(builderImpl.build().request, handlerAndAsyncBody.handler,
+        limited).thenApply(r -> new AsyncResponse<>(r, handlerAndAsyncBody.asyncBody));
 
     for (Interceptor interceptor : builder.interceptors.values()) {
       cf = cf.thenCompose(ar -> {
@@ -304,7 +307,7 @@ public class JdkHttpClientImpl implements HttpClient {
             if (b) {
               HandlerAndAsyncBody<T> interceptedHandlerAndAsyncBody = handlerAndAsyncBodySupplier.get();
 
-              return this.getHttpClient().sendAsync(builderImpl.build().request, interceptedHandlerAndAsyncBody.handler)
+              return limitedSendAsync(builderImpl.build().request, interceptedHandlerAndAsyncBody.handler, limited)
                   .thenApply(r -> new AsyncResponse<>(r, interceptedHandlerAndAsyncBody.asyncBody));
             }
             return CompletableFuture.completedFuture(ar);
@@ -317,6 +320,24 @@ public class JdkHttpClientImpl implements HttpClient {
     return cf;
   }
 
+  private <T> CompletableFuture<java.net.http.HttpResponse<T>> limitedSendAsync(java.net.http.HttpRequest request,
+      BodyHandler<T> handler, boolean limited) {
+    if (!limited) {
+      return this.getHttpClient().sendAsync(request, handler);
+    }
+    RequestLimiter limiter = builder.requestLimiter;
+    String host = request.uri().getHost();
+    return limiter.acquire(host)
+        .thenCompose(v -> this.getHttpClient().sendAsync(request, handler))
+        .whenComplete((r, t) -> limiter.release(host));
+  }
+
+  @Override
+  public ConnectionPoolStats getConnectionPoolStats() {
+    // the jdk client does not expose its connections
+    return new ConnectionPoolStats(-1, -1, builder.requestLimiter.getRunning(), builder.requestLimiter.getQueued());
+  }
+
   @Override
   public io.fabric8.kubernetes.client.http.WebSocket.Builder newWebSocketBuilder() {
     return new JdkWebSocketImpl.BuilderImpl(this);
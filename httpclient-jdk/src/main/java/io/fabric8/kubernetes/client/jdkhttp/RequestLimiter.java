@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jdkhttp;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Limits the requests awaiting a response, overall and per host. The jdk client has no such limits of its own.
+ * <br>
+ * Requests over the limits are queued, and started in order as soon as their host has a free slot.
+ */
+class RequestLimiter {
+
+  private final int maxRequests;
+  private final int maxRequestsPerHost;
+  private final Map<String, Integer> runningPerHost = new HashMap<>();
+  private final Deque<Entry<String, CompletableFuture<Void>>> queue = new ArrayDeque<>();
+  private int running;
+
+  RequestLimiter(int maxRequests, int maxRequestsPerHost) {
+    this.maxRequests = maxRequests;
+    this.maxRequestsPerHost = maxRequestsPerHost;
+  }
+
+  /**
+   * @return a future that completes once a request to the host may start, which must be followed by a {@link #release(String)}
+   */
+  CompletableFuture<Void> acquire(String host) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    synchronized (this) {
+      if (!canStart(host)) {
+        queue.add(new SimpleImmutableEntry<>(host, result));
+        return result;
+      }
+      start(host);
+    }
+    result.complete(null);
+    return result;
+  }
+
+  void release(String host) {
+    List<CompletableFuture<Void>> started = new ArrayList<>();
+    synchronized (this) {
+      running--;
+      runningPerHost.computeIfPresent(host, (k, v) -> v == 1 ? null : v - 1);
+      for (Iterator<Entry<String, CompletableFuture<Void>>> iter = queue.iterator(); iter.hasNext()
+          && (maxRequests <= 0 || running < maxRequests);) {
+        Entry<String, CompletableFuture<Void>> entry = iter.next();
+        if (canStart(entry.getKey())) {
+          iter.remove();
+          start(entry.getKey());
+          started.add(entry.getValue());
+        }
+      }
+    }
+    // complete outside of the lock, as that starts the requests
+    started.forEach(f -> f.complete(null));
+  }
+
+  synchronized int getRunning() {
+    return running;
+  }
+
+  synchronized int getQueued() {
+    return queue.size();
+  }
+
+  private boolean canStart(String host) {
+    return (maxRequests <= 0 || running < maxRequests)
+        && (maxRequestsPerHost <= 0 || runningPerHost.getOrDefault(host, 0) < maxRequestsPerHost);
+  }
+
+  private void start(String host) {
+    running++;
+    runningPerHost.merge(host, 1, Integer::sum);
+  }
+
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jdkhttp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLimiterTest {
+
+  @Test
+  void unlimited() {
+    RequestLimiter limiter = new RequestLimiter(0, 0);
+
+    assertThat(limiter.acquire("a")).isDone();
+    assertThat(limiter.acquire("a")).isDone();
+    assertThat(limiter.getRunning()).isEqualTo(2);
+    assertThat(limiter.getQueued()).isZero();
+  }
+
+  @Test
+  void queuesOverPerHostLimit() {
+    RequestLimiter limiter = new RequestLimiter(0, 1);
+
+    CompletableFuture<Void> first = limiter.acquire("a");
+    CompletableFuture<Void> second = limiter.acquire("a");
+    CompletableFuture<Void> other = limiter.acquire("b");
+
+    assertThat(first).isDone();
+    assertThat(second).isNotDone();
+    assertThat(other).isDone();
+    assertThat(limiter.getQueued()).isEqualTo(1);
+
+    limiter.release("a");
+
+    assertThat(second).isDone();
+    assertThat(limiter.getRunning()).isEqualTo(2);
+    assertThat(limiter.getQueued()).isZero();
+  }
+
+  @Test
+  void releaseStartsQueuedRequestForAnyHost() {
+    RequestLimiter limiter = new RequestLimiter(1, 0);
+
+    limiter.acquire("a");
+    CompletableFuture<Void> queued = limiter.acquire("b");
+    assertThat(queued).isNotDone();
+
+    limiter.release("a");
+
+    assertThat(queued).isDone();
+    assertThat(limiter.getRunning()).isEqualTo(1);
+  }
+
+}
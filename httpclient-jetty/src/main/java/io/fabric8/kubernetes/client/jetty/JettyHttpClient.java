@@ -16,12 +16,17 @@
 package io.fabric8.kubernetes.client.jetty;
 
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.ConnectionPoolStats;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.http.Interceptor;
 import io.fabric8.kubernetes.client.http.StandardHttpRequest;
 import io.fabric8.kubernetes.client.http.WebSocket;
+import org.eclipse.jetty.client.AbstractConnectionPool;
+import org.eclipse.jetty.client.ConnectionPool;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpDestination;
+import org.eclipse.jetty.client.api.Destination;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
@@ -128,6 +133,28 @@ public class JettyHttpClient implements io.fabric8.kubernetes.client.http.HttpCl
     return new JettyWebSocketBuilder(jettyWs, builder.readTimeout);
   }
 
+  @Override
+  public ConnectionPoolStats getConnectionPoolStats() {
+    int connections = 0;
+    int idleConnections = 0;
+    int activeConnections = 0;
+    int queuedRequests = 0;
+    for (Destination destination : jetty.getDestinations()) {
+      if (destination instanceof HttpDestination) {
+        HttpDestination httpDestination = (HttpDestination) destination;
+        queuedRequests += httpDestination.getQueuedRequestCount();
+        ConnectionPool connectionPool = httpDestination.getConnectionPool();
+        if (connectionPool instanceof AbstractConnectionPool) {
+          AbstractConnectionPool pool = (AbstractConnectionPool) connectionPool;
+          connections += pool.getConnectionCount();
+          idleConnections += pool.getIdleConnectionCount();
+          activeConnections += pool.getActiveConnectionCount();
+        }
+      }
+    }
+    return new ConnectionPoolStats(connections, idleConnections, activeConnections, queuedRequests);
+  }
+
   @Override
   public HttpRequest.Builder newHttpRequestBuilder() {
     return new StandardHttpRequest.Builder();
@@ -22,7 +22,9 @@ import io.fabric8.kubernetes.client.http.TlsVersion;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
 import io.fabric8.kubernetes.client.okhttp.OkHttpClientImpl.OkHttpResponseImpl;
 import okhttp3.Authenticator;
+import okhttp3.ConnectionPool;
 import okhttp3.ConnectionSpec;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
@@ -217,4 +219,25 @@ class OkHttpClientBuilderImpl implements Builder {
     return this;
   }
 
+  @Override
+  public Builder maxConcurrentRequests(int maxRequests, int maxRequestsPerHost) {
+    Dispatcher dispatcher = new Dispatcher();
+    if (maxRequests > 0) {
+      dispatcher.setMaxRequests(maxRequests);
+    }
+    if (maxRequestsPerHost > 0) {
+      dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    }
+    builder.dispatcher(dispatcher);
+    return this;
+  }
+
+  @Override
+  public Builder connectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+    // 0 keeps the okhttp defaults of 5 idle connections for 5 minutes
+    builder.connectionPool(new ConnectionPool(maxIdleConnections > 0 ? maxIdleConnections : 5,
+        keepAlive > 0 ? unit.toNanos(keepAlive) : TimeUnit.MINUTES.toNanos(5), TimeUnit.NANOSECONDS));
+    return this;
+  }
+
 }
@@ -16,6 +16,7 @@
 
 package io.fabric8.kubernetes.client.okhttp;
 
+import io.fabric8.kubernetes.client.http.ConnectionPoolStats;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
@@ -223,7 +224,11 @@ public class OkHttpClientImpl implements HttpClient {
     Function<BufferedSource, AsyncBody> handler = s -> new OkHttpAsyncBody<List<ByteBuffer>>(consumer, s) {
       @Override
       protected List<ByteBuffer> process(BufferedSource source) throws IOException {
-        return Collections.singletonList(ByteBuffer.wrap(source.readByteArray()));
+        // read only what is already buffered, otherwise this will block until the end of a streaming response.
+        // All consumers (watches and followed logs) process the buffers incrementally, exhausted() ensures
+        // at least one byte is buffered
+        long size = Math.max(1, source.buffer().size());
+        return Collections.singletonList(ByteBuffer.wrap(source.readByteArray(size)));
       }
     };
     return sendAsync(request, handler);
@@ -286,6 +291,14 @@ public class OkHttpClientImpl implements HttpClient {
     return new OkHttpWebSocketImpl.BuilderImpl(this.httpClient);
   }
 
+  @Override
+  public ConnectionPoolStats getConnectionPoolStats() {
+    ConnectionPool connectionPool = httpClient.connectionPool();
+    Dispatcher dispatcher = httpClient.dispatcher();
+    return new ConnectionPoolStats(connectionPool.connectionCount(), connectionPool.idleConnectionCount(),
+        dispatcher.runningCallsCount(), dispatcher.queuedCallsCount());
+  }
+
   public okhttp3.OkHttpClient getOkHttpClient() {
     return httpClient;
   }
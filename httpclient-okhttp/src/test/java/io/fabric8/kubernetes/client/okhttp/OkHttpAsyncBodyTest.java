@@ -17,6 +17,17 @@ package io.fabric8.kubernetes.client.okhttp;
 
 import io.fabric8.kubernetes.client.http.AbstractAsyncBodyTest;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SuppressWarnings("java:S2187")
 public class OkHttpAsyncBodyTest extends AbstractAsyncBodyTest {
@@ -24,4 +35,28 @@ public class OkHttpAsyncBodyTest extends AbstractAsyncBodyTest {
   protected HttpClient.Factory getHttpClientFactory() {
     return new OkHttpClientFactory();
   }
+
+  @Test
+  @DisplayName("Bytes of a streaming response are delivered before the response ends")
+  void consumeBytesDeliversBeforeEndOfStream() throws Exception {
+    try (MockWebServer server = new MockWebServer();
+        HttpClient client = getHttpClientFactory().newBuilder().build()) {
+      server.enqueue(new MockResponse().setBody("first\nsecond\n").throttleBody(6, 5, TimeUnit.SECONDS));
+      final StringBuffer responseText = new StringBuffer();
+      final CompletableFuture<String> firstChunk = new CompletableFuture<>();
+      final HttpResponse<HttpClient.AsyncBody> asyncBodyResponse = client.consumeBytes(
+          client.newHttpRequestBuilder().uri(server.url("/stream").toString()).build(),
+          (value, asyncBody) -> {
+            value.forEach(b -> responseText.append(StandardCharsets.UTF_8.decode(b)));
+            firstChunk.complete(responseText.toString());
+            asyncBody.consume();
+          })
+          .get(10L, TimeUnit.SECONDS);
+      asyncBodyResponse.body().consume();
+      assertThat(firstChunk.get(3L, TimeUnit.SECONDS)).isEqualTo("first\n");
+      assertThat(asyncBodyResponse.body().done()).isNotDone();
+      asyncBodyResponse.body().done().get(10L, TimeUnit.SECONDS);
+      assertThat(responseText).hasToString("first\nsecond\n");
+    }
+  }
 }
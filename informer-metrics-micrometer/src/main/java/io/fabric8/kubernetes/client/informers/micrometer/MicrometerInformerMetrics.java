@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.micrometer;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Reports {@link InformerMetrics} to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Every meter is tagged with the informer description:
+ * <ul>
+ * <li>informer.events - counter of watch events, also tagged with the action
+ * <li>informer.event.decode - timer of watch event decoding
+ * <li>informer.handler.queued - timer of the wait in the event handler queues
+ * <li>informer.handler - timer of the event handlers
+ * <li>informer.list - timer of the lists, the count is the number of lists
+ * <li>informer.watch.reconnects - counter of watch reconnects and restarts
+ * <li>informer.store.size - gauge of the number of items in the store
+ * <li>informer.handler.queue.depth - gauge of the notifications waiting to be handled
+ * </ul>
+ * Informers with the same description share their meters. The gauges sample the first of them to start, and are
+ * removed once all of them have stopped.
+ */
+public class MicrometerInformerMetrics implements InformerMetrics {
+
+  public static final String INFORMER_TAG = "informer";
+  public static final String ACTION_TAG = "action";
+
+  private final MeterRegistry registry;
+  private final Tags tags;
+  private final Map<List<String>, Counter> eventCounters = new ConcurrentHashMap<>();
+  private final Map<String, Timer> decodeTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> queuedTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> listTimers = new ConcurrentHashMap<>();
+  private final Map<String, Counter> reconnectCounters = new ConcurrentHashMap<>();
+  private final Map<String, InformerGauges> gauges = new ConcurrentHashMap<>();
+
+  public MicrometerInformerMetrics(MeterRegistry registry) {
+    this(registry, Tags.empty());
+  }
+
+  /**
+   * @param registry the registry to add the meters to
+   * @param tags additional tags for all meters
+   */
+  public MicrometerInformerMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+    this.registry = registry;
+    this.tags = Tags.of(tags);
+  }
+
+  @Override
+  public void informerStarted(String informer, IntSupplier storeSize, IntSupplier handlerQueueDepth) {
+    gauges.compute(informer, (k, existing) -> {
+      if (existing != null) {
+        existing.references++;
+        return existing;
+      }
+      Tags informerTags = tags(informer);
+      return new InformerGauges(Arrays.asList(
+          Gauge.builder("informer.store.size", storeSize::getAsInt).tags(informerTags).register(registry),
+          Gauge.builder("informer.handler.queue.depth", handlerQueueDepth::getAsInt).tags(informerTags)
+              .register(registry)));
+    });
+  }
+
+  @Override
+  public void informerStopped(String informer) {
+    gauges.computeIfPresent(informer, (k, existing) -> {
+      if (--existing.references > 0) {
+        return existing;
+      }
+      existing.meters.forEach(registry::remove);
+      return null;
+    });
+  }
+
+  @Override
+  public void eventReceived(String informer, Watcher.Action action) {
+    eventCounters.computeIfAbsent(Arrays.asList(informer, action.name()),
+        k -> Counter.builder("informer.events").tags(tags(informer)).tag(ACTION_TAG, action.name()).register(registry))
+        .increment();
+  }
+
+  @Override
+  public void eventDecoded(String informer, long nanos) {
+    timer(decodeTimers, "informer.event.decode", informer).record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void notificationHandled(String informer, long queuedNanos, long handlerNanos) {
+    timer(queuedTimers, "informer.handler.queued", informer).record(queuedNanos, TimeUnit.NANOSECONDS);
+    timer(handlerTimers, "informer.handler", informer).record(handlerNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void listCompleted(String informer, int items, long nanos) {
+    timer(listTimers, "informer.list", informer).record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void watchReconnected(String informer) {
+    reconnectCounters.computeIfAbsent(informer,
+        k -> Counter.builder("informer.watch.reconnects").tags(tags(informer)).register(registry)).increment();
+  }
+
+  private Timer timer(Map<String, Timer> timers, String name, String informer) {
+    return timers.computeIfAbsent(informer, k -> Timer.builder(name).tags(tags(informer)).register(registry));
+  }
+
+  private Tags tags(String informer) {
+    return tags.and(INFORMER_TAG, informer);
+  }
+
+  private static class InformerGauges {
+    private final List<Meter> meters;
+    private int references = 1;
+
+    InformerGauges(List<Meter> meters) {
+      this.meters = meters;
+    }
+  }
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.micrometer;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerInformerMetricsTest {
+
+  private static final String PODS = "io.fabric8.kubernetes.api.model.Pod v1/pods name=null labels=null fields=null";
+  private static final String LABELED_PODS = "io.fabric8.kubernetes.api.model.Pod v1/pods name=null labels=app=a fields=null";
+
+  @Test
+  void testMeters() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    MicrometerInformerMetrics metrics = new MicrometerInformerMetrics(registry, Tags.of("app", "test"));
+
+    metrics.informerStarted(PODS, () -> 3, () -> 1);
+    metrics.eventReceived(PODS, Watcher.Action.ADDED);
+    metrics.eventReceived(PODS, Watcher.Action.ADDED);
+    metrics.eventReceived(PODS, Watcher.Action.DELETED);
+    metrics.eventDecoded(PODS, 1000);
+    metrics.notificationHandled(PODS, 2000, 3000);
+    metrics.listCompleted(PODS, 3, TimeUnit.MILLISECONDS.toNanos(5));
+    metrics.watchReconnected(PODS);
+
+    assertThat(registry.get("informer.events").tags("informer", PODS, "action", "ADDED").counter().count())
+        .isEqualTo(2);
+    assertThat(registry.get("informer.events").tags("action", "DELETED", "app", "test").counter().count())
+        .isEqualTo(1);
+    assertThat(registry.get("informer.event.decode").timer().totalTime(TimeUnit.NANOSECONDS)).isEqualTo(1000);
+    assertThat(registry.get("informer.handler.queued").timer().totalTime(TimeUnit.NANOSECONDS)).isEqualTo(2000);
+    assertThat(registry.get("informer.handler").timer().totalTime(TimeUnit.NANOSECONDS)).isEqualTo(3000);
+    assertThat(registry.get("informer.list").timer().count()).isEqualTo(1);
+    assertThat(registry.get("informer.watch.reconnects").counter().count()).isEqualTo(1);
+    assertThat(registry.get("informer.store.size").gauge().value()).isEqualTo(3);
+    assertThat(registry.get("informer.handler.queue.depth").gauge().value()).isEqualTo(1);
+
+    metrics.informerStopped(PODS);
+
+    assertThat(registry.find("informer.store.size").gauge()).isNull();
+  }
+
+  @Test
+  void testGaugesAreKeptUntilAllInformersWithTheSameDescriptionStop() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    MicrometerInformerMetrics metrics = new MicrometerInformerMetrics(registry);
+
+    metrics.informerStarted(PODS, () -> 3, () -> 1);
+    metrics.informerStarted(PODS, () -> 3, () -> 0);
+    metrics.informerStarted(LABELED_PODS, () -> 1, () -> 0);
+    metrics.informerStopped(PODS);
+
+    assertThat(registry.get("informer.store.size").tags("informer", PODS).gauge().value()).isEqualTo(3);
+    assertThat(registry.get("informer.store.size").tags("informer", LABELED_PODS).gauge().value()).isEqualTo(1);
+
+    metrics.informerStopped(PODS);
+
+    assertThat(registry.find("informer.store.size").tags("informer", PODS).gauge()).isNull();
+    assertThat(registry.find("informer.store.size").tags("informer", LABELED_PODS).gauge()).isNotNull();
+  }
+
+}
@@ -102,6 +102,11 @@ public class Config {
   public static final String KUBERNETES_WEBSOCKET_PING_INTERVAL_SYSTEM_PROPERTY = "kubernetes.websocket.ping.interval";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS = "kubernetes.max.concurrent.requests";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS_PER_HOST = "kubernetes.max.concurrent.requests.per.host";
+  public static final String KUBERNETES_REQUESTS_PER_SECOND = "kubernetes.requests.per.second";
+  public static final String KUBERNETES_REQUESTS_BURST = "kubernetes.requests.burst";
+  public static final String KUBERNETES_ADAPTIVE_RATE_LIMIT = "kubernetes.adaptive.rate.limit";
+  public static final String KUBERNETES_CONNECTION_POOL_MAX_IDLE_CONNECTIONS = "kubernetes.connection.pool.max.idle.connections";
+  public static final String KUBERNETES_CONNECTION_POOL_KEEP_ALIVE = "kubernetes.connection.pool.keep.alive";
 
   public static final String KUBERNETES_IMPERSONATE_USERNAME = "kubernetes.impersonate.username";
   public static final String KUBERNETES_IMPERSONATE_GROUP = "kubernetes.impersonate.group";
@@ -147,6 +152,7 @@ public class Config {
 
   public static final int DEFAULT_UPLOAD_CONNECTION_TIMEOUT = 10 * 1000;
   public static final int DEFAULT_UPLOAD_REQUEST_TIMEOUT = 120 * 1000;
+  public static final int DEFAULT_PORT_FORWARD_BUFFER_SIZE = 16 * 1024;
 
   public static final String HTTP_PROTOCOL_PREFIX = "http://";
   public static final String HTTPS_PROTOCOL_PREFIX = "https://";
@@ -200,6 +206,7 @@ public class Config {
   private long websocketPingInterval = DEFAULT_WEBSOCKET_PING_INTERVAL;
   private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
   private int maxConcurrentRequestsPerHost = DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+  private String requestPriority;
   private String impersonateUsername;
   private OAuthTokenProvider oauthTokenProvider;
 
@@ -230,6 +237,17 @@ public class Config {
    */
   private Map<String, String> customHeaders = null;
 
+  private List<RequestPriorityClass> requestPriorityClasses = new ArrayList<>();
+
+  private double requestsPerSecond;
+  private int requestsBurst;
+  private boolean adaptiveRateLimit;
+
+  private int connectionPoolMaxIdleConnections;
+  private int connectionPoolKeepAlive;
+
+  private int portForwardBufferSize = DEFAULT_PORT_FORWARD_BUFFER_SIZE;
+
   private Boolean autoConfigure = Boolean.FALSE;
 
   private File file;
@@ -495,6 +513,19 @@ public class Config {
       config.setMaxConcurrentRequestsPerHost(Integer.parseInt(configuredMaxConcurrentReqeustsPerHost));
     }
 
+    String configuredRequestsPerSecond = Utils.getSystemPropertyOrEnvVar(KUBERNETES_REQUESTS_PER_SECOND,
+        String.valueOf(config.getRequestsPerSecond()));
+    if (configuredRequestsPerSecond != null) {
+      config.setRequestsPerSecond(Double.parseDouble(configuredRequestsPerSecond));
+    }
+    config.setRequestsBurst(Utils.getSystemPropertyOrEnvVar(KUBERNETES_REQUESTS_BURST, config.getRequestsBurst()));
+    config.setAdaptiveRateLimit(
+        Utils.getSystemPropertyOrEnvVar(KUBERNETES_ADAPTIVE_RATE_LIMIT, config.isAdaptiveRateLimit()));
+    config.setConnectionPoolMaxIdleConnections(Utils.getSystemPropertyOrEnvVar(
+        KUBERNETES_CONNECTION_POOL_MAX_IDLE_CONNECTIONS, config.getConnectionPoolMaxIdleConnections()));
+    config.setConnectionPoolKeepAlive(
+        Utils.getSystemPropertyOrEnvVar(KUBERNETES_CONNECTION_POOL_KEEP_ALIVE, config.getConnectionPoolKeepAlive()));
+
     config.setHttp2Disable(Utils.getSystemPropertyOrEnvVar(KUBERNETES_HTTP2_DISABLE, config.isHttp2Disable()));
 
     config.setHttpProxy(Utils.getSystemPropertyOrEnvVar(KUBERNETES_ALL_PROXY, config.getHttpProxy()));
@@ -1362,6 +1393,120 @@ public class Config {
     this.customHeaders = customHeaders;
   }
 
+  /**
+   * Returns the classes the client schedules requests in, see {@link RequestPriorityClass}. With no classes
+   * the requests are sent as soon as they are made.
+   *
+   * @return the request priority classes
+   */
+  @JsonProperty("requestPriorityClasses")
+  public List<RequestPriorityClass> getRequestPriorityClasses() {
+    return requestPriorityClasses;
+  }
+
+  public void setRequestPriorityClasses(List<RequestPriorityClass> requestPriorityClasses) {
+    this.requestPriorityClasses = requestPriorityClasses;
+  }
+
+  /**
+   * Returns the sustained rate of requests the client sends, in requests per second. 0, the default, does not limit
+   * the rate.
+   *
+   * @return the requests per second
+   */
+  @JsonProperty("requestsPerSecond")
+  public double getRequestsPerSecond() {
+    return requestsPerSecond;
+  }
+
+  public void setRequestsPerSecond(double requestsPerSecond) {
+    this.requestsPerSecond = requestsPerSecond;
+  }
+
+  /**
+   * Returns the number of requests the client may send at once above the {@link #getRequestsPerSecond()}.
+   * Values less than 1 allow a single request.
+   *
+   * @return the burst
+   */
+  @JsonProperty("requestsBurst")
+  public int getRequestsBurst() {
+    return requestsBurst;
+  }
+
+  public void setRequestsBurst(int requestsBurst) {
+    this.requestsBurst = requestsBurst;
+  }
+
+  /**
+   * Returns true if the rate of requests is lowered when the server throttles them, and raised back up to
+   * {@link #getRequestsPerSecond()} while it does not
+   *
+   * @return true if the rate limit is adaptive
+   */
+  @JsonProperty("adaptiveRateLimit")
+  public boolean isAdaptiveRateLimit() {
+    return adaptiveRateLimit;
+  }
+
+  public void setAdaptiveRateLimit(boolean adaptiveRateLimit) {
+    this.adaptiveRateLimit = adaptiveRateLimit;
+  }
+
+  /**
+   * Returns the number of idle connections the client keeps open. 0, the default, keeps the default of the
+   * HTTP client implementation.
+   *
+   * @return the maximum number of idle connections
+   */
+  @JsonProperty("connectionPoolMaxIdleConnections")
+  public int getConnectionPoolMaxIdleConnections() {
+    return connectionPoolMaxIdleConnections;
+  }
+
+  public void setConnectionPoolMaxIdleConnections(int connectionPoolMaxIdleConnections) {
+    this.connectionPoolMaxIdleConnections = connectionPoolMaxIdleConnections;
+  }
+
+  /**
+   * Returns how long, in milliseconds, the client keeps an idle connection open. 0, the default, keeps the default
+   * of the HTTP client implementation.
+   *
+   * @return the keep alive in milliseconds
+   */
+  @JsonProperty("connectionPoolKeepAlive")
+  public int getConnectionPoolKeepAlive() {
+    return connectionPoolKeepAlive;
+  }
+
+  public void setConnectionPoolKeepAlive(int connectionPoolKeepAlive) {
+    this.connectionPoolKeepAlive = connectionPoolKeepAlive;
+  }
+
+  /**
+   * Returns the size of the buffers used to forward the data of a local port.
+   * Values less than 1 use the {@link #DEFAULT_PORT_FORWARD_BUFFER_SIZE}.
+   *
+   * @return the buffer size in bytes
+   */
+  @JsonProperty("portForwardBufferSize")
+  public int getPortForwardBufferSize() {
+    return portForwardBufferSize;
+  }
+
+  public void setPortForwardBufferSize(int portForwardBufferSize) {
+    this.portForwardBufferSize = portForwardBufferSize;
+  }
+
+  @JsonProperty("requestPriority")
+  public String getRequestPriority() {
+    return getRequestConfig().getRequestPriority();
+  }
+
+  public void setRequestPriority(String requestPriority) {
+    this.requestConfig.setRequestPriority(requestPriority);
+  }
+
   public Boolean getAutoConfigure() {
     return autoConfigure;
   }
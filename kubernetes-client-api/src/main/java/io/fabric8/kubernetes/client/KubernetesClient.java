@@ -87,6 +87,7 @@ import io.fabric8.kubernetes.client.dsl.StorageAPIGroupDSL;
 import io.fabric8.kubernetes.client.dsl.V1APIGroupDSL;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectorBuilder;
+import io.fabric8.kubernetes.client.extended.logs.PodLogAggregatorBuilder;
 import io.fabric8.kubernetes.client.extended.run.RunOperations;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
 
@@ -482,6 +483,13 @@ public interface KubernetesClient extends Client {
    */
   LeaderElectorBuilder leaderElector();
 
+  /**
+   * API entrypoint for following the logs of all the pods matching a label selector.
+   *
+   * @return PodLogAggregatorBuilder to build PodLogAggregator instances
+   */
+  PodLogAggregatorBuilder podLogAggregator();
+
   /**
    * API entrypoint for {@link Lease} related operations. Lease (coordination.k8s.io/v1)
    *
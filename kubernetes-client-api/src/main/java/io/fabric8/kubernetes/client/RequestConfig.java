@@ -61,6 +61,7 @@ public class RequestConfig {
   private long websocketPingInterval = DEFAULT_WEBSOCKET_PING_INTERVAL;
   private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
   private int maxConcurrentRequestsPerHost = DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+  private String requestPriority;
 
   RequestConfig() {
   }
@@ -278,6 +279,17 @@ public class RequestConfig {
     this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
   }
 
+  /**
+   * @return the name of the {@link RequestPriorityClass} the requests are scheduled in, or null if they are not scheduled
+   */
+  public String getRequestPriority() {
+    return requestPriority;
+  }
+
+  public void setRequestPriority(String requestPriority) {
+    this.requestPriority = requestPriority;
+  }
+
   public void setImpersonateUsername(String impersonateUsername) {
     this.impersonateUsername = impersonateUsername;
   }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+import java.util.Objects;
+
+/**
+ * A named class of requests that the client schedules ahead of, or behind, the other classes.
+ * <br>
+ * Requests select their class with {@link RequestConfig#setRequestPriority(String)}, for example through
+ * {@link Client#newClient(RequestConfig)}. When a slot frees up the queued request of the class with the highest
+ * priority is sent first, and a class never has more than its max in flight requests awaiting a response.
+ * Requests that do not select a configured class are sent without being scheduled.
+ */
+public class RequestPriorityClass {
+
+  /**
+   * The class used by the {@link io.fabric8.kubernetes.client.extended.leaderelection.LeaderElector} when it is configured
+   */
+  public static final String LEADER_ELECTION = "leader-election";
+  public static final String RECONCILE = "reconcile";
+  public static final String BULK = "bulk";
+
+  private String name;
+  private int priority;
+  private int maxInFlight;
+
+  public RequestPriorityClass() {
+  }
+
+  /**
+   * @param name the name requests select the class by
+   * @param priority classes with a higher priority are dispatched first
+   * @param maxInFlight the max number of requests of this class awaiting a response, or 0 for no limit
+   */
+  public RequestPriorityClass(String name, int priority, int maxInFlight) {
+    this.name = name;
+    this.priority = priority;
+    this.maxInFlight = maxInFlight;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getPriority() {
+    return priority;
+  }
+
+  public void setPriority(int priority) {
+    this.priority = priority;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public void setMaxInFlight(int maxInFlight) {
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    RequestPriorityClass that = (RequestPriorityClass) o;
+    return priority == that.priority && maxInFlight == that.maxInFlight && Objects.equals(name, that.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, priority, maxInFlight);
+  }
+
+  @Override
+  public String toString() {
+    return "RequestPriorityClass{name='" + name + "', priority=" + priority + ", maxInFlight=" + maxInFlight + "}";
+  }
+
+}
@@ -36,6 +36,30 @@ public interface CopyOrReadable {
    */
   boolean upload(InputStream inputStream);
 
+  /**
+   * Transfer files larger than the chunk size in chunks, over several connections in parallel.
+   * <p>
+   * Every chunk is verified with a checksum and retried on failure. Chunks that were already transferred
+   * by an earlier, failed attempt are not transferred again.
+   * <p>
+   * This applies to {@link #upload(Path)} and to {@link #copy(Path)} of a file.
+   *
+   * @param chunkSize the size of a chunk in bytes, rounded up to a multiple of 64KiB
+   * @param concurrency the number of chunks transferred at the same time
+   * @return {@link CopyOrReadable} for chaining
+   */
+  CopyOrReadable chunked(long chunkSize, int concurrency);
+
+  /**
+   * Only transfer the files that differ, as compared by their sha256.
+   * <p>
+   * Files are listed on both sides first. {@link #upload(Path)} and {@link #copy(Path)} then skip
+   * the files that are already up to date. Files that only exist at the destination are kept.
+   *
+   * @return {@link CopyOrReadable} for chaining
+   */
+  CopyOrReadable deltaSync();
+
   InputStream read();
 
   boolean copy(Path destination);
@@ -15,6 +15,10 @@
  */
 package io.fabric8.kubernetes.client.dsl;
 
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+
 import java.util.stream.Stream;
 
 public interface FilterWatchListDeletable<T, L, R>
@@ -37,4 +41,44 @@ public interface FilterWatchListDeletable<T, L, R>
    */
   Stream<R> resources();
 
+  /**
+   * Perform a list operation and return the items as a lazily populated {@link Stream}.
+   * <br>
+   * Items are deserialized one at a time directly from the response, and further pages are
+   * transparently requested using the continue token once the current page is exhausted.
+   * <p>
+   * The stream holds an open response, so it must be closed if it is not fully consumed.
+   *
+   * @return the item stream
+   */
+  Stream<T> stream();
+
+  /**
+   * Perform a list operation and return the items as a lazily populated {@link Stream}.
+   * <br>
+   * Items are deserialized one at a time directly from the response, and further pages are
+   * transparently requested using the continue token once the current page is exhausted.
+   * <p>
+   * The stream holds an open response, so it must be closed if it is not fully consumed.
+   * <p>
+   * The passed in options may be modified as a side-effect of this call.
+   *
+   * @param listOptions the options for the list call, {@link ListOptions#getLimit()} determines the page size
+   * @return the item stream
+   */
+  Stream<T> stream(ListOptions listOptions);
+
+  /**
+   * Get, list, watch and inform on only the metadata of the resources, with the same namespace and filters.
+   * <br>
+   * The api server is asked for the {@link PartialObjectMetadata} representation, so the rest of the
+   * objects is neither transferred nor deserialized.
+   * <br>
+   * The representation is read-only: creating, replacing, updating, editing or patching it throws a
+   * {@link io.fabric8.kubernetes.client.KubernetesClientException}, while deleting deletes the resources.
+   *
+   * @return the metadata-only operation
+   */
+  FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadataOnly();
+
 }
@@ -122,6 +122,24 @@ public interface Informable<T> {
    */
   SharedIndexInformer<T> runnableInformer(long resync);
 
+  /**
+   * Similar to {@link #runnableInformer(long)}, but the returned informer shares a single list/watch and cache
+   * with the other shared informers of this client for the same client configuration and identity, resource type,
+   * namespace, name, label and field selectors, and resync period.
+   * <p>
+   * Event handlers, their queue and the update filter are local to the returned informer. Indexers are added to the
+   * shared cache. Settings of the list/watch, such as the list prefetch, are ignored once any of the sharing informers
+   * has been started. Settings of the shared cache, such as the item store, initial state or snapshot, and metrics
+   * are not supported.
+   * <p>
+   * You are expected to call stop to release the returned informer. The underlying Watch is terminated once
+   * all of the sharing informers have been stopped.
+   *
+   * @param resync the resync period or 0 for no resync
+   * @return a non-running {@link SharedIndexInformer}
+   */
+  SharedIndexInformer<T> runnableSharedInformer(long resync);
+
   /**
    * Return a {@link Future} when the list at this context satisfies the given {@link Predicate}.
    * The predicate will be tested against the state of the underlying informer store on every event.
@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import java.nio.CharBuffer;
+import java.time.Instant;
+
+/**
+ * Receives the lines of a followed log, see {@link Loggable#watchLogLines(LogLineListener)}
+ * <p>
+ * Methods are called serially, but not from the thread that started the watch. Long running operations
+ * will hold up the consumption of the log stream.
+ */
+public interface LogLineListener {
+
+  /**
+   * Called for each complete line of the log.
+   * <p>
+   * The buffer is reused for the next line and must not be retained after this method returns - copy it,
+   * e.g. with {@link CharBuffer#toString()}, if needed.
+   *
+   * @param timestamp the time the line was logged, or null if the line had no timestamp prefix
+   * @param line the line without the timestamp prefix and the line terminator
+   */
+  void onLine(Instant timestamp, CharBuffer line);
+
+  /**
+   * Called before the log stream is re-established after a failure, or after it ended while the container
+   * was still running. Lines delivered before will not be delivered again.
+   *
+   * @param since the timestamp of the last delivered line, or null if no line has been delivered yet
+   * @param cause the failure, or an IOException for a stream that ended early
+   */
+  default void onReconnect(Instant since, Throwable cause) {
+  }
+
+  /**
+   * Called once when the log stream ends - either because the container terminated, or because the
+   * stream failed and could not be re-established. Not called when the {@link LogWatch} is closed.
+   *
+   * @param cause null if the stream ended normally
+   */
+  default void onClose(Throwable cause) {
+  }
+}
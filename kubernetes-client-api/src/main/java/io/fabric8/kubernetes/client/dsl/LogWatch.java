@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.dsl;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.CompletionStage;
 
 public interface LogWatch extends Closeable {
 
@@ -29,6 +30,14 @@ public interface LogWatch extends Closeable {
    */
   InputStream getOutput();
 
+  /**
+   * Returns a {@link CompletionStage} completed once the log stream ended, because the server ended it, it failed,
+   * or the watch was closed.
+   *
+   * @return the failure that ended the stream, or null if it ended without one
+   */
+  CompletionStage<Throwable> onClose();
+
   /**
    * Close the Watch.
    */
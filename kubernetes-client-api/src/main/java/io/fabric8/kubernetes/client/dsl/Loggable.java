@@ -72,6 +72,19 @@ public interface Loggable {
    */
   LogWatch watchLog(OutputStream out);
 
+  /**
+   * Watch logs of a resource line by line. Lines are delivered to the listener without allocating
+   * a String per line.
+   * <br>
+   * The log is requested with timestamps. If the stream fails it is re-established, up to the configured
+   * request retry limit, from the timestamp of the last delivered line, skipping the lines already delivered.
+   * A stream the server ends while the container is still running is re-established the same way.
+   *
+   * @param listener {@link LogLineListener} receiving the lines
+   * @return returns a Closeable interface for log watch, {@link LogWatch#getOutput()} will be null
+   */
+  LogWatch watchLogLines(LogLineListener listener);
+
   /**
    * While waiting for Pod logs, how long shall we wait until a Pod
    * becomes ready and starts producing logs
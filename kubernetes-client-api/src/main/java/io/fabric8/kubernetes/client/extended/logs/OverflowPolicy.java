@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.logs;
+
+/**
+ * What a {@link PodLogAggregator} does with a new line while its buffer is full
+ */
+public enum OverflowPolicy {
+
+  /**
+   * Discard the oldest buffered line to make room for the new one
+   */
+  DROP_OLDEST,
+  /**
+   * Discard the new line
+   */
+  DROP_NEWEST,
+  /**
+   * Stop reading the stream of the new line until there is room, which in turn stops the container's log
+   * from being transferred
+   */
+  BLOCK
+
+}
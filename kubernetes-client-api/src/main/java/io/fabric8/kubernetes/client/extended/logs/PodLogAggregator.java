@@ -0,0 +1,348 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.logs;
+
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.ContainerResource;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.Loggable;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.InterruptedIOException;
+import java.nio.CharBuffer;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Follows the logs of all the containers of the pods matching a label selector.
+ * <p>
+ * An informer tracks the pods, a log stream is attached to every running container and detached once its pod is
+ * deleted. A restarted container gets a new stream. The streams are followed with
+ * {@link Loggable#watchLogLines(LogLineListener)}, which resumes a stream that ends while its container is still
+ * running without losing or repeating lines. The lines of all the streams go through a single bounded buffer to the
+ * sink, which is called from a dedicated thread in the order the lines arrived. So a full buffer with the
+ * {@link OverflowPolicy#BLOCK} policy holds up the threads reading the streams, but never the one draining the buffer.
+ */
+public class PodLogAggregator implements Closeable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PodLogAggregator.class);
+
+  static final class Stream {
+
+    private final int restartCount;
+    private final boolean tail;
+    private volatile LogWatch watch;
+
+    Stream(int restartCount, boolean tail) {
+      this.restartCount = restartCount;
+      this.tail = tail;
+    }
+
+  }
+
+  private final KubernetesClient client;
+  private final PodLogAggregatorConfig config;
+  private final Executor executor;
+  private final Executor drainExecutor;
+  private final String namespace;
+  private final int bufferSize;
+  private final OverflowPolicy overflowPolicy;
+  private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+  private final AtomicLong droppedLines = new AtomicLong();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  // guarded by the lock
+  private final Deque<PodLogLine> buffer = new ArrayDeque<>();
+  private boolean draining;
+  private boolean closed;
+
+  private SharedIndexInformer<Pod> informer;
+
+  /**
+   * @param executor runs the attaching of the streams, the sink is called from a thread of the aggregator
+   */
+  public PodLogAggregator(KubernetesClient client, PodLogAggregatorConfig config, Executor executor) {
+    this(client, config, executor, null);
+  }
+
+  PodLogAggregator(KubernetesClient client, PodLogAggregatorConfig config, Executor executor, Executor drainExecutor) {
+    this.client = client;
+    this.config = config;
+    this.executor = executor;
+    this.drainExecutor = drainExecutor != null ? drainExecutor
+        : Executors.newSingleThreadExecutor(Utils.daemonThreadFactory(this));
+    this.namespace = config.getNamespace() != null ? config.getNamespace() : client.getNamespace();
+    this.bufferSize = config.getBufferSize() > 0 ? config.getBufferSize() : PodLogAggregatorConfig.DEFAULT_BUFFER_SIZE;
+    this.overflowPolicy = config.getOverflowPolicy() != null ? config.getOverflowPolicy() : OverflowPolicy.BLOCK;
+  }
+
+  /**
+   * Starts following the pods
+   *
+   * @return this aggregator, to be closed once done
+   */
+  public synchronized PodLogAggregator start() {
+    if (informer != null) {
+      return this;
+    }
+    FilterWatchListDeletable<Pod, PodList, PodResource> pods = client.pods().inNamespace(namespace);
+    if (config.getLabels() != null && !config.getLabels().isEmpty()) {
+      pods = pods.withLabels(config.getLabels());
+    }
+    informer = pods.inform(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod pod) {
+        sync(pod);
+      }
+
+      @Override
+      public void onUpdate(Pod oldPod, Pod newPod) {
+        sync(newPod);
+      }
+
+      @Override
+      public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+        detach(pod.getMetadata().getName());
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Stops following the pods, lines that are still buffered are discarded
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (informer != null) {
+        informer.close();
+      }
+    }
+    lock.lock();
+    try {
+      closed = true;
+      buffer.clear();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    streams.keySet().forEach(this::detachStream);
+    if (drainExecutor instanceof ExecutorService) {
+      ((ExecutorService) drainExecutor).shutdown();
+    }
+  }
+
+  /**
+   * @return the lines discarded because the buffer was full
+   */
+  public long getDroppedLines() {
+    return droppedLines.get();
+  }
+
+  /**
+   * @return the containers currently followed, as pod/container
+   */
+  public Set<String> getFollowedContainers() {
+    return Collections.unmodifiableSet(new HashSet<>(streams.keySet()));
+  }
+
+  private void sync(Pod pod) {
+    if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+      return;
+    }
+    String podName = pod.getMetadata().getName();
+    List<ContainerStatus> statuses = pod.getStatus().getContainerStatuses();
+    for (ContainerStatus status : statuses) {
+      if (status.getState() == null || status.getState().getRunning() == null) {
+        continue;
+      }
+      String key = podName + "/" + status.getName();
+      int restartCount = status.getRestartCount() != null ? status.getRestartCount() : 0;
+      Stream existing = streams.get(key);
+      if (existing != null && existing.restartCount == restartCount) {
+        continue;
+      }
+      Stream stream = new Stream(restartCount, existing == null);
+      if (existing == null ? streams.putIfAbsent(key, stream) != null : !streams.replace(key, existing, stream)) {
+        continue;
+      }
+      if (existing != null) {
+        close(existing);
+      }
+      // attaching waits for the pod, which must not hold up the informer
+      executor.execute(() -> attach(podName, status.getName(), stream));
+    }
+  }
+
+  private void attach(String pod, String container, Stream stream) {
+    String key = pod + "/" + container;
+    if (streams.get(key) != stream) {
+      return; // detached in the meantime
+    }
+    try {
+      ContainerResource resource = client.pods().inNamespace(namespace).withName(pod).inContainer(container);
+      Loggable loggable = resource;
+      if (stream.tail && config.getTailingLines() != null) {
+        loggable = resource.tailingLines(config.getTailingLines());
+      }
+      stream.watch = loggable.watchLogLines(new LineListener(pod, container, stream));
+      if (streams.get(key) != stream) {
+        close(stream);
+      }
+    } catch (RuntimeException e) {
+      LOGGER.warn("Could not follow the log of {}/{}", pod, container, e);
+      streams.remove(key, stream);
+    }
+  }
+
+  /**
+   * Called once the stream of a container ended, because the container terminated or the stream could not be
+   * resumed. The stream is removed, a restart of the container attaches a new one.
+   */
+  private void ended(String pod, String container, Stream stream, Throwable cause) {
+    String key = pod + "/" + container;
+    if (streams.remove(key, stream) && cause != null) {
+      LOGGER.warn("Stopped following the log of {}", key, cause);
+    }
+  }
+
+  private void detach(String pod) {
+    streams.keySet().stream().filter(key -> key.startsWith(pod + "/")).forEach(this::detachStream);
+  }
+
+  private void detachStream(String key) {
+    Stream stream = streams.remove(key);
+    if (stream != null) {
+      close(stream);
+    }
+  }
+
+  private static void close(Stream stream) {
+    LogWatch watch = stream.watch;
+    if (watch != null) {
+      watch.close();
+    }
+  }
+
+  void offer(PodLogLine line) throws InterruptedIOException {
+    lock.lock();
+    try {
+      while (!closed && buffer.size() >= bufferSize) {
+        if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+          droppedLines.incrementAndGet();
+          return;
+        } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+          buffer.poll();
+          droppedLines.incrementAndGet();
+        } else {
+          notFull.await();
+        }
+      }
+      if (closed) {
+        return;
+      }
+      buffer.add(line);
+      if (!draining) {
+        draining = true;
+        drainExecutor.execute(this::drain);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      PodLogLine line;
+      lock.lock();
+      try {
+        line = buffer.poll();
+        if (line == null) {
+          draining = false;
+          return;
+        }
+        notFull.signal();
+      } finally {
+        lock.unlock();
+      }
+      try {
+        config.getSink().accept(line);
+      } catch (RuntimeException e) {
+        LOGGER.warn("The sink failed to accept a line of {}/{}", line.getPod(), line.getContainer(), e);
+      }
+    }
+  }
+
+  /**
+   * Passes the lines of the log stream of a container on to the buffer
+   */
+  class LineListener implements LogLineListener {
+
+    private final String pod;
+    private final String container;
+    private final Stream stream;
+
+    LineListener(String pod, String container, Stream stream) {
+      this.pod = pod;
+      this.container = container;
+      this.stream = stream;
+    }
+
+    @Override
+    public void onLine(Instant timestamp, CharBuffer line) {
+      try {
+        offer(new PodLogLine(namespace, pod, container, timestamp, line.toString()));
+      } catch (InterruptedIOException e) {
+        LOGGER.debug("Interrupted while passing on a line of {}/{}", pod, container);
+      }
+    }
+
+    @Override
+    public void onClose(Throwable cause) {
+      ended(pod, container, stream, cause);
+    }
+
+  }
+
+}
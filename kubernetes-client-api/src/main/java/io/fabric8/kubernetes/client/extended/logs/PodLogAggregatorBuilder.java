@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.logs;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+public class PodLogAggregatorBuilder {
+
+  private final KubernetesClient client;
+  private final Executor executor;
+  private PodLogAggregatorConfig podLogAggregatorConfig;
+
+  public PodLogAggregatorBuilder(KubernetesClient client, Executor executor) {
+    this.client = client;
+    this.executor = executor;
+  }
+
+  public PodLogAggregatorBuilder withConfig(PodLogAggregatorConfig podLogAggregatorConfig) {
+    this.podLogAggregatorConfig = validate(podLogAggregatorConfig);
+    return this;
+  }
+
+  public PodLogAggregator build() {
+    return new PodLogAggregator(client, podLogAggregatorConfig, executor);
+  }
+
+  private static PodLogAggregatorConfig validate(PodLogAggregatorConfig podLogAggregatorConfig) {
+    Objects.requireNonNull(podLogAggregatorConfig, "PodLogAggregatorConfig is required");
+    Objects.requireNonNull(podLogAggregatorConfig.getSink(), "sink is required");
+    if (podLogAggregatorConfig.getTailingLines() != null && podLogAggregatorConfig.getTailingLines() < 0) {
+      throw new IllegalArgumentException("tailingLines must not be negative");
+    }
+    return podLogAggregatorConfig;
+  }
+
+}
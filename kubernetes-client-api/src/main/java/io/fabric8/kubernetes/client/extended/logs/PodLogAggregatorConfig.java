@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.logs;
+
+import io.sundr.builder.annotations.Buildable;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Buildable(
+        editableEnabled = false,
+        lazyCollectionInitEnabled = false,
+        builderPackage = "io.fabric8.kubernetes.api.builder"
+)
+public class PodLogAggregatorConfig {
+
+  public static final int DEFAULT_BUFFER_SIZE = 10000;
+
+  private final String namespace;
+  private final Map<String, String> labels;
+  private final Integer tailingLines;
+  private final int bufferSize;
+  private final OverflowPolicy overflowPolicy;
+  private final Consumer<PodLogLine> sink;
+
+  public PodLogAggregatorConfig(String namespace, Map<String, String> labels, Integer tailingLines, int bufferSize,
+      OverflowPolicy overflowPolicy, Consumer<PodLogLine> sink) {
+    this.namespace = namespace;
+    this.labels = labels;
+    this.tailingLines = tailingLines;
+    this.bufferSize = bufferSize;
+    this.overflowPolicy = overflowPolicy;
+    this.sink = sink;
+  }
+
+  /**
+   * @return the namespace of the pods, or null for the namespace of the client
+   */
+  public String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * @return the labels the pods must have, or null for all pods of the namespace
+   */
+  public Map<String, String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return the number of lines of an already running container to start with, or null for its whole log
+   */
+  public Integer getTailingLines() {
+    return tailingLines;
+  }
+
+  /**
+   * @return the number of lines buffered while the sink is busy, values less than 1 use the
+   *         {@link #DEFAULT_BUFFER_SIZE}
+   */
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * @return what to do with new lines while the buffer is full, {@link OverflowPolicy#BLOCK} if null
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * @return receives the lines of all the containers, one at a time
+   */
+  public Consumer<PodLogLine> getSink() {
+    return sink;
+  }
+
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.logs;
+
+import java.time.Instant;
+
+/**
+ * A line of the log of a container, as delivered by a {@link PodLogAggregator}
+ */
+public class PodLogLine {
+
+  private final String namespace;
+  private final String pod;
+  private final String container;
+  private final Instant timestamp;
+  private final String message;
+
+  public PodLogLine(String namespace, String pod, String container, Instant timestamp, String message) {
+    this.namespace = namespace;
+    this.pod = pod;
+    this.container = container;
+    this.timestamp = timestamp;
+    this.message = message;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getPod() {
+    return pod;
+  }
+
+  public String getContainer() {
+    return container;
+  }
+
+  /**
+   * @return the time the kubelet received the line, or null if the line had no timestamp
+   */
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return "[" + pod + "/" + container + "] " + (timestamp != null ? timestamp + " " : "") + message;
+  }
+
+}
@@ -242,6 +242,11 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.runnableInformer(resync);
   }
 
+  @Override
+  public SharedIndexInformer<T> runnableSharedInformer(long resync) {
+    return resource.runnableSharedInformer(resync);
+  }
+
   @Override
   public CompletableFuture<List<T>> informOnCondition(Predicate<List<T>> condition) {
     return resource.informOnCondition(condition);
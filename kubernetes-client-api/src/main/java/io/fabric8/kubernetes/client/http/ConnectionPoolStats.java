@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+/**
+ * A snapshot of the connection pool and request queue of an {@link HttpClient}.
+ * <br>
+ * Values an implementation does not expose are reported as -1.
+ */
+public class ConnectionPoolStats {
+
+  private final int connectionCount;
+  private final int idleConnectionCount;
+  private final int activeRequestCount;
+  private final int queuedRequestCount;
+
+  public ConnectionPoolStats(int connectionCount, int idleConnectionCount, int activeRequestCount,
+      int queuedRequestCount) {
+    this.connectionCount = connectionCount;
+    this.idleConnectionCount = idleConnectionCount;
+    this.activeRequestCount = activeRequestCount;
+    this.queuedRequestCount = queuedRequestCount;
+  }
+
+  /**
+   * @return the number of open connections
+   */
+  public int getConnectionCount() {
+    return connectionCount;
+  }
+
+  /**
+   * @return the number of open connections that are not in use
+   */
+  public int getIdleConnectionCount() {
+    return idleConnectionCount;
+  }
+
+  /**
+   * @return the number of executing requests, or of connections in use if the implementation only tracks connections
+   */
+  public int getActiveRequestCount() {
+    return activeRequestCount;
+  }
+
+  /**
+   * @return the number of requests waiting for a concurrency limit or a connection
+   */
+  public int getQueuedRequestCount() {
+    return queuedRequestCount;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionPoolStats [connections=" + connectionCount + ", idleConnections=" + idleConnectionCount
+        + ", activeRequests=" + activeRequestCount + ", queuedRequests=" + queuedRequestCount + "]";
+  }
+
+}
@@ -127,6 +127,35 @@ public interface HttpClient extends AutoCloseable {
     Builder tlsVersions(TlsVersion... tlsVersions);
 
     Builder preferHttp11();
+
+    /**
+     * Limit the number of concurrently executing requests, further requests are queued.
+     * <br>
+     * Streamed responses, such as watches or followed logs, are not held against the limits once
+     * their response arrived. Ignored by implementations that can't limit the requests of a single client
+     * without also limiting the streams.
+     *
+     * @param maxRequests the overall limit, or 0 for the implementation default
+     * @param maxRequestsPerHost the limit for a single host, or 0 for the implementation default
+     * @return this Builder instance.
+     */
+    default Builder maxConcurrentRequests(int maxRequests, int maxRequestsPerHost) {
+      return this;
+    }
+
+    /**
+     * Configure how many idle connections are kept, and for how long.
+     * <br>
+     * Ignored by implementations that do not allow to configure the pool of a single client.
+     *
+     * @param maxIdleConnections the maximum number of idle connections, or 0 for the implementation default
+     * @param keepAlive how long an idle connection is kept open, or 0 for the implementation default
+     * @param unit the unit of keepAlive
+     * @return this Builder instance.
+     */
+    default Builder connectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+      return this;
+    }
   }
 
   /**
@@ -206,6 +235,13 @@ public interface HttpClient extends AutoCloseable {
 
   WebSocket.Builder newWebSocketBuilder();
 
+  /**
+   * Get the current statistics of the connection pool, which is shared with the derived clients.
+   *
+   * @return the statistics
+   */
+  ConnectionPoolStats getConnectionPoolStats();
+
   HttpRequest.Builder newHttpRequestBuilder();
 
   HttpClient.Factory getFactory();
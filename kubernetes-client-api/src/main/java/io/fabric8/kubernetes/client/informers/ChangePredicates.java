@@ -0,0 +1,196 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Predicates for {@link SharedIndexInformer#updateFilter(BiPredicate)}, which are called with the old
+ * and new object of an update and return true if the update is relevant.
+ */
+public class ChangePredicates {
+
+  private static final List<String> ALWAYS_IGNORED = Arrays.asList("/metadata/resourceVersion", "/metadata/managedFields");
+  private static final String STATUS = "status";
+
+  private static final ClassValue<Method> STATUS_GETTERS = new ClassValue<Method>() {
+    @Override
+    protected Method computeValue(Class<?> type) {
+      try {
+        return type.getMethod("getStatus");
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+  };
+
+  private ChangePredicates() {
+    // utility
+  }
+
+  /**
+   * Only updates that change the metadata.generation - which is typically incremented by changes to the spec.
+   */
+  public static <T extends HasMetadata> BiPredicate<T, T> generationChanged() {
+    return (oldObj, newObj) -> !Objects.equals(oldObj.getMetadata().getGeneration(), newObj.getMetadata().getGeneration());
+  }
+
+  /**
+   * Ignore updates that only change the status
+   */
+  public static <T extends HasMetadata> BiPredicate<T, T> ignoreStatus() {
+    return ignorePaths("/status");
+  }
+
+  /**
+   * Ignore updates that only change the given paths. The metadata.resourceVersion and metadata.managedFields
+   * are always ignored.
+   * <p>
+   * Paths are json pointers, with the addition that a * segment matches every field or array element,
+   * for example /status/conditions/&#42;/lastHeartbeatTime
+   * <p>
+   * When only status paths are ignored and both objects have a metadata.generation, which the server
+   * increments for every change outside of the metadata and status, only the generation, the metadata
+   * and the status are compared rather than the whole objects.
+   *
+   * @param paths the json pointers to ignore
+   */
+  public static <T extends HasMetadata> BiPredicate<T, T> ignorePaths(String... paths) {
+    List<String[]> ignored = new ArrayList<>();
+    for (String path : paths) {
+      ignored.add(parse(path));
+    }
+    boolean onlyStatus = !ignored.isEmpty() && ignored.stream().allMatch(path -> STATUS.equals(path[0]));
+    boolean wholeStatus = ignored.stream().anyMatch(path -> path.length == 1 && STATUS.equals(path[0]));
+    ALWAYS_IGNORED.forEach(path -> ignored.add(parse(path)));
+    BiPredicate<T, T> changed = (oldObj, newObj) -> !strip(oldObj, ignored).equals(strip(newObj, ignored));
+    if (!onlyStatus) {
+      return changed;
+    }
+    return (oldObj, newObj) -> {
+      Long oldGeneration = oldObj.getMetadata().getGeneration();
+      Long newGeneration = newObj.getMetadata().getGeneration();
+      Method statusGetter = STATUS_GETTERS.get(newObj.getClass());
+      if (oldGeneration == null || newGeneration == null || (!wholeStatus && statusGetter == null)
+          || oldObj.getClass() != newObj.getClass()) {
+        return changed.test(oldObj, newObj);
+      }
+      if (!oldGeneration.equals(newGeneration) || metadataChanged(oldObj.getMetadata(), newObj.getMetadata())) {
+        return true;
+      }
+      return !wholeStatus && !stripStatus(oldObj, statusGetter, ignored).equals(stripStatus(newObj, statusGetter, ignored));
+    };
+  }
+
+  /**
+   * @return true if the metadata, other than the resourceVersion and managedFields, has changed
+   */
+  private static boolean metadataChanged(ObjectMeta oldMeta, ObjectMeta newMeta) {
+    return !Objects.equals(oldMeta.getUid(), newMeta.getUid())
+        || !Objects.equals(oldMeta.getLabels(), newMeta.getLabels())
+        || !Objects.equals(oldMeta.getAnnotations(), newMeta.getAnnotations())
+        || !Objects.equals(oldMeta.getFinalizers(), newMeta.getFinalizers())
+        || !Objects.equals(oldMeta.getOwnerReferences(), newMeta.getOwnerReferences())
+        || !Objects.equals(oldMeta.getDeletionTimestamp(), newMeta.getDeletionTimestamp())
+        || !Objects.equals(oldMeta.getDeletionGracePeriodSeconds(), newMeta.getDeletionGracePeriodSeconds())
+        || !Objects.equals(oldMeta.getAdditionalProperties(), newMeta.getAdditionalProperties());
+  }
+
+  private static JsonNode stripStatus(HasMetadata obj, Method statusGetter, List<String[]> ignored) {
+    Object status;
+    try {
+      status = statusGetter.invoke(obj);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Could not get the status of " + obj.getClass().getName(), e);
+    }
+    ObjectNode node = Serialization.jsonMapper().createObjectNode();
+    node.set(STATUS, Serialization.jsonMapper().valueToTree(status));
+    for (String[] path : ignored) {
+      if (STATUS.equals(path[0])) {
+        remove(node, path, 0);
+      }
+    }
+    return node;
+  }
+
+  private static String[] parse(String path) {
+    if (!path.startsWith("/")) {
+      throw new IllegalArgumentException("Invalid path " + path + ", must start with /");
+    }
+    return Arrays.stream(path.substring(1).split("/", -1))
+        .map(segment -> segment.replace("~1", "/").replace("~0", "~"))
+        .collect(Collectors.toList())
+        .toArray(new String[0]);
+  }
+
+  private static JsonNode strip(HasMetadata obj, List<String[]> ignored) {
+    JsonNode node = Serialization.jsonMapper().valueToTree(obj);
+    for (String[] path : ignored) {
+      remove(node, path, 0);
+    }
+    return node;
+  }
+
+  private static void remove(JsonNode node, String[] path, int index) {
+    String segment = path[index];
+    boolean last = index == path.length - 1;
+    if (node instanceof ObjectNode) {
+      ObjectNode objectNode = (ObjectNode) node;
+      if ("*".equals(segment)) {
+        if (last) {
+          objectNode.removeAll();
+        } else {
+          objectNode.elements().forEachRemaining(child -> remove(child, path, index + 1));
+        }
+      } else if (last) {
+        objectNode.remove(segment);
+      } else if (objectNode.has(segment)) {
+        remove(objectNode.get(segment), path, index + 1);
+      }
+    } else if (node instanceof ArrayNode) {
+      ArrayNode arrayNode = (ArrayNode) node;
+      if ("*".equals(segment)) {
+        if (last) {
+          arrayNode.removeAll();
+        } else {
+          arrayNode.elements().forEachRemaining(child -> remove(child, path, index + 1));
+        }
+      } else if (segment.matches("\\d+") && Integer.parseInt(segment) < arrayNode.size()) {
+        int element = Integer.parseInt(segment);
+        if (last) {
+          arrayNode.remove(element);
+        } else {
+          remove(arrayNode.get(element), path, index + 1);
+        }
+      }
+    }
+  }
+
+}
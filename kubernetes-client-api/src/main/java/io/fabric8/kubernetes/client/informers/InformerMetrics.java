@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.client.Watcher;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Receives measurements from {@link SharedIndexInformer}s, for reporting to a metrics library.
+ * <p>
+ * All methods do nothing by default. They are called from the informer threads, so should be fast and non-blocking.
+ * Each informer is identified by a description of its list/watch: its type, api endpoint path and selectors.
+ * Informers with the same description, such as separate informers for the same list/watch, report together.
+ */
+public interface InformerMetrics {
+
+  InformerMetrics NOOP = new InformerMetrics() {
+  };
+
+  /**
+   * Called when the informer starts, with state that may be sampled as gauges until it is stopped.
+   *
+   * @param informer the informer description
+   * @param storeSize supplies the number of items in the store
+   * @param handlerQueueDepth supplies the number of notifications waiting to be handled across all handlers
+   */
+  default void informerStarted(String informer, IntSupplier storeSize, IntSupplier handlerQueueDepth) {
+  }
+
+  /**
+   * Called when the informer stops
+   *
+   * @param informer the informer description
+   */
+  default void informerStopped(String informer) {
+  }
+
+  /**
+   * Called for each watch event received, including bookmarks
+   *
+   * @param informer the informer description
+   * @param action the event action
+   */
+  default void eventReceived(String informer, Watcher.Action action) {
+  }
+
+  /**
+   * Called with the time taken to decode each watch event
+   *
+   * @param informer the informer description
+   * @param nanos the decode time
+   */
+  default void eventDecoded(String informer, long nanos) {
+  }
+
+  /**
+   * Called for each notification handled by an event handler
+   *
+   * @param informer the informer description
+   * @param queuedNanos the time the notification waited in the handler queue
+   * @param handlerNanos the time spent in the handler
+   */
+  default void notificationHandled(String informer, long queuedNanos, long handlerNanos) {
+  }
+
+  /**
+   * Called when a list, at start or after the watch could not be resumed, has been applied to the store
+   *
+   * @param informer the informer description
+   * @param items the number of items listed
+   * @param nanos the time taken to list and apply all pages
+   */
+  default void listCompleted(String informer, int items, long nanos) {
+  }
+
+  /**
+   * Called when the watch is reconnected or restarted after it has closed
+   *
+   * @param informer the informer description
+   */
+  default void watchReconnected(String informer) {
+  }
+
+}
@@ -0,0 +1,308 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.fabric8.kubernetes.client.utils.RateLimiter;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A work queue of object keys fed by a {@link SharedIndexInformer}.
+ * <p>
+ * Rather than handling each notification, the {@link Reconciler} is called with the key of a changed object
+ * and its latest state from the informer store:
+ * <ul>
+ * <li>notifications for a key that is already queued are coalesced into a single reconcile
+ * <li>a key is never reconciled concurrently - changes made while it is being reconciled queue it again
+ * <li>at most the configured number of workers reconcile at the same time
+ * <li>a failed reconcile is retried with per key exponential backoff
+ * <li>an optional token bucket limits the overall rate of reconciles
+ * </ul>
+ *
+ * @param <T> resource
+ */
+public class KeyedWorkQueue<T> implements ResourceEventHandler<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(KeyedWorkQueue.class);
+
+  public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(5);
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(16);
+
+  /**
+   * Reconciles the state of a single object
+   *
+   * @param <T> resource
+   */
+  @FunctionalInterface
+  public interface Reconciler<T> {
+
+    /**
+     * Called with the latest state of the object. A thrown exception will retry the key with backoff.
+     *
+     * @param key the store key of the object
+     * @param obj the latest state of the object, or null if it has been deleted
+     * @throws Exception if the key should be retried
+     */
+    void reconcile(String key, T obj) throws Exception;
+
+  }
+
+  private final SharedIndexInformer<T> informer;
+  private final Reconciler<T> reconciler;
+  private final Executor executor;
+  private final int workers;
+
+  private final Deque<String> queue = new ArrayDeque<>();
+  private final Set<String> dirty = new HashSet<>();
+  private final Set<String> processing = new HashSet<>();
+  private final Map<String, Integer> failures = new HashMap<>();
+  private int activeWorkers;
+  private CompletableFuture<Void> pendingDispatch;
+
+  private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+  private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+  private RateLimiter rateLimiter;
+  private boolean started;
+  private boolean stopped;
+
+  /**
+   * @param informer the informer to add this queue to as an event handler
+   * @param reconciler called for each dequeued key
+   * @param executor runs the reconciles, it should provide at least as many threads as workers
+   * @param workers the maximum number of concurrent reconciles
+   */
+  public KeyedWorkQueue(SharedIndexInformer<T> informer, Reconciler<T> reconciler, Executor executor, int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("Invalid number of workers " + workers + ", must be positive");
+    }
+    this.informer = Objects.requireNonNull(informer);
+    this.reconciler = Objects.requireNonNull(reconciler);
+    this.executor = Objects.requireNonNull(executor);
+    this.workers = workers;
+  }
+
+  /**
+   * Set the backoff for failed keys. The delay doubles for each consecutive failure of a key,
+   * up to the max, and is reset when the key is reconciled successfully.
+   * <p>
+   * Can only be called before the queue is started
+   *
+   * @param initial the delay after the first failure
+   * @param max the maximum delay
+   * @return this queue
+   */
+  public synchronized KeyedWorkQueue<T> backoff(Duration initial, Duration max) {
+    checkNotStarted("setting backoff");
+    if (initial.isNegative() || max.compareTo(initial) < 0) {
+      throw new IllegalArgumentException("Invalid backoff " + initial + " to " + max);
+    }
+    this.initialBackoff = initial;
+    this.maxBackoff = max;
+    return this;
+  }
+
+  /**
+   * Limit the overall rate of reconciles with a token bucket.
+   * <p>
+   * Can only be called before the queue is started
+   *
+   * @param permitsPerSecond the rate the bucket is refilled at
+   * @param burst the size of the bucket
+   * @return this queue
+   */
+  public synchronized KeyedWorkQueue<T> rateLimit(double permitsPerSecond, int burst) {
+    checkNotStarted("setting rate limit");
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("Invalid rate limit " + permitsPerSecond + "/s with burst " + burst);
+    }
+    this.rateLimiter = new RateLimiter(permitsPerSecond, burst, false);
+    return this;
+  }
+
+  private void checkNotStarted(String operation) {
+    if (started) {
+      throw new KubernetesClientException("Queue cannot be running when " + operation);
+    }
+  }
+
+  /**
+   * Add this queue as an event handler to the informer. Items already in the informer store
+   * will be queued as they are received as adds.
+   *
+   * @return this queue
+   */
+  public KeyedWorkQueue<T> start() {
+    synchronized (this) {
+      if (started) {
+        return this;
+      }
+      started = true;
+    }
+    informer.addEventHandler(this);
+    return this;
+  }
+
+  /**
+   * Stop queuing and dispatching keys, and remove this queue from the informer's event handlers.
+   * Reconciles already running are not interrupted.
+   */
+  public void stop() {
+    synchronized (this) {
+      stopped = true;
+      queue.clear();
+      dirty.clear();
+      if (pendingDispatch != null) {
+        pendingDispatch.cancel(true);
+        pendingDispatch = null;
+      }
+      if (!started) {
+        return;
+      }
+    }
+    informer.removeEventHandler(this);
+  }
+
+  /**
+   * Queue the key, unless it is already queued.
+   *
+   * @param key the store key
+   */
+  public synchronized void enqueue(String key) {
+    if (stopped || !dirty.add(key)) {
+      return;
+    }
+    // a key being processed is queued again once it completes
+    if (!processing.contains(key)) {
+      queue.add(key);
+      dispatch();
+    }
+  }
+
+  /**
+   * @return the number of keys waiting to be reconciled
+   */
+  public synchronized int size() {
+    return dirty.size();
+  }
+
+  @Override
+  public void onAdd(T obj) {
+    enqueue(getStore().getKey(obj));
+  }
+
+  @Override
+  public void onUpdate(T oldObj, T newObj) {
+    enqueue(getStore().getKey(newObj));
+  }
+
+  @Override
+  public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+    enqueue(getStore().getKey(obj));
+  }
+
+  private Store<T> getStore() {
+    return informer.getStore();
+  }
+
+  private void dispatch() {
+    while (!stopped && activeWorkers < workers && !queue.isEmpty() && pendingDispatch == null) {
+      if (rateLimiter != null) {
+        long waitNanos = rateLimiter.tryAcquire();
+        if (waitNanos > 0) {
+          pendingDispatch = Utils.schedule(executor, this::scheduledDispatch, waitNanos, TimeUnit.NANOSECONDS);
+          return;
+        }
+      }
+      String key = queue.poll();
+      dirty.remove(key);
+      processing.add(key);
+      activeWorkers++;
+      try {
+        executor.execute(() -> process(key));
+      } catch (RuntimeException e) {
+        done(key);
+        throw e;
+      }
+    }
+  }
+
+  private synchronized void scheduledDispatch() {
+    pendingDispatch = null;
+    dispatch();
+  }
+
+  private void process(String key) {
+    try {
+      reconciler.reconcile(key, getStore().getByKey(key));
+      synchronized (this) {
+        failures.remove(key);
+      }
+    } catch (Exception e) {
+      retry(key, e);
+    } finally {
+      synchronized (this) {
+        done(key);
+        dispatch();
+      }
+    }
+  }
+
+  private void done(String key) {
+    processing.remove(key);
+    activeWorkers--;
+    if (dirty.contains(key)) {
+      queue.add(key);
+    }
+  }
+
+  private void retry(String key, Exception e) {
+    long delay;
+    synchronized (this) {
+      if (stopped) {
+        return;
+      }
+      int count = failures.merge(key, 1, Integer::sum);
+      delay = backoffMillis(count);
+    }
+    log.debug("Reconcile of {} failed, retrying in {} ms", key, delay, e);
+    Utils.schedule(executor, () -> enqueue(key), delay, TimeUnit.MILLISECONDS);
+  }
+
+  long backoffMillis(int failureCount) {
+    long max = maxBackoff.toMillis();
+    long delay = initialBackoff.toMillis();
+    for (int i = 1; i < failureCount && delay < max; i++) {
+      delay *= 2;
+    }
+    return Math.min(delay, max);
+  }
+
+}
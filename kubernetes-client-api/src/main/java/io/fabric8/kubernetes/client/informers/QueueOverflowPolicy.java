@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * What to do with a notification for a {@link ResourceEventHandler} when its queue is full
+ */
+public enum QueueOverflowPolicy {
+
+  /**
+   * Wait for space in the queue. This slows down the informer, and therefore all of its handlers,
+   * to the pace of the slowest handler.
+   */
+  BLOCK,
+
+  /**
+   * Discard the notification. The handler will miss the event, so it should only be used
+   * by handlers that can tolerate that, for example by relying on resyncs.
+   */
+  DISCARD
+
+}
@@ -20,10 +20,12 @@ import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Store;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -72,6 +74,13 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   SharedIndexInformer<T> addEventHandler(ResourceEventHandler<? super T> handler);
 
+  /**
+   * Remove the event handler, it will not be notified of any further events
+   *
+   * @param handler event handler
+   */
+  void removeEventHandler(ResourceEventHandler<? super T> handler);
+
   /**
    * Adds an event handler to the shared informer using the specified resync period.
    * Events to a single handler are delivered sequentially, but there is no
@@ -84,6 +93,21 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle, long resyncPeriod);
 
+  /**
+   * Adds an event handler to the shared informer using the specified resync period.
+   * <p>
+   * If resyncUnhandledOnly is true, a resync will only notify the handler of the objects whose
+   * current resourceVersion it has not already handled - for example because a notification was
+   * discarded from a full queue or the handler threw an exception. This requires tracking the handled
+   * resourceVersion of every object for the handler.
+   *
+   * @param handle the event handler
+   * @param resyncPeriod the specific resync period
+   * @param resyncUnhandledOnly true to skip the resync of objects already handled at their current resourceVersion
+   */
+  SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle, long resyncPeriod,
+      boolean resyncUnhandledOnly);
+
   /**
    * Starts the shared informer, which will be stopped when {@link #stop()} is called.
    *
@@ -158,6 +182,88 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
 
   SharedIndexInformer<T> itemStore(ItemStore<T> itemStore);
 
+  /**
+   * Sets the number of list pages that may be requested ahead of the page being
+   * applied to the store. A value of 0, the default, requests the pages one at a time.
+   * <br>
+   * Only has an effect when a limit is used for the list. Each prefetched page is held
+   * in memory until applied, so the value bounds the additional memory used while listing.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param pages the number of pages to prefetch
+   */
+  SharedIndexInformer<T> listPrefetch(int pages);
+
+  /**
+   * Build the informer state from the initial events of a watch (sendInitialEvents) rather than
+   * from a list. This avoids holding large list responses in memory on both the client and the api server.
+   * <br>
+   * Falls back to list and watch if the api server does not support the WatchList feature.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param watchList true to use the initial events of a watch
+   */
+  SharedIndexInformer<T> watchList(boolean watchList);
+
+  /**
+   * Bound the queue of pending notifications of each event handler added after this call.
+   * <br>
+   * Each handler has its own ordered queue and the handlers are called in parallel, so by default
+   * a slow handler does not delay the others, but its queue may grow without bound.
+   *
+   * @param capacity the maximum number of pending notifications per handler
+   * @param overflowPolicy what to do when the queue is full
+   */
+  SharedIndexInformer<T> eventHandlerQueue(int capacity, QueueOverflowPolicy overflowPolicy);
+
+  /**
+   * Spread each resync over the resync period rather than notifying of every object at once.
+   * The objects are resynced in the given number of slices, one slice each resync period / slices.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param slices the number of slices, 1 for a single resync of all objects
+   */
+  SharedIndexInformer<T> incrementalResync(int slices);
+
+  /**
+   * Persist a snapshot of the store and its resourceVersion to the given file, every period once
+   * synced and when the informer is stopped.
+   * <br>
+   * If the file exists when the informer is started, the store is restored from it - notifying the
+   * handlers of the items as adds - and the watch is resumed from the snapshot resourceVersion.
+   * A full list is only made if that resourceVersion is no longer available, or if the snapshot was written
+   * by an informer of a different type, namespace or selectors. The informer is only synced once the watch or list
+   * has been established.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param file the snapshot file
+   * @param periodMillis how often to write the snapshot, or 0 to write only when stopped
+   */
+  SharedIndexInformer<T> snapshot(Path file, long periodMillis);
+
+  /**
+   * Report the throughput, latency and state of this informer to the given {@link InformerMetrics}.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param metrics the metrics to report to
+   */
+  SharedIndexInformer<T> metrics(InformerMetrics metrics);
+
+  /**
+   * Only notify handlers of updates for which the filter, called with the old and new object, returns true.
+   * The store is always updated. See {@link ChangePredicates} for common filters, such as ignoring status only changes.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param updateFilter the filter of relevant updates
+   */
+  SharedIndexInformer<T> updateFilter(BiPredicate<T, T> updateFilter);
+
   /**
    * A non-blocking alternative to run. Starts the shared informer, which will be stopped when {@link #stop()} is called.
    * <br>
@@ -17,6 +17,7 @@
 package io.fabric8.kubernetes.client.informers;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
 import io.fabric8.kubernetes.client.dsl.Informable;
 
 import java.util.concurrent.Future;
@@ -43,6 +44,20 @@ public interface SharedInformerFactory {
   @Deprecated
   SharedInformerFactory withName(String name);
 
+  /**
+   * Share the informers constructed by this factory with the identical informers of other sharing factories,
+   * and of {@link Informable#runnableSharedInformer(long)}, for the same client configuration.
+   * <p>
+   * Shared informers use a single list/watch and cache. Indexers, the item store and the initial state
+   * apply to that shared cache, so they affect, and may be rejected because of, the other sharing informers.
+   * <p>
+   * Informers are not shared by default.
+   *
+   * @param shared true to share the informers
+   * @return {@link SharedInformerFactory} with sharing configured
+   */
+  SharedInformerFactory withSharedInformers(boolean shared);
+
   /**
    * Constructs and returns a shared index informer with resync period specified. And the
    * informer cache will be overwritten.
@@ -58,6 +73,20 @@ public interface SharedInformerFactory {
   <T extends HasMetadata> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass,
       long resyncPeriodInMillis);
 
+  /**
+   * Constructs and returns a shared index informer of only the metadata of the given type, see
+   * {@link io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable#metadataOnly()}
+   *
+   * <b>Note:</b>It watches for events in <b>ALL NAMESPACES</b>.
+   *
+   * @param apiTypeClass apiType class
+   * @param resyncPeriodInMillis resync period in milliseconds
+   * @param <T> the type parameter
+   * @return the shared index informer
+   */
+  <T extends HasMetadata> SharedIndexInformer<PartialObjectMetadata> sharedIndexInformerForMetadata(Class<T> apiTypeClass,
+      long resyncPeriodInMillis);
+
   /**
    * Gets existing shared index informer, return null if the requesting informer
    * is never constructed. If there are multiple SharedIndexInformer objects corresponding
@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fabric8.kubernetes.client.informers.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every item in serialized form, which is typically several times smaller than the
+ * object itself. Items are deserialized on demand, with the most recently used items held in
+ * a small cache.
+ * <p>
+ * Unlike the {@link ReducedStateItemStore} the full item is retained. The trade-off is the cost of
+ * deserialization when reading items - including the informer itself, which needs the old item
+ * to compute an update if it is not in the cache.
+ * <p>
+ * JSON is used by default. A more compact binary format may be used by supplying a mapper for that
+ * format, such as one for Smile.
+ */
+public class CompactItemStore<V extends HasMetadata> implements ItemStore<V> {
+
+  public static final int DEFAULT_CACHE_SIZE = 256;
+
+  private static class CachedItem<V> {
+    final byte[] bytes;
+    final V value;
+
+    CachedItem(byte[] bytes, V value) {
+      this.bytes = bytes;
+      this.value = value;
+    }
+  }
+
+  private final Function<V, String> keyFunction;
+  private final ObjectReader reader;
+  private final ObjectWriter writer;
+  private final ConcurrentHashMap<String, byte[]> store = new ConcurrentHashMap<>();
+  private final Map<String, CachedItem<V>> cache;
+
+  public CompactItemStore(Function<V, String> keyFunction, Class<V> typeClass) {
+    this(keyFunction, typeClass, Serialization.jsonMapper(), DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Create a compact store
+   *
+   * @param keyFunction the key function, which should match the keyFunction provided to the informer
+   * @param typeClass the expected type
+   * @param mapper the mapper used to serialize the items
+   * @param cacheSize the number of deserialized items to retain, 0 to disable caching
+   */
+  public CompactItemStore(Function<V, String> keyFunction, Class<V> typeClass, ObjectMapper mapper, int cacheSize) {
+    this.keyFunction = keyFunction;
+    this.reader = mapper.readerFor(typeClass);
+    this.writer = mapper.writerFor(typeClass);
+    this.cache = new LinkedHashMap<String, CachedItem<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedItem<V>> eldest) {
+        return size() > cacheSize;
+      }
+    };
+  }
+
+  @Override
+  public String getKey(V obj) {
+    return keyFunction.apply(obj);
+  }
+
+  @Override
+  public V put(String key, V obj) {
+    byte[] bytes = serialize(obj);
+    byte[] old = store.put(key, bytes);
+    V result = get(key, old, false);
+    cache(key, new CachedItem<>(bytes, obj));
+    return result;
+  }
+
+  @Override
+  public V remove(String key) {
+    byte[] old = store.remove(key);
+    V result = get(key, old, false);
+    synchronized (cache) {
+      cache.remove(key);
+    }
+    return result;
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return store.keySet().stream();
+  }
+
+  @Override
+  public Stream<V> values() {
+    // don't let a full iteration evict the recently used entries
+    return store.entrySet().stream().map(e -> get(e.getKey(), e.getValue(), false));
+  }
+
+  @Override
+  public V get(String key) {
+    return get(key, store.get(key), true);
+  }
+
+  @Override
+  public int size() {
+    return store.size();
+  }
+
+  /**
+   * Get the value for the given serialized state. A cached value is only used if it
+   * was created from the same state, so that a concurrent modification can't produce a stale result.
+   */
+  private V get(String key, byte[] bytes, boolean cacheResult) {
+    if (bytes == null) {
+      return null;
+    }
+    CachedItem<V> entry;
+    synchronized (cache) {
+      entry = cache.get(key);
+    }
+    if (entry != null && entry.bytes == bytes) {
+      return entry.value;
+    }
+    V value = deserialize(bytes);
+    if (cacheResult) {
+      cache(key, new CachedItem<>(bytes, value));
+    }
+    return value;
+  }
+
+  private void cache(String key, CachedItem<V> entry) {
+    synchronized (cache) {
+      cache.put(key, entry);
+    }
+  }
+
+  private byte[] serialize(V obj) {
+    try {
+      return writer.writeValueAsBytes(obj);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  private V deserialize(byte[] bytes) {
+    try {
+      return reader.readValue(bytes);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+}
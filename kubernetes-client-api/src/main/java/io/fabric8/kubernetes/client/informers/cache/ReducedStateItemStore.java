@@ -16,16 +16,30 @@
 
 package io.fabric8.kubernetes.client.informers.cache;
 
-import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -40,6 +54,8 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
   private static final String METADATA = "metadata";
   private final ConcurrentHashMap<String, Object[]> store = new ConcurrentHashMap<>();
   private final List<String[]> fields = new ArrayList<>();
+  private final Map<String, Integer> fieldIndexes = new HashMap<>();
+  private final ConcurrentHashMap<Class<?>, PropertyAccessors> accessors = new ConcurrentHashMap<>();
   private final Class<V> typeClass;
   private final KeyState keyState;
 
@@ -64,6 +80,102 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
 
   }
 
+  /**
+   * Reads the serialized properties of a type directly from an instance.
+   * <br>
+   * Properties with their own serializer are serialized through that serializer, and empty values of
+   * {@link JsonInclude.Include#NON_EMPTY} properties are read as null, so the result matches what the full
+   * serialization would produce.
+   */
+  private static class PropertyAccessors {
+
+    private final Map<String, AnnotatedMember> properties = new HashMap<>();
+    private final Map<String, PropertyWriter> serializedProperties = new HashMap<>();
+    private final Set<String> nonEmptyProperties = new HashSet<>();
+    private final AnnotatedMember anyGetter;
+
+    PropertyAccessors(Class<?> type) {
+      ObjectMapper mapper = Serialization.jsonMapper();
+      JavaType javaType = mapper.constructType(type);
+      SerializationConfig config = mapper.getSerializationConfig();
+      BeanDescription description = config.introspect(javaType);
+      AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+      JsonInclude.Value typeInclusion = description.findPropertyInclusion(config.getDefaultPropertyInclusion(type));
+      Set<String> customized = new HashSet<>();
+      for (BeanPropertyDefinition property : description.findProperties()) {
+        AnnotatedMember accessor = property.getAccessor();
+        if (accessor != null) {
+          properties.put(property.getName(), accessor);
+          if (typeInclusion.withOverrides(property.findInclusion())
+              .getValueInclusion() == JsonInclude.Include.NON_EMPTY) {
+            nonEmptyProperties.add(property.getName());
+          }
+          if (introspector.findSerializer(accessor) != null || introspector.findContentSerializer(accessor) != null) {
+            customized.add(property.getName());
+          }
+        }
+      }
+      this.anyGetter = description.findAnyGetter();
+      if (!customized.isEmpty()) {
+        try {
+          mapper.getSerializerProviderInstance().findValueSerializer(javaType).properties().forEachRemaining(writer -> {
+            if (customized.contains(writer.getName())) {
+              serializedProperties.put(writer.getName(), writer);
+            }
+          });
+        } catch (JsonMappingException e) {
+          throw KubernetesClientException.launderThrowable(e);
+        }
+      }
+    }
+
+    Object get(Object obj, String name) {
+      PropertyWriter writer = serializedProperties.get(name);
+      if (writer != null) {
+        return serialize(obj, writer);
+      }
+      AnnotatedMember accessor = properties.get(name);
+      if (accessor != null) {
+        Object value = accessor.getValue(obj);
+        return nonEmptyProperties.contains(name) && isEmpty(value) ? null : value;
+      }
+      if (anyGetter != null) {
+        Object additional = anyGetter.getValue(obj);
+        if (additional instanceof Map) {
+          return ((Map<?, ?>) additional).get(name);
+        }
+      }
+      return null;
+    }
+
+    private static boolean isEmpty(Object value) {
+      return (value instanceof Collection && ((Collection<?>) value).isEmpty())
+          || (value instanceof Map && ((Map<?, ?>) value).isEmpty())
+          || (value instanceof String && ((String) value).isEmpty())
+          || (value instanceof Object[] && ((Object[]) value).length == 0);
+    }
+
+    private static Object serialize(Object obj, PropertyWriter writer) {
+      ObjectMapper mapper = Serialization.jsonMapper();
+      try (TokenBuffer buffer = new TokenBuffer(mapper, false)) {
+        buffer.writeStartObject();
+        writer.serializeAsField(obj, buffer, mapper.getSerializerProviderInstance());
+        buffer.writeEndObject();
+        Map<?, ?> result = mapper.readValue(buffer.asParser(), Map.class);
+        return result.get(writer.getName());
+      } catch (Exception e) {
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
+
+  }
+
+  /**
+   * An intermediate object created when restoring
+   */
+  private static class Node extends LinkedHashMap<String, Object> {
+  }
+
   public static final KeyState NAME_KEY_STATE = new KeyState(Cache::metaNamespaceKeyFunc,
       k -> {
         int index = k.indexOf("/");
@@ -104,20 +216,53 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
   public ReducedStateItemStore(KeyState keyState, Class<V> typeClass, String... valueFields) {
     this.keyState = keyState;
     fields.add(new String[] { METADATA, "resourceVersion" });
+    fieldIndexes.put(METADATA + ".resourceVersion", 0);
     if (valueFields != null) {
       for (int i = 0; i < valueFields.length; i++) {
+        fieldIndexes.putIfAbsent(valueFields[i], fields.size());
         fields.add(valueFields[i].split("\\."));
       }
     }
     this.typeClass = typeClass;
   }
 
+  /**
+   * Only the stored fields are read from the value, rather than converting the whole value.
+   */
   Object[] store(V value) {
     if (value == null) {
       return null;
     }
-    Map<String, Object> raw = Serialization.jsonMapper().convertValue(value, Map.class);
-    return fields.stream().map(f -> GenericKubernetesResource.get(raw, (Object[]) f)).toArray();
+    Object[] result = new Object[fields.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = toRaw(getField(value, fields.get(i)));
+    }
+    return result;
+  }
+
+  private Object getField(Object value, String[] path) {
+    Object current = value;
+    for (int i = 0; i < path.length && current != null; i++) {
+      if (current instanceof Map) {
+        current = ((Map<?, ?>) current).get(path[i]);
+      } else if (current instanceof String || current instanceof Number || current instanceof Boolean
+          || current instanceof Collection) {
+        return null;
+      } else {
+        current = accessors.computeIfAbsent(current.getClass(), PropertyAccessors::new).get(current, path[i]);
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Convert to the same form as would be obtained by converting the whole value to a {@link Map}
+   */
+  private static Object toRaw(Object value) {
+    if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+      return value;
+    }
+    return Serialization.jsonMapper().convertValue(value, Object.class);
   }
 
   V restore(String key, Object[] values) {
@@ -141,7 +286,19 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
       String[] path = fields.get(i);
       Map<String, Object> parent = raw;
       for (int j = 0; j < path.length - 1; j++) {
-        parent = (Map<String, Object>) parent.computeIfAbsent(path[j], k -> new LinkedHashMap<String, Object>());
+        Object child = parent.get(path[j]);
+        Node node;
+        if (child instanceof Node) {
+          node = (Node) child;
+        } else {
+          // a stored value may already hold the parent of a key field
+          node = new Node();
+          if (child instanceof Map) {
+            ((Map<?, ?>) child).forEach((k, v) -> node.put(String.valueOf(k), v));
+          }
+          parent.put(path[j], node);
+        }
+        parent = node;
       }
       parent.put(path[path.length - 1], value);
     }
@@ -176,6 +333,39 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
     return (String) store.getOrDefault(key, new Object[1])[0];
   }
 
+  /**
+   * Get a stored field value without restoring the whole item.
+   *
+   * @param key the item key
+   * @param field a key field, metadata.resourceVersion, or one of the value fields
+   * @param type the expected type of the value
+   * @return the value, or null if there is no such item or the item does not have the field
+   */
+  public <R> R getFieldValue(String key, String field, Class<R> type) {
+    Object value;
+    Integer index = fieldIndexes.get(field);
+    if (index != null) {
+      Object[] values = store.get(key);
+      value = values == null ? null : values[index];
+    } else {
+      index = keyFieldIndex(field);
+      value = store.containsKey(key) ? this.keyState.keyFieldFunction.apply(key)[index] : null;
+    }
+    if (value == null || type.isInstance(value)) {
+      return type.cast(value);
+    }
+    return Serialization.jsonMapper().convertValue(value, type);
+  }
+
+  private int keyFieldIndex(String field) {
+    for (int i = 0; i < this.keyState.keyFields.size(); i++) {
+      if (String.join(".", this.keyState.keyFields.get(i)).equals(field)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Field " + field + " is not stored");
+  }
+
   @Override
   public int size() {
     return store.size();
@@ -164,6 +164,17 @@ public class HttpClientUtils {
       builder.preferHttp11();
     }
 
+    // only limit the requests when asked to, the defaults would cap the long lived streams of a busy client
+    if (config.getMaxConcurrentRequests() != Config.DEFAULT_MAX_CONCURRENT_REQUESTS
+        || config.getMaxConcurrentRequestsPerHost() != Config.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST) {
+      builder.maxConcurrentRequests(config.getMaxConcurrentRequests(), config.getMaxConcurrentRequestsPerHost());
+    }
+
+    if (config.getConnectionPoolMaxIdleConnections() > 0 || config.getConnectionPoolKeepAlive() > 0) {
+      builder.connectionPool(config.getConnectionPoolMaxIdleConnections(), config.getConnectionPoolKeepAlive(),
+          TimeUnit.MILLISECONDS);
+    }
+
     try {
 
       // Only check proxy if it's a full URL with protocol
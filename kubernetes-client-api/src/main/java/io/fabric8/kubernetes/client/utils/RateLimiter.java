@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.client.Config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket limiting the rate of requests, see {@link Config#getRequestsPerSecond()}, or of other work.
+ * <br>
+ * Requests reserve their token when they are made, so they are sent in order and never wait longer than the tokens
+ * reserved ahead of them take to refill.
+ * <br>
+ * When adaptive a throttled request halves the rate, down to a tenth of the configured rate, and holds back the
+ * following requests until its Retry-After has passed. Each request that is not throttled raises the rate again
+ * by a twentieth of the configured rate.
+ */
+public class RateLimiter {
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final double MIN_RATE_FRACTION = 0.1;
+  private static final double RATE_INCREASE_FRACTION = 0.05;
+
+  private final double maxRate;
+  private final int burst;
+  private final boolean adaptive;
+  private double rate;
+  private double tokens;
+  private long lastRefill;
+
+  /**
+   * @param requestsPerSecond the rate, or 0 to not limit the requests
+   * @param burst the size of the bucket, which is at least 1
+   * @param adaptive true if the rate should follow the server's throttling
+   */
+  public RateLimiter(double requestsPerSecond, int burst, boolean adaptive) {
+    this.maxRate = requestsPerSecond;
+    this.burst = Math.max(1, burst);
+    this.adaptive = adaptive;
+    this.rate = requestsPerSecond;
+    this.tokens = this.burst;
+    this.lastRefill = System.nanoTime();
+  }
+
+  public boolean isLimited() {
+    return maxRate > 0;
+  }
+
+  /**
+   * @return a future that completes when the request may be sent
+   */
+  public CompletableFuture<Void> acquire() {
+    if (!isLimited()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    long wait = reserve();
+    if (wait <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Utils.schedule(Runnable::run, () -> result.complete(null), wait, TimeUnit.NANOSECONDS);
+    return result;
+  }
+
+  /**
+   * Take a token
+   *
+   * @return the nanos to wait for it
+   */
+  synchronized long reserve() {
+    refill();
+    tokens--;
+    if (tokens >= 0) {
+      return 0;
+    }
+    return (long) Math.ceil(-tokens / rate * NANOS_PER_SECOND);
+  }
+
+  /**
+   * Take a token if one is available, without reserving it otherwise
+   *
+   * @return 0 if a token was taken, otherwise the nanos until one will be available
+   */
+  public synchronized long tryAcquire() {
+    if (!isLimited()) {
+      return 0;
+    }
+    refill();
+    if (tokens >= 1) {
+      tokens--;
+      return 0;
+    }
+    return Math.max(1, (long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND));
+  }
+
+  /**
+   * Called when the server throttled a request
+   *
+   * @param retryAfter the time the server asked to wait, may be 0
+   */
+  public synchronized void throttled(long retryAfter, TimeUnit unit) {
+    if (!adaptive || !isLimited()) {
+      return;
+    }
+    refill();
+    rate = Math.max(maxRate * MIN_RATE_FRACTION, rate / 2);
+    tokens = Math.min(tokens, -unit.toNanos(retryAfter) * rate / NANOS_PER_SECOND);
+  }
+
+  /**
+   * Called when a request was not throttled
+   */
+  public synchronized void succeeded() {
+    if (!adaptive || rate >= maxRate) {
+      return;
+    }
+    refill();
+    rate = Math.min(maxRate, rate + maxRate * RATE_INCREASE_FRACTION);
+  }
+
+  public synchronized double getRate() {
+    return rate;
+  }
+
+  private void refill() {
+    long now = System.nanoTime();
+    tokens = Math.min(burst, tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+    lastRefill = now;
+  }
+
+}
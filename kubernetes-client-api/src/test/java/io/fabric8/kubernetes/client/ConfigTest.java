@@ -80,6 +80,11 @@ public class ConfigTest {
     System.getProperties().remove(Config.KUBERNETES_CLIENT_KEY_FILE_SYSTEM_PROPERTY);
     System.getProperties().remove(Config.KUBERNETES_MAX_CONCURRENT_REQUESTS);
     System.getProperties().remove(Config.KUBERNETES_MAX_CONCURRENT_REQUESTS_PER_HOST);
+    System.getProperties().remove(Config.KUBERNETES_REQUESTS_PER_SECOND);
+    System.getProperties().remove(Config.KUBERNETES_REQUESTS_BURST);
+    System.getProperties().remove(Config.KUBERNETES_ADAPTIVE_RATE_LIMIT);
+    System.getProperties().remove(Config.KUBERNETES_CONNECTION_POOL_MAX_IDLE_CONNECTIONS);
+    System.getProperties().remove(Config.KUBERNETES_CONNECTION_POOL_KEEP_ALIVE);
     System.getProperties().remove(Config.KUBERNETES_WATCH_RECONNECT_INTERVAL_SYSTEM_PROPERTY);
     System.getProperties().remove(Config.KUBERNETES_WATCH_RECONNECT_LIMIT_SYSTEM_PROPERTY);
     System.getProperties().remove(Config.KUBERNETES_REQUEST_TIMEOUT_SYSTEM_PROPERTY);
@@ -145,6 +150,38 @@ public class ConfigTest {
     assertConfig(config);
   }
 
+  @Test
+  void testRateLimitWithSystemProperties() {
+    System.setProperty(Config.KUBERNETES_REQUESTS_PER_SECOND, "2.5");
+    System.setProperty(Config.KUBERNETES_REQUESTS_BURST, "10");
+    System.setProperty(Config.KUBERNETES_ADAPTIVE_RATE_LIMIT, "true");
+
+    Config config = new ConfigBuilder().build();
+
+    assertEquals(2.5, config.getRequestsPerSecond());
+    assertEquals(10, config.getRequestsBurst());
+    assertTrue(config.isAdaptiveRateLimit());
+  }
+
+  @Test
+  void testConnectionPoolWithSystemProperties() {
+    System.setProperty(Config.KUBERNETES_CONNECTION_POOL_MAX_IDLE_CONNECTIONS, "3");
+    System.setProperty(Config.KUBERNETES_CONNECTION_POOL_KEEP_ALIVE, "60000");
+
+    Config config = new ConfigBuilder().build();
+
+    assertEquals(3, config.getConnectionPoolMaxIdleConnections());
+    assertEquals(60000, config.getConnectionPoolKeepAlive());
+  }
+
+  @Test
+  void testRateLimitDisabledByDefault() {
+    Config config = new ConfigBuilder().build();
+
+    assertEquals(0, config.getRequestsPerSecond());
+    assertFalse(config.isAdaptiveRateLimit());
+  }
+
   @Test
   void testWithBuilder() {
     Config config = new ConfigBuilder()
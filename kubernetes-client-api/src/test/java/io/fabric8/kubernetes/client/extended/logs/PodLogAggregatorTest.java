@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.extended.logs;
+
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class PodLogAggregatorTest {
+
+  private NamespacedKubernetesClient mockKubernetesClient;
+  private List<Runnable> tasks;
+  private List<PodLogLine> lines;
+
+  @BeforeEach
+  void setUp() {
+    mockKubernetesClient = mock(NamespacedKubernetesClient.class, Answers.RETURNS_DEEP_STUBS);
+    tasks = new ArrayList<>();
+    lines = new ArrayList<>();
+  }
+
+  @Test
+  void lineListenerShouldPassOnLines() {
+    // Given
+    PodLogAggregator aggregator = aggregator(10, OverflowPolicy.BLOCK);
+    LogLineListener listener = aggregator.new LineListener("pod", "container", new PodLogAggregator.Stream(0, true));
+    Instant timestamp = Instant.parse("2022-07-01T10:00:00.123456789Z");
+    CharBuffer line = CharBuffer.allocate(16);
+    // When
+    line.put("first").flip();
+    listener.onLine(timestamp, line);
+    line.clear();
+    line.put("no timestamp").flip();
+    listener.onLine(null, line);
+    runTasks();
+    // Then
+    assertThat(lines).extracting(PodLogLine::getMessage).containsExactly("first", "no timestamp");
+    assertThat(lines.get(0)).hasToString("[pod/container] 2022-07-01T10:00:00.123456789Z first");
+    assertThat(lines.get(1).getTimestamp()).isNull();
+  }
+
+  @Test
+  void dropNewestShouldDiscardNewLinesWhileFull() throws IOException {
+    // Given
+    PodLogAggregator aggregator = aggregator(2, OverflowPolicy.DROP_NEWEST);
+    // When
+    offer(aggregator, "1", "2", "3");
+    runTasks();
+    // Then
+    assertThat(lines).extracting(PodLogLine::getMessage).containsExactly("1", "2");
+    assertThat(aggregator.getDroppedLines()).isEqualTo(1);
+  }
+
+  @Test
+  void dropOldestShouldDiscardBufferedLinesWhileFull() throws IOException {
+    // Given
+    PodLogAggregator aggregator = aggregator(2, OverflowPolicy.DROP_OLDEST);
+    // When
+    offer(aggregator, "1", "2", "3");
+    runTasks();
+    // Then
+    assertThat(lines).extracting(PodLogLine::getMessage).containsExactly("2", "3");
+    assertThat(aggregator.getDroppedLines()).isEqualTo(1);
+  }
+
+  @Test
+  void blockShouldWaitForTheSink() throws Exception {
+    // Given
+    PodLogAggregator aggregator = aggregator(2, OverflowPolicy.BLOCK);
+    offer(aggregator, "1", "2");
+    // When
+    CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+      try {
+        offer(aggregator, "3");
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    // Then
+    assertThat(blocked).isNotDone();
+    Thread.sleep(100);
+    assertThat(blocked).isNotDone();
+    runTasks();
+    blocked.get(10, TimeUnit.SECONDS);
+    runTasks();
+    assertThat(lines).extracting(PodLogLine::getMessage).containsExactly("1", "2", "3");
+    assertThat(aggregator.getDroppedLines()).isZero();
+  }
+
+  @Test
+  void closeShouldReleaseBlockedStreams() throws Exception {
+    // Given
+    PodLogAggregator aggregator = aggregator(1, OverflowPolicy.BLOCK);
+    offer(aggregator, "1");
+    CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> {
+      try {
+        offer(aggregator, "2");
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    // When
+    aggregator.close();
+    // Then
+    blocked.get(10, TimeUnit.SECONDS);
+    runTasks();
+    assertThat(lines).isEmpty();
+  }
+
+  @Test
+  void builderShouldRequireSink() {
+    PodLogAggregatorConfig config = new PodLogAggregatorConfigBuilder().withBufferSize(1).build();
+    PodLogAggregatorBuilder builder = new PodLogAggregatorBuilder(mockKubernetesClient, tasks::add);
+    assertThrows(NullPointerException.class, () -> builder.withConfig(config));
+  }
+
+  private PodLogAggregator aggregator(int bufferSize, OverflowPolicy overflowPolicy) {
+    PodLogAggregatorConfig config = new PodLogAggregatorConfigBuilder()
+        .withNamespace("ns")
+        .withBufferSize(bufferSize)
+        .withOverflowPolicy(overflowPolicy)
+        .withSink(lines::add)
+        .build();
+    return new PodLogAggregator(mockKubernetesClient, config, this::execute, this::execute);
+  }
+
+  private synchronized void execute(Runnable task) {
+    tasks.add(task);
+  }
+
+  private void runTasks() {
+    List<Runnable> toRun;
+    synchronized (this) {
+      toRun = new ArrayList<>(tasks);
+      tasks.clear();
+    }
+    toRun.forEach(Runnable::run);
+  }
+
+  private static void offer(PodLogAggregator aggregator, String... messages) throws IOException {
+    for (String message : messages) {
+      aggregator.offer(new PodLogLine("ns", "pod", "container", null, message));
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.NodeBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChangePredicatesTest {
+
+  private static final Pod POD = new PodBuilder()
+      .withNewMetadata().withName("pod").withResourceVersion("1").withGeneration(1L).endMetadata()
+      .withNewSpec().withNodeName("node").endSpec()
+      .build();
+
+  @Test
+  void testIgnoreStatus() {
+    BiPredicate<Pod, Pod> predicate = ChangePredicates.ignoreStatus();
+
+    Pod statusChanged = new PodBuilder(POD).editMetadata().withResourceVersion("2").addNewManagedField()
+        .withManager("kubelet").endManagedField().endMetadata().withNewStatus().withPhase("Running").endStatus().build();
+    Pod labelChanged = new PodBuilder(POD).editMetadata().withResourceVersion("3").addToLabels("a", "b").endMetadata()
+        .build();
+
+    assertThat(predicate.test(POD, statusChanged)).isFalse();
+    assertThat(predicate.test(POD, labelChanged)).isTrue();
+  }
+
+  @Test
+  void testIgnorePathsWithWildcard() {
+    BiPredicate<Node, Node> predicate = ChangePredicates.ignorePaths("/status/conditions/*/lastHeartbeatTime");
+
+    Node node = new NodeBuilder().withNewMetadata().withName("node").endMetadata().withNewStatus()
+        .addNewCondition().withType("Ready").withStatus("True").withLastHeartbeatTime("1").endCondition()
+        .endStatus().build();
+    Node heartbeat = new NodeBuilder(node).editStatus().editFirstCondition().withLastHeartbeatTime("2").endCondition()
+        .endStatus().build();
+    Node notReady = new NodeBuilder(heartbeat).editStatus().editFirstCondition().withStatus("False").endCondition()
+        .endStatus().build();
+
+    assertThat(predicate.test(node, heartbeat)).isFalse();
+    assertThat(predicate.test(node, notReady)).isTrue();
+  }
+
+  @Test
+  void testIgnoreStatusWithoutGeneration() {
+    BiPredicate<Pod, Pod> predicate = ChangePredicates.ignoreStatus();
+    Pod pod = new PodBuilder(POD).editMetadata().withGeneration(null).endMetadata().build();
+
+    Pod statusChanged = new PodBuilder(pod).editMetadata().withResourceVersion("2").endMetadata().withNewStatus()
+        .withPhase("Running").endStatus().build();
+    Pod specChanged = new PodBuilder(pod).editMetadata().withResourceVersion("3").endMetadata().editSpec()
+        .withNodeName("other").endSpec().build();
+
+    assertThat(predicate.test(pod, statusChanged)).isFalse();
+    assertThat(predicate.test(pod, specChanged)).isTrue();
+  }
+
+  @Test
+  void testIgnoreStatusPathsWithGeneration() {
+    BiPredicate<Pod, Pod> predicate = ChangePredicates.ignorePaths("/status/conditions/*/lastProbeTime");
+
+    Pod ready = new PodBuilder(POD).withNewStatus().addNewCondition().withType("Ready").withStatus("True")
+        .withLastProbeTime("1").endCondition().endStatus().build();
+    Pod probed = new PodBuilder(ready).editMetadata().withResourceVersion("2").endMetadata().editStatus()
+        .editFirstCondition().withLastProbeTime("2").endCondition().endStatus().build();
+    Pod notReady = new PodBuilder(probed).editMetadata().withResourceVersion("3").endMetadata().editStatus()
+        .editFirstCondition().withStatus("False").endCondition().endStatus().build();
+    Pod regenerated = new PodBuilder(probed).editMetadata().withResourceVersion("4").withGeneration(2L).endMetadata()
+        .build();
+    Pod finalized = new PodBuilder(probed).editMetadata().withResourceVersion("5").addToFinalizers("f").endMetadata()
+        .build();
+
+    assertThat(predicate.test(ready, probed)).isFalse();
+    assertThat(predicate.test(ready, notReady)).isTrue();
+    assertThat(predicate.test(ready, regenerated)).isTrue();
+    assertThat(predicate.test(ready, finalized)).isTrue();
+  }
+
+  @Test
+  void testGenerationChanged() {
+    BiPredicate<Pod, Pod> predicate = ChangePredicates.generationChanged();
+
+    assertThat(predicate.test(POD, new PodBuilder(POD).withNewStatus().withPhase("Running").endStatus().build())).isFalse();
+    assertThat(predicate.test(POD, new PodBuilder(POD).editMetadata().withGeneration(2L).endMetadata().build())).isTrue();
+  }
+
+  @Test
+  void testInvalidPath() {
+    assertThrows(IllegalArgumentException.class, () -> ChangePredicates.ignorePaths("status"));
+  }
+
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeyedWorkQueueTest {
+
+  private ExecutorService executor;
+  private SharedIndexInformer<ConfigMap> informer;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newCachedThreadPool();
+    informer = mock(SharedIndexInformer.class);
+    Store<ConfigMap> store = mock(Store.class);
+    when(informer.getStore()).thenReturn(store);
+    when(store.getKey(any())).thenAnswer(invocation -> invocation.getArgument(0, ConfigMap.class).getMetadata().getName());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testCoalescesAndNeverProcessesKeyConcurrently() throws InterruptedException {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(2);
+    AtomicInteger concurrent = new AtomicInteger();
+    AtomicInteger maxConcurrent = new AtomicInteger();
+    KeyedWorkQueue<ConfigMap> queue = new KeyedWorkQueue<ConfigMap>(informer, (key, obj) -> {
+      maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+      entered.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      concurrent.decrementAndGet();
+      done.countDown();
+    }, executor, 4).start();
+
+    queue.onAdd(configMap("a"));
+    assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+    // coalesced into a single reconcile after the current one
+    queue.onUpdate(configMap("a"), configMap("a"));
+    queue.onUpdate(configMap("a"), configMap("a"));
+    queue.onDelete(configMap("a"), false);
+    assertThat(queue.size()).isEqualTo(1);
+    release.countDown();
+
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(50);
+    assertThat(done.getCount()).isZero();
+    assertThat(maxConcurrent.get()).isEqualTo(1);
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void testRetriesWithBackoff() throws InterruptedException {
+    CountDownLatch attempts = new CountDownLatch(3);
+    KeyedWorkQueue<ConfigMap> queue = new KeyedWorkQueue<ConfigMap>(informer, (key, obj) -> {
+      attempts.countDown();
+      if (attempts.getCount() > 0) {
+        throw new IllegalStateException("not yet");
+      }
+    }, executor, 1).backoff(Duration.ofMillis(1), Duration.ofMillis(10)).start();
+
+    queue.enqueue("a");
+
+    assertThat(attempts.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(queue.backoffMillis(1)).isEqualTo(1);
+    assertThat(queue.backoffMillis(3)).isEqualTo(4);
+    assertThat(queue.backoffMillis(10)).isEqualTo(10);
+  }
+
+  @Test
+  void testRateLimit() throws InterruptedException {
+    CountDownLatch reconciled = new CountDownLatch(5);
+    KeyedWorkQueue<ConfigMap> queue = new KeyedWorkQueue<ConfigMap>(informer, (key, obj) -> reconciled.countDown(),
+        executor, 5).rateLimit(20, 1).start();
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 5; i++) {
+      queue.enqueue("key" + i);
+    }
+
+    assertThat(reconciled.await(10, TimeUnit.SECONDS)).isTrue();
+    // the first is immediate, each following one waits for a new token
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(150);
+  }
+
+  @Test
+  void testStopRemovesEventHandler() {
+    KeyedWorkQueue<ConfigMap> queue = new KeyedWorkQueue<ConfigMap>(informer, (key, obj) -> {
+    }, executor, 1).start();
+
+    queue.stop();
+
+    verify(informer).addEventHandler(queue);
+    verify(informer).removeEventHandler(queue);
+    assertThat(queue.size()).isZero();
+  }
+
+  private static ConfigMap configMap(String name) {
+    return new ConfigMapBuilder().withNewMetadata().withName(name).endMetadata().build();
+  }
+
+}
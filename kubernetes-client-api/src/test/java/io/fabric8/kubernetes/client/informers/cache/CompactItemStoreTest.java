@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CompactItemStoreTest {
+
+  @Test
+  void testStoreRestore() {
+    CompactItemStore<Pod> store = new CompactItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class);
+
+    Pod pod = pod("1");
+    assertNull(store.put("ns/x", pod));
+
+    // the most recent state is cached
+    assertSame(pod, store.get("ns/x"));
+
+    Pod updated = pod("2");
+    assertEquals(pod, store.put("ns/x", updated));
+    assertEquals(updated, store.get("ns/x"));
+    assertEquals("ns/x", store.getKey(updated));
+    assertEquals(1, store.size());
+    assertEquals("ns/x", store.keySet().collect(Collectors.joining()));
+
+    assertEquals(updated, store.remove("ns/x"));
+    assertNull(store.get("ns/x"));
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  void testWithoutCache() {
+    CompactItemStore<Pod> store = new CompactItemStore<>(Cache::metaNamespaceKeyFunc, Pod.class,
+        Serialization.jsonMapper(), 0);
+
+    Pod pod = pod("1");
+    store.put("ns/x", pod);
+
+    Pod restored = store.get("ns/x");
+    assertNotSame(pod, restored);
+    assertEquals(pod, restored);
+    assertEquals(pod, store.values().findFirst().orElse(null));
+    assertEquals(pod, store.put("ns/x", pod("2")));
+  }
+
+  private static Pod pod(String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withNamespace("ns").withName("x").withResourceVersion(resourceVersion)
+        .addToLabels("app", "test").endMetadata().withNewSpec().addNewContainer().withName("c").withImage("busybox")
+        .endContainer().endSpec().build();
+  }
+
+}
@@ -15,13 +15,23 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ReducedStateItemStoreTest {
 
@@ -54,4 +64,86 @@ class ReducedStateItemStoreTest {
     assertNotNull(store.remove("x"));
   }
 
+  @Test
+  void testEmptyValuesOfNonEmptyPropertiesAreNotStored() {
+    ReducedStateItemStore<Pod> store = new ReducedStateItemStore<>(ReducedStateItemStore.UID_KEY_STATE, Pod.class,
+        "metadata.labels", "metadata.ownerReferences", "metadata.annotations");
+
+    // the model initializes the labels, owner references and annotations with empty collections
+    Pod pod = new PodBuilder().withNewMetadata().withUid("x").withResourceVersion("2").endMetadata().build();
+
+    Object[] values = store.store(pod);
+
+    Map<?, ?> serialized = Serialization.jsonMapper().convertValue(pod.getMetadata(), Map.class);
+    assertNull(serialized.get("labels"));
+    assertNull(values[1]);
+    assertNull(values[2]);
+    assertNull(values[3]);
+  }
+
+  @Test
+  void testGetFieldValue() {
+    ReducedStateItemStore<Pod> store = new ReducedStateItemStore<>(ReducedStateItemStore.NAME_KEY_STATE, Pod.class,
+        "metadata.ownerReferences", "spec.nodeName");
+
+    Pod pod = new PodBuilder().withNewMetadata().withNamespace("ns").withName("y").withResourceVersion("2")
+        .addNewOwnerReference().withName("owner").withUid("z").endOwnerReference().endMetadata()
+        .withNewSpec().withNodeName("node").endSpec().build();
+    store.put("ns/y", pod);
+
+    assertEquals("node", store.getFieldValue("ns/y", "spec.nodeName", String.class));
+    assertEquals("2", store.getFieldValue("ns/y", "metadata.resourceVersion", String.class));
+    assertEquals("ns", store.getFieldValue("ns/y", "metadata.namespace", String.class));
+    assertEquals("y", store.getFieldValue("ns/y", "metadata.name", String.class));
+    List<?> ownerReferences = store.getFieldValue("ns/y", "metadata.ownerReferences", List.class);
+    assertEquals("owner", ((Map<?, ?>) ownerReferences.get(0)).get("name"));
+    assertNull(store.getFieldValue("ns/other", "spec.nodeName", String.class));
+    assertThrows(IllegalArgumentException.class, () -> store.getFieldValue("ns/y", "spec.hostname", String.class));
+
+    Pod restored = store.get("ns/y");
+    assertEquals(pod.getMetadata().getOwnerReferences(), restored.getMetadata().getOwnerReferences());
+    assertEquals("node", restored.getSpec().getNodeName());
+  }
+
+  @Test
+  void testGenericResourceFields() {
+    ReducedStateItemStore<GenericKubernetesResource> store = new ReducedStateItemStore<>(
+        ReducedStateItemStore.NAME_KEY_STATE, GenericKubernetesResource.class, "spec.replicas");
+
+    GenericKubernetesResource resource = new GenericKubernetesResource();
+    resource.setMetadata(new ObjectMetaBuilder().withName("x").withResourceVersion("1").build());
+    resource.setAdditionalProperty("spec", Collections.singletonMap("replicas", 3));
+
+    Object[] values = store.store(resource);
+
+    assertEquals("1", values[0]);
+    assertEquals(3, values[1]);
+  }
+
+  static class PodWithPriority extends Pod {
+    @JsonSerialize(using = ToStringSerializer.class)
+    public Integer getPriority() {
+      return 5;
+    }
+  }
+
+  @Test
+  void testPropertySerializerIsUsed() {
+    ReducedStateItemStore<Pod> store = new ReducedStateItemStore<>(ReducedStateItemStore.NAME_KEY_STATE, Pod.class,
+        "priority", "metadata.name");
+
+    PodWithPriority pod = new PodWithPriority();
+    pod.setMetadata(new ObjectMetaBuilder().withName("x").withResourceVersion("1").build());
+
+    Object[] values = store.store(pod);
+
+    Map<?, ?> serialized = Serialization.jsonMapper().convertValue(pod, Map.class);
+    assertEquals("5", serialized.get("priority"));
+    assertEquals(serialized.get("priority"), values[1]);
+    assertEquals("x", values[2]);
+    // a stored value holding a key field parent is merged with the key fields on restore
+    assertEquals("x", store.restore("ns/x", values).getMetadata().getName());
+    assertEquals("ns", store.restore("ns/x", values).getMetadata().getNamespace());
+  }
+
 }
@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.utils;
 
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.Interceptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,10 +28,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Answers;
+import org.mockito.Mockito;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +42,10 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class HttpClientUtilsTest {
 
@@ -79,6 +87,30 @@ class HttpClientUtilsTest {
     }
   }
 
+  @Test
+  void testApplyCommonConfigurationDoesNotLimitRequestsByDefault() {
+    Config config = new ConfigBuilder().withMasterUrl("https://localhost:8443").build();
+    HttpClient.Builder builder = Mockito.mock(HttpClient.Builder.class, Answers.RETURNS_SELF);
+
+    HttpClientUtils.applyCommonConfiguration(config, builder, null);
+
+    verify(builder, never()).maxConcurrentRequests(anyInt(), anyInt());
+    verify(builder, never()).connectionPool(anyInt(), anyLong(), Mockito.any());
+  }
+
+  @Test
+  void testApplyCommonConfigurationWithExplicitLimits() {
+    Config config = new ConfigBuilder().withMasterUrl("https://localhost:8443")
+        .withMaxConcurrentRequestsPerHost(10).build();
+    config.setConnectionPoolMaxIdleConnections(2);
+    HttpClient.Builder builder = Mockito.mock(HttpClient.Builder.class, Answers.RETURNS_SELF);
+
+    HttpClientUtils.applyCommonConfiguration(config, builder, null);
+
+    verify(builder).maxConcurrentRequests(Config.DEFAULT_MAX_CONCURRENT_REQUESTS, 10);
+    verify(builder).connectionPool(2, 0, TimeUnit.MILLISECONDS);
+  }
+
   @Nested
   @DisplayName("getProxyUrl")
   @TestInstance(PER_CLASS)
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class RateLimiterTest {
+
+  @Test
+  void unlimited() {
+    RateLimiter limiter = new RateLimiter(0, 0, true);
+
+    assertThat(limiter.isLimited()).isFalse();
+    assertThat(limiter.acquire()).isDone();
+  }
+
+  @Test
+  void burstThenWait() {
+    RateLimiter limiter = new RateLimiter(1, 2, false);
+
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    // the next request waits behind the previous reservation
+    assertThat(limiter.reserve()).isGreaterThan(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void tryAcquireDoesNotReserve() {
+    RateLimiter limiter = new RateLimiter(1, 1, false);
+
+    assertThat(limiter.tryAcquire()).isZero();
+    long wait = limiter.tryAcquire();
+    assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    // nothing was reserved by the failed attempt
+    assertThat(limiter.tryAcquire()).isLessThanOrEqualTo(wait);
+  }
+
+  @Test
+  void acquireCompletesAfterWait() {
+    RateLimiter limiter = new RateLimiter(10, 1, false);
+
+    limiter.acquire();
+    CompletableFuture<Void> next = limiter.acquire();
+
+    await().atMost(5, TimeUnit.SECONDS).until(next::isDone);
+  }
+
+  @Test
+  void adaptiveRateFollowsThrottling() {
+    RateLimiter limiter = new RateLimiter(100, 10, true);
+
+    limiter.throttled(0, TimeUnit.MILLISECONDS);
+    assertThat(limiter.getRate()).isEqualTo(50);
+
+    for (int i = 0; i < 5; i++) {
+      limiter.throttled(0, TimeUnit.MILLISECONDS);
+    }
+    assertThat(limiter.getRate()).isEqualTo(10);
+
+    limiter.succeeded();
+    assertThat(limiter.getRate()).isEqualTo(15);
+  }
+
+  @Test
+  void throttledHoldsBackForRetryAfter() {
+    RateLimiter limiter = new RateLimiter(100, 10, true);
+
+    limiter.throttled(2, TimeUnit.SECONDS);
+
+    assertThat(limiter.reserve()).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void notAdaptive() {
+    RateLimiter limiter = new RateLimiter(100, 10, false);
+
+    limiter.throttled(2, TimeUnit.SECONDS);
+
+    assertThat(limiter.getRate()).isEqualTo(100);
+    assertThat(limiter.reserve()).isZero();
+  }
+
+}
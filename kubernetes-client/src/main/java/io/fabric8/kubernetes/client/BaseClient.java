@@ -34,8 +34,11 @@ import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
 import io.fabric8.kubernetes.client.extension.ExtensionAdapter;
 import io.fabric8.kubernetes.client.extension.SupportTestingClient;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.informers.impl.SharedInformerRegistry;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
+import io.fabric8.kubernetes.client.utils.RateLimiter;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.RequestScheduler;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -79,6 +82,9 @@ public abstract class BaseClient implements Client {
   private Executor executor;
 
   private OperationContext operationContext;
+  private final SharedInformerRegistry sharedInformerRegistry;
+  private final RequestScheduler requestScheduler;
+  private final RateLimiter rateLimiter;
 
   BaseClient(Config config, BaseClient baseClient) {
     this.config = config;
@@ -88,6 +94,9 @@ public abstract class BaseClient implements Client {
     this.matchingGroupPredicate = baseClient.matchingGroupPredicate;
     this.executorSupplier = baseClient.executorSupplier;
     this.executor = baseClient.executor;
+    this.sharedInformerRegistry = baseClient.sharedInformerRegistry;
+    this.requestScheduler = baseClient.requestScheduler;
+    this.rateLimiter = baseClient.rateLimiter;
     setDerivedFields();
   }
 
@@ -96,6 +105,9 @@ public abstract class BaseClient implements Client {
     this.httpClient = httpClient;
     this.handlers = new Handlers();
     this.adapters = new Adapters(this.handlers);
+    this.sharedInformerRegistry = new SharedInformerRegistry();
+    this.requestScheduler = new RequestScheduler(config.getRequestPriorityClasses(), config.getMaxConcurrentRequests());
+    this.rateLimiter = new RateLimiter(config.getRequestsPerSecond(), config.getRequestsBurst(), config.isAdaptiveRateLimit());
     setDerivedFields();
     if (executorSupplier == null) {
       executorSupplier = DEFAULT_EXECUTOR_SUPPLIER;
@@ -334,4 +346,25 @@ public abstract class BaseClient implements Client {
     return executor;
   }
 
+  /**
+   * Return the registry of informers shared by this client and the clients derived from it
+   */
+  public SharedInformerRegistry getSharedInformerRegistry() {
+    return sharedInformerRegistry;
+  }
+
+  /**
+   * Return the scheduler of requests shared by this client and the clients derived from it
+   */
+  public RequestScheduler getRequestScheduler() {
+    return requestScheduler;
+  }
+
+  /**
+   * Return the rate limiter shared by this client and the clients derived from it
+   */
+  public RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
 }
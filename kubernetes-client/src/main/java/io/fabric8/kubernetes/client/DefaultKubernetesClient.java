@@ -124,6 +124,7 @@ import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.ReplicationControllerOperationsImpl;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.ServiceOperationsImpl;
 import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectorBuilder;
+import io.fabric8.kubernetes.client.extended.logs.PodLogAggregatorBuilder;
 import io.fabric8.kubernetes.client.extended.run.RunConfigBuilder;
 import io.fabric8.kubernetes.client.extended.run.RunOperations;
 import io.fabric8.kubernetes.client.http.HttpClient;
@@ -266,7 +267,20 @@ public class DefaultKubernetesClient extends BaseClient implements NamespacedKub
 
   @Override
   public LeaderElectorBuilder leaderElector() {
-    return new LeaderElectorBuilder(this, this.getExecutor());
+    DefaultKubernetesClient client = this;
+    if (getConfiguration().getRequestPriority() == null
+        && getRequestScheduler().isScheduled(RequestPriorityClass.LEADER_ELECTION)) {
+      // renewals must not queue behind the other requests of this client
+      Config copy = configCopy();
+      copy.setRequestPriority(RequestPriorityClass.LEADER_ELECTION);
+      client = newInstance(copy);
+    }
+    return new LeaderElectorBuilder(client, this.getExecutor());
+  }
+
+  @Override
+  public PodLogAggregatorBuilder podLogAggregator() {
+    return new PodLogAggregatorBuilder(this, this.getExecutor());
   }
 
   @Override
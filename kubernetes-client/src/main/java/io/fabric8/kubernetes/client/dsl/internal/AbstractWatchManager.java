@@ -15,8 +15,11 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
@@ -36,8 +39,12 @@ import io.fabric8.kubernetes.client.utils.internal.ExponentialBackoffIntervalCal
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +61,30 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractWatchManager.class);
 
+  /**
+   * Watch parameter requesting synthetic ADDED events for the current state, terminated by a bookmark
+   * with the {@link #INITIAL_EVENTS_END_ANNOTATION}.
+   */
+  public static final String SEND_INITIAL_EVENTS = "sendInitialEvents";
+  public static final String INITIAL_EVENTS_END_ANNOTATION = "k8s.io/initial-events-end";
+
+  /**
+   * May be implemented by a {@link Watcher} to monitor the underlying watch
+   */
+  public interface WatchMonitor {
+
+    /**
+     * Called with the time taken to decode each event
+     */
+    void eventDecoded(long nanos);
+
+    /**
+     * Called when a reconnect of the watch is scheduled
+     */
+    void reconnectScheduled();
+
+  }
+
   final Watcher<T> watcher;
   final AtomicReference<String> resourceVersion;
 
@@ -69,6 +100,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
   private URL requestUrl;
 
   private final boolean receiveBookmarks;
+  private final ObjectReader objectReader;
 
   AbstractWatchManager(
       Watcher<T> watcher, BaseOperation<T, ?, ?> baseOperation, ListOptions listOptions, int reconnectLimit,
@@ -85,6 +117,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       listOptions.setAllowWatchBookmarks(true);
     }
     this.baseOperation = baseOperation;
+    this.objectReader = objectReaderFor(baseOperation.getType());
     this.requestUrl = baseOperation.getNamespacedUrl();
     this.listOptions = listOptions;
     this.client = clientSupplier.get();
@@ -92,6 +125,17 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     startWatch();
   }
 
+  /**
+   * Resolves the reader used to decode the event object directly into the watched type,
+   * or null if the type is not concrete and must be determined from the kind / apiVersion.
+   */
+  static ObjectReader objectReaderFor(Class<?> type) {
+    if (type == null || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    return Serialization.jsonMapper().readerFor(type);
+  }
+
   protected abstract void start(URL url, Map<String, String> headers);
 
   protected abstract void closeRequest();
@@ -139,6 +183,9 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     }
 
     logger.debug("Scheduling reconnect task");
+    if (watcher instanceof WatchMonitor) {
+      ((WatchMonitor) watcher).reconnectScheduled();
+    }
 
     long delay = nextReconnectInterval();
 
@@ -183,6 +230,11 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
   }
 
   void eventReceived(Watcher.Action action, HasMetadata resource) {
+    if (action == Action.BOOKMARK && isInitialEventsEnd(resource)) {
+      // the initial state is complete, a reconnect should resume from the last version rather than resend it
+      listOptions.setResourceVersionMatch(null);
+      listOptions.getAdditionalProperties().remove(SEND_INITIAL_EVENTS);
+    }
     if (!receiveBookmarks && action == Action.BOOKMARK) {
       // the user didn't ask for bookmarks, just filter them
       return;
@@ -195,6 +247,17 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     watcher.eventReceived(action, (T) resource);
   }
 
+  /**
+   * Determine if the resource is the bookmark that marks the end of the initial events
+   *
+   * @param resource the bookmark resource
+   * @return true if the initial events are complete
+   */
+  public static boolean isInitialEventsEnd(HasMetadata resource) {
+    return resource != null && resource.getMetadata() != null && resource.getMetadata().getAnnotations() != null
+        && "true".equals(resource.getMetadata().getAnnotations().get(INITIAL_EVENTS_END_ANNOTATION));
+  }
+
   void updateResourceVersion(final String newResourceVersion) {
     resourceVersion.set(newResourceVersion);
   }
@@ -213,6 +276,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
     Map<String, String> headers = new HashMap<>();
     headers.put("Origin", origin);
+    headers.putAll(baseOperation.getReadHeaders(false));
 
     logger.debug("Watching {}...", url);
 
@@ -274,9 +338,103 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     return event;
   }
 
+  /**
+   * Decode the WatchEvent in a single streaming pass.
+   *
+   * @return the event, or null if the message is not a WatchEvent with an object
+   */
+  WatchEvent readWatchEvent(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return null;
+    }
+    WatchEvent event = new WatchEvent();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if ("type".equals(field)) {
+        event.setType(parser.getValueAsString());
+      } else if ("object".equals(field)) {
+        if (token != JsonToken.VALUE_NULL) {
+          event.setObject(readWatchObject(parser, event.getType()));
+        }
+      } else {
+        event.setAdditionalProperty(field, Serialization.jsonMapper().readValue(parser, Object.class));
+      }
+    }
+    if (event.getObject() == null) {
+      return null;
+    }
+    if (event.getType() == null) {
+      event.setType("MODIFIED");
+    }
+    return event;
+  }
+
+  private KubernetesResource readWatchObject(JsonParser parser, String type) throws IOException {
+    // the api server emits the type first, so we can usually use the watched type directly
+    // errors and events of unknown type still need to be resolved by kind / apiVersion
+    if (objectReader == null || type == null || Action.ERROR.name().equals(type)) {
+      return Serialization.jsonMapper().readValue(parser, KubernetesResource.class);
+    }
+    return objectReader.readValue(parser);
+  }
+
   protected void onMessage(String message) {
+    long start = System.nanoTime();
+    WatchEvent event = null;
+    try (JsonParser parser = Serialization.jsonMapper().getFactory().createParser(message)) {
+      event = readWatchEvent(parser);
+    } catch (Exception e) {
+      logger.debug("Could not stream the watch event, falling back", e);
+    }
+    if (event != null) {
+      decoded(start);
+    }
+    processWatchEvent(message, event);
+  }
+
+  protected void onMessage(ByteBuffer message) {
+    if (message.hasArray()) {
+      onMessage(message.array(), message.arrayOffset() + message.position(), message.remaining());
+    } else {
+      byte[] bytes = new byte[message.remaining()];
+      message.get(bytes);
+      onMessage(bytes, 0, bytes.length);
+    }
+  }
+
+  /**
+   * Handle a message without first decoding it to a String
+   */
+  protected void onMessage(byte[] bytes, int offset, int length) {
+    long start = System.nanoTime();
+    WatchEvent event = null;
+    try (JsonParser parser = Serialization.jsonMapper().getFactory().createParser(bytes, offset, length)) {
+      event = readWatchEvent(parser);
+    } catch (Exception e) {
+      logger.debug("Could not stream the watch event, falling back", e);
+    }
+    if (event != null) {
+      decoded(start);
+    }
+    if (event == null) {
+      processWatchEvent(new String(bytes, offset, length, StandardCharsets.UTF_8), null);
+    } else {
+      processWatchEvent(null, event);
+    }
+  }
+
+  private void decoded(long start) {
+    if (watcher instanceof WatchMonitor) {
+      ((WatchMonitor) watcher).eventDecoded(System.nanoTime() - start);
+    }
+  }
+
+  private void processWatchEvent(String message, WatchEvent event) {
     try {
-      WatchEvent event = readWatchEvent(message);
+      if (event == null) {
+        event = readWatchEvent(message);
+      }
       Object object = event.getObject();
       if (object instanceof Status) {
         Status status = (Status) object;
@@ -300,7 +458,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
         Action action = Action.valueOf(event.getType());
         eventReceived(action, obj);
       } else {
-        logger.error("Unknown message received: {}", message);
+        logger.error("Unknown message received: {}", message != null ? message : event);
       }
     } catch (ClassCastException e) {
       logger.error("Received wrong type of object for watch", e);
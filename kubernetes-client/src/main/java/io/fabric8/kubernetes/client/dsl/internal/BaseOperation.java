@@ -26,11 +26,14 @@ import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.api.model.StatusDetailsBuilder;
 import io.fabric8.kubernetes.api.model.autoscaling.v1.Scale;
 import io.fabric8.kubernetes.api.model.extensions.DeploymentRollback;
+import io.fabric8.kubernetes.client.BaseClient;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.KubernetesClientException;
@@ -67,13 +70,19 @@ import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -84,6 +93,7 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceList<T>, R extends Resource<T>>
     extends CreateOnlyResourceOperation<T, T>
@@ -388,6 +398,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     try {
       URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
       HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(fetchListUrl);
+      getReadHeaders(true).forEach(requestBuilder::setHeader);
       CompletableFuture<L> futureAnswer = handleResponse(httpClient, requestBuilder, listType, getParameters());
       return futureAnswer.thenApply(l -> {
         updateApiVersion(l);
@@ -407,6 +418,30 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public Stream<T> stream() {
+    return stream(new ListOptionsBuilder().withLimit(getLimit()).build());
+  }
+
+  @Override
+  public Stream<T> stream(ListOptions listOptions) {
+    // the options are updated for each page, so use a copy
+    ListOptions pageOptions = new ListOptionsBuilder(listOptions).build();
+    ListItemIterator<T> iterator = new ListItemIterator<>(continueVal -> {
+      pageOptions.setContinue(continueVal);
+      return openListPage(pageOptions);
+    }, getType(), this::updateApiVersion);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+        false).onClose(iterator::close);
+  }
+
+  private InputStream openListPage(ListOptions listOptions) throws IOException {
+    URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
+    HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(fetchListUrl);
+    getReadHeaders(true).forEach(requestBuilder::setHeader);
+    return waitForResult(handleStreamedResponse(requestBuilder.build()));
+  }
+
   /**
    * Override the options based upon the context / call
    */
@@ -638,6 +673,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   }
 
+  @Override
+  public FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadataOnly() {
+    return new PartialObjectMetadataOperationsImpl(context.withItem(null), isResourceNamespaced());
+  }
+
   @Override
   public T replace() {
     throw new KubernetesClientException(READ_ONLY_UPDATE_EXCEPTION_MESSAGE);
@@ -963,6 +1003,42 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return createInformer(resync, context.getExecutor());
   }
 
+  @Override
+  public SharedIndexInformer<T> runnableSharedInformer(long resync) {
+    // the key must cover everything that affects the list/watch, including the identity it is made with
+    List<Object> key = Arrays.asList(getType(), identityKey(context.getConfig()), getApiEndpointPath(), getName(),
+        context.getLabelQueryParam(), context.getFieldQueryParam(), this.limit, resync);
+    return context.getClient().adapt(BaseClient.class).getSharedInformerRegistry().informerFor(key,
+        () -> createInformer(resync, context.getExecutor()));
+  }
+
+  /**
+   * The server and identity requests are made with. Credentials are only included as a digest, so that they are not
+   * kept by the key. The token of an auth or token provider is not included, as it is refreshed for the same identity.
+   */
+  static List<Object> identityKey(Config config) {
+    String token = config.getAuthProvider() == null && config.getOauthTokenProvider() == null ? config.getOauthToken()
+        : null;
+    return Arrays.asList(config.getMasterUrl(), config.getUsername(), digest(token, config.getPassword()),
+        config.getAuthProvider() == null ? null : config.getAuthProvider().getName(), config.getOauthTokenProvider(),
+        config.getImpersonateUsername(),
+        config.getImpersonateGroups() == null ? null : Arrays.asList(config.getImpersonateGroups()),
+        config.getImpersonateExtras());
+  }
+
+  private static String digest(String... values) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String value : values) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      return Base64.getEncoder().encodeToString(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   private DefaultSharedIndexInformer<T, L> createInformer(long resync, Executor executor) {
     T i = getItem();
     if (Utils.isNotNullOrEmpty(getName()) && i != null) {
@@ -1002,6 +1078,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
       urlBuilder.addQueryParameter("resourceVersion", listOptions.getResourceVersion());
     }
 
+    if (listOptions.getResourceVersionMatch() != null) {
+      urlBuilder.addQueryParameter("resourceVersionMatch", listOptions.getResourceVersionMatch());
+    }
+
     if (listOptions.getTimeoutSeconds() != null) {
       urlBuilder.addQueryParameter("timeoutSeconds", listOptions.getTimeoutSeconds().toString());
     }
@@ -1010,6 +1090,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
       urlBuilder.addQueryParameter("allowWatchBookmarks", listOptions.getAllowWatchBookmarks().toString());
     }
 
+    Object sendInitialEvents = listOptions.getAdditionalProperties().get(AbstractWatchManager.SEND_INITIAL_EVENTS);
+    if (sendInitialEvents != null) {
+      urlBuilder.addQueryParameter(AbstractWatchManager.SEND_INITIAL_EVENTS, sendInitialEvents.toString());
+    }
+
     if (listOptions.getWatch() != null) {
       urlBuilder.addQueryParameter(WATCH, listOptions.getWatch().toString());
     }
@@ -1080,4 +1165,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return parts.stream().collect(Collectors.joining("/"));
   }
 
+  @Override
+  public String getSelectors() {
+    return String.format("name=%s labels=%s fields=%s", getName(), context.getLabelQueryParam(),
+        context.getFieldQueryParam());
+  }
+
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits a byte stream into lines, using the same line terminators as {@link java.io.BufferedReader},
+ * without decoding the content.
+ * <br>
+ * The backing array is reused, so the consumer must not retain a reference to it.
+ */
+class LineBuffer {
+
+  @FunctionalInterface
+  interface LineConsumer {
+    void accept(byte[] bytes, int offset, int length);
+  }
+
+  private static final int INITIAL_CAPACITY = 8192;
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private int size;
+  private boolean skipLineFeed;
+
+  /**
+   * Append the remaining bytes, passing each completed line to the consumer
+   */
+  void append(ByteBuffer data, LineConsumer consumer) {
+    while (data.hasRemaining()) {
+      byte b = data.get();
+      if (skipLineFeed) {
+        skipLineFeed = false;
+        if (b == '\n') {
+          continue;
+        }
+      }
+      if (b == '\n' || b == '\r') {
+        skipLineFeed = b == '\r';
+        flush(consumer);
+      } else {
+        if (size == buffer.length) {
+          buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[size++] = b;
+      }
+    }
+  }
+
+  /**
+   * Pass any remaining partial line to the consumer
+   */
+  void flush(LineConsumer consumer) {
+    if (size > 0) {
+      int length = size;
+      size = 0;
+      consumer.accept(buffer, 0, length);
+    }
+  }
+
+}
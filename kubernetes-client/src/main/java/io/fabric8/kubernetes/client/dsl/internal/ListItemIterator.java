@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Iterates over the items of a paged list response, deserializing them one at a time directly from the
+ * response stream.
+ * <br>
+ * The next page is requested with the continue token only after the current page has been exhausted.
+ */
+class ListItemIterator<T> implements Iterator<T>, Closeable {
+
+  @FunctionalInterface
+  interface PageSupplier {
+    /**
+     * @param continueVal the continue token, or null for the first page
+     * @return the response body of the page
+     */
+    InputStream open(String continueVal) throws IOException;
+  }
+
+  private static final String ITEMS = "items";
+  private static final String METADATA = "metadata";
+
+  private final PageSupplier pageSupplier;
+  private final ObjectReader itemReader;
+  private final Consumer<T> itemProcessor;
+
+  private JsonParser parser;
+  private String continueVal;
+  private boolean lastPage;
+  private T next;
+
+  ListItemIterator(PageSupplier pageSupplier, Class<T> itemType, Consumer<T> itemProcessor) {
+    this.pageSupplier = pageSupplier;
+    this.itemReader = Serialization.jsonMapper().readerFor(itemType);
+    this.itemProcessor = itemProcessor;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      try {
+        next = nextItem();
+      } catch (IOException e) {
+        close();
+        throw KubernetesClientException.launderThrowable(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T result = next;
+    next = null;
+    return result;
+  }
+
+  private T nextItem() throws IOException {
+    while (true) {
+      if (parser == null) {
+        if (lastPage) {
+          return null;
+        }
+        openPage();
+        continue;
+      }
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.START_OBJECT) {
+        T item = itemReader.readValue(parser);
+        itemProcessor.accept(item);
+        return item;
+      } else if (token == JsonToken.END_ARRAY || token == null) {
+        finishPage();
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  /**
+   * Open the next page and position the parser at the start of the items array
+   */
+  private void openPage() throws IOException {
+    String continueToken = continueVal;
+    continueVal = null;
+    lastPage = true;
+    parser = Serialization.jsonMapper().getFactory().createParser(pageSupplier.open(continueToken));
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("Expected a list object");
+    }
+    if (!readFieldsUntilItems()) {
+      finishPage();
+    }
+  }
+
+  /**
+   * Reads the remaining fields of the list, which may include the metadata, and closes the page
+   */
+  private void finishPage() throws IOException {
+    readFieldsUntilItems();
+    closeParser();
+    lastPage = Utils.isNullOrEmpty(continueVal);
+  }
+
+  /**
+   * @return true if the parser is now positioned at the start of the items array
+   */
+  private boolean readFieldsUntilItems() throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if (ITEMS.equals(field) && token == JsonToken.START_ARRAY) {
+        return true;
+      } else if (METADATA.equals(field) && token == JsonToken.START_OBJECT) {
+        ListMeta metadata = Serialization.jsonMapper().readValue(parser, ListMeta.class);
+        continueVal = metadata.getContinue();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return false;
+  }
+
+  private void closeParser() throws IOException {
+    JsonParser toClose = parser;
+    parser = null;
+    if (toClose != null) {
+      toClose.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    lastPage = true;
+    next = null;
+    try {
+      closeParser();
+    } catch (IOException e) {
+      // ignored
+    }
+  }
+
+}
@@ -0,0 +1,392 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.ExponentialBackoffIntervalCalculator;
+import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Follows a log stream and delivers it line by line to a {@link LogLineListener}.
+ * <p>
+ * Bytes are split on '\n' into a reused buffer and decoded into a reused {@link CharBuffer}, so no
+ * String is allocated per line. The stream is requested with timestamps, which are parsed from the line
+ * prefix. On failure the stream is re-established with sinceTime set to the last delivered timestamp.
+ * sinceTime only has second precision, so lines older than the last delivered one, and as many lines
+ * with exactly that timestamp as were already delivered, are skipped.
+ * <p>
+ * A stream the server ends before the logged resource has finished, e.g. while its container still runs, is
+ * re-established as well, regardless of the retry limit, so that it is only closed by the caller, once there is
+ * nothing more to follow or when it fails.
+ */
+public class LogLineWatchCallback implements LogWatch, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LogLineWatchCallback.class);
+
+  static final int INITIAL_LINE_BUFFER_SIZE = 8 * 1024;
+  private static final int MAX_RETRY_INTERVAL_EXPONENT = 5;
+
+  /**
+   * Provides the log url, which must request timestamps and follow the log
+   */
+  @FunctionalInterface
+  public interface LogUrlProvider {
+    /**
+     * @param sinceTime the RFC3339 time to resume from, or null for the initial request
+     * @return the url
+     */
+    URL getUrl(String sinceTime) throws MalformedURLException;
+  }
+
+  private final LogLineListener listener;
+  private final BooleanSupplier finished;
+  private final Executor executor;
+  private final SerialExecutor serialExecutor;
+  private final int retryLimit;
+  private final ExponentialBackoffIntervalCalculator retryIntervalCalculator;
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final CompletableFuture<Throwable> onClose = new CompletableFuture<>();
+  private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private final ParsePosition parsePosition = new ParsePosition(0);
+
+  private HttpClient client;
+  private LogUrlProvider urlProvider;
+  private volatile HttpClient.AsyncBody asyncBody;
+  private int retries;
+
+  // only accessed from the serialExecutor
+  private ByteBuffer lineBytes = ByteBuffer.allocate(INITIAL_LINE_BUFFER_SIZE);
+  private CharBuffer lineChars = CharBuffer.allocate(INITIAL_LINE_BUFFER_SIZE);
+  private Instant lastTimestamp;
+  private int deliveredAtLastTimestamp;
+  private Instant resumeTimestamp;
+  private int skipAtResumeTimestamp;
+
+  /**
+   * @param finished true once the logged resource has finished and an ended stream is complete, it may query the
+   *        server
+   */
+  public LogLineWatchCallback(LogLineListener listener, BooleanSupplier finished, Executor executor, int retryLimit,
+      int retryInterval) {
+    this.listener = listener;
+    this.finished = finished;
+    this.executor = executor;
+    this.serialExecutor = new SerialExecutor(executor);
+    this.retryLimit = retryLimit;
+    this.retryIntervalCalculator = new ExponentialBackoffIntervalCalculator(retryInterval, MAX_RETRY_INTERVAL_EXPONENT);
+  }
+
+  /**
+   * Follows the log of the resource of the operation, retrying as configured for its requests
+   *
+   * @param urlProvider provides the log url, which must request timestamps and follow the log
+   * @param finished true once the logged resource has finished and an ended stream is complete
+   */
+  public static LogWatch watch(OperationSupport operation, LogLineListener listener, LogUrlProvider urlProvider,
+      BooleanSupplier finished) {
+    LogLineWatchCallback callback = new LogLineWatchCallback(listener, finished, operation.context.getExecutor(),
+        operation.getConfig().getRequestRetryBackoffLimit(), operation.getConfig().getRequestRetryBackoffInterval());
+    return callback.call(operation.httpClient, urlProvider);
+  }
+
+  public LogLineWatchCallback call(HttpClient client, LogUrlProvider urlProvider) {
+    this.client = client.newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build();
+    this.urlProvider = urlProvider;
+    connect(null);
+    return this;
+  }
+
+  private void connect(String sinceTime) {
+    if (closed.get()) {
+      return;
+    }
+    final HttpRequest request;
+    try {
+      request = client.newHttpRequestBuilder().url(urlProvider.getUrl(sinceTime)).build();
+    } catch (MalformedURLException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+    client.consumeBytes(request, (buffers, a) -> CompletableFuture.runAsync(() -> onBytes(buffers), serialExecutor)
+        .whenComplete((v, t) -> {
+          if (t != null) {
+            a.cancel();
+            onFailure(t);
+          } else if (!closed.get()) {
+            a.consume();
+          } else {
+            a.cancel();
+          }
+        })).whenComplete((r, e) -> {
+          if (e != null) {
+            onFailure(e);
+            return;
+          }
+          if (!r.isSuccessful()) {
+            r.body().cancel();
+            onFailure(new KubernetesClientException("Log request failed with code " + r.code(), r.code(), null));
+            return;
+          }
+          asyncBody = r.body();
+          if (closed.get()) {
+            r.body().cancel();
+            return;
+          }
+          r.body().consume();
+          r.body().done().whenComplete((v, t) -> {
+            if (t != null) {
+              onFailure(t);
+            } else if (!closed.get()) {
+              serialExecutor.execute(this::onEnd);
+            }
+          });
+        });
+  }
+
+  @Override
+  public InputStream getOutput() {
+    return null;
+  }
+
+  @Override
+  public CompletionStage<Throwable> onClose() {
+    return onClose;
+  }
+
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    HttpClient.AsyncBody body = asyncBody;
+    if (body != null) {
+      body.cancel();
+    }
+    serialExecutor.shutdownNow();
+    onClose.complete(null);
+  }
+
+  void onBytes(List<ByteBuffer> buffers) {
+    for (ByteBuffer buffer : buffers) {
+      onBytes(buffer);
+    }
+  }
+
+  void onBytes(ByteBuffer buffer) {
+    while (buffer.hasRemaining()) {
+      int start = buffer.position();
+      int end = start;
+      int limit = buffer.limit();
+      while (end < limit && buffer.get(end) != '\n') {
+        end++;
+      }
+      appendLineBytes(buffer, end);
+      if (end < limit) {
+        buffer.position(end + 1);
+        emitLine();
+      }
+    }
+  }
+
+  private void appendLineBytes(ByteBuffer buffer, int end) {
+    int length = end - buffer.position();
+    if (lineBytes.remaining() < length) {
+      ByteBuffer larger = ByteBuffer.allocate(Math.max(lineBytes.capacity() * 2, lineBytes.position() + length));
+      lineBytes.flip();
+      larger.put(lineBytes);
+      lineBytes = larger;
+    }
+    int limit = buffer.limit();
+    buffer.limit(end);
+    lineBytes.put(buffer);
+    buffer.limit(limit);
+  }
+
+  private void emitLine() {
+    lineBytes.flip();
+    if (lineChars.capacity() < lineBytes.remaining()) {
+      // a UTF-8 line never decodes to more chars than it has bytes
+      lineChars = CharBuffer.allocate(Math.max(lineChars.capacity() * 2, lineBytes.remaining()));
+    }
+    lineChars.clear();
+    decoder.reset();
+    decoder.decode(lineBytes, lineChars, true);
+    decoder.flush(lineChars);
+    lineChars.flip();
+    lineBytes.clear();
+
+    Instant timestamp = parseTimestamp(lineChars);
+    if (timestamp != null) {
+      if (resumeTimestamp != null) {
+        if (timestamp.isBefore(resumeTimestamp)) {
+          return;
+        }
+        if (timestamp.equals(resumeTimestamp) && skipAtResumeTimestamp > 0) {
+          skipAtResumeTimestamp--;
+          return;
+        }
+        resumeTimestamp = null;
+      }
+      if (timestamp.equals(lastTimestamp)) {
+        deliveredAtLastTimestamp++;
+      } else {
+        lastTimestamp = timestamp;
+        deliveredAtLastTimestamp = 1;
+      }
+    }
+    retries = 0;
+    listener.onLine(timestamp, lineChars);
+  }
+
+  /**
+   * Parses the RFC3339 timestamp prefix and positions the line after it
+   */
+  private Instant parseTimestamp(CharBuffer line) {
+    int space = 0;
+    int limit = line.limit();
+    while (space < limit && line.get(space) != ' ') {
+      space++;
+    }
+    if (space == limit) {
+      return null;
+    }
+    parsePosition.setIndex(0);
+    parsePosition.setErrorIndex(-1);
+    try {
+      Instant timestamp = Instant.from(DateTimeFormatter.ISO_INSTANT.parse(line, parsePosition));
+      if (parsePosition.getIndex() != space) {
+        return null;
+      }
+      line.position(space + 1);
+      return timestamp;
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  private void onEnd() {
+    if (closed.get()) {
+      return;
+    }
+    try {
+      if (!finished.getAsBoolean()) {
+        // not a failure, backed off while no lines arrive
+        reconnect(new IOException("The log stream ended before the logged resource finished"));
+        return;
+      }
+    } catch (RuntimeException e) {
+      retryOrClose(e);
+      return;
+    }
+    if (lineBytes.position() > 0) {
+      emitLine();
+    }
+    if (closed.compareAndSet(false, true)) {
+      listener.onClose(null);
+      serialExecutor.shutdownNow();
+      onClose.complete(null);
+    }
+  }
+
+  void onFailure(Throwable t) {
+    if (closed.get()) {
+      return;
+    }
+    serialExecutor.execute(() -> retryOrClose(t));
+  }
+
+  /**
+   * Only called from the serialExecutor
+   */
+  private void retryOrClose(Throwable t) {
+    if (closed.get()) {
+      return;
+    }
+    if (retries < retryLimit && isRetryable(t)) {
+      reconnect(t);
+    } else if (closed.compareAndSet(false, true)) {
+      LOGGER.error("Log Callback Failure.", t);
+      listener.onClose(t);
+      serialExecutor.shutdownNow();
+      onClose.complete(t);
+    }
+  }
+
+  /**
+   * Only called from the serialExecutor
+   */
+  private void reconnect(Throwable cause) {
+    // the partial line will be sent again
+    lineBytes.clear();
+    long retryInterval = retryIntervalCalculator.getInterval(retries++);
+    String sinceTime = null;
+    if (lastTimestamp != null) {
+      resumeTimestamp = lastTimestamp;
+      skipAtResumeTimestamp = deliveredAtLastTimestamp;
+      sinceTime = lastTimestamp.truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+    LOGGER.debug("Log stream ended, reconnecting after {} millis from {}", retryInterval, sinceTime, cause);
+    listener.onReconnect(lastTimestamp, cause);
+    String resumeFrom = sinceTime;
+    Utils.schedule(executor, () -> connect(resumeFrom), retryInterval, TimeUnit.MILLISECONDS);
+  }
+
+  private static boolean isRetryable(Throwable t) {
+    Throwable cause = t;
+    while (cause != null) {
+      if (cause instanceof IOException) {
+        return true;
+      }
+      // a client exception without a code wraps the actual failure
+      if (cause instanceof KubernetesClientException && ((KubernetesClientException) cause).getCode() > 0) {
+        return ((KubernetesClientException) cause).getCode() >= 500;
+      }
+      cause = cause.getCause();
+    }
+    return false;
+  }
+
+}
@@ -32,6 +32,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,6 +46,7 @@ public class LogWatchCallback implements LogWatch, AutoCloseable {
   private volatile InputStream output;
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final CompletableFuture<Throwable> onClose = new CompletableFuture<>();
   private volatile Optional<HttpClient.AsyncBody> asyncBody = Optional.empty();
   private final SerialExecutor serialExecutor;
 
@@ -67,6 +69,7 @@ public class LogWatchCallback implements LogWatch, AutoCloseable {
     }
     asyncBody.ifPresent(HttpClient.AsyncBody::cancel);
     serialExecutor.shutdownNow();
+    onClose.complete(null);
   }
 
   public LogWatchCallback callAndWait(HttpClient client, URL url) {
@@ -129,6 +132,11 @@ public class LogWatchCallback implements LogWatch, AutoCloseable {
     return output;
   }
 
+  @Override
+  public CompletionStage<Throwable> onClose() {
+    return onClose;
+  }
+
   public void onFailure(Throwable u) {
     //If we have closed the watch ignore everything
     if (closed.get()) {
@@ -136,6 +144,7 @@ public class LogWatchCallback implements LogWatch, AutoCloseable {
     }
 
     LOGGER.error("Log Callback Failure.", u);
+    onClose.complete(u);
     cleanUp();
   }
 
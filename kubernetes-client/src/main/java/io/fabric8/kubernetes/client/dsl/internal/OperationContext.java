@@ -24,7 +24,9 @@ import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ResourceHandler;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
+import io.fabric8.kubernetes.client.utils.RateLimiter;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.RequestScheduler;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -490,4 +492,20 @@ public class OperationContext {
     return getClient().adapt(BaseClient.class).getExecutor();
   }
 
+  public RequestScheduler getRequestScheduler() {
+    if (client == null) {
+      return null;
+    }
+    BaseClient baseClient = client.adapt(BaseClient.class);
+    return baseClient == null ? null : baseClient.getRequestScheduler();
+  }
+
+  public RateLimiter getRateLimiter() {
+    if (client == null) {
+      return null;
+    }
+    BaseClient baseClient = client.adapt(BaseClient.class);
+    return baseClient == null ? null : baseClient.getRateLimiter();
+  }
+
 }
@@ -38,14 +38,18 @@ import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.internal.PatchUtils;
 import io.fabric8.kubernetes.client.internal.VersionUsageUtils;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
+import io.fabric8.kubernetes.client.utils.RateLimiter;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.client.utils.internal.ExponentialBackoffIntervalCalculator;
+import io.fabric8.kubernetes.client.utils.internal.RequestScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
@@ -58,8 +62,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class OperationSupport {
@@ -73,6 +79,9 @@ public class OperationSupport {
   private static final Logger LOG = LoggerFactory.getLogger(OperationSupport.class);
   private static final String CLIENT_STATUS_FLAG = "CLIENT_STATUS_FLAG";
   private static final int MAX_RETRY_INTERVAL_EXPONENT = 5;
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final String RETRY_AFTER_HEADER = "Retry-After";
+  private static final String PRIORITY_LEVEL_HEADER = "X-Kubernetes-PF-PriorityLevel-UID";
 
   protected OperationContext context;
   protected final HttpClient httpClient;
@@ -466,6 +475,7 @@ public class OperationSupport {
    */
   protected <T> T handleGet(URL resourceUrl, Class<T> type) throws InterruptedException, IOException {
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(resourceUrl);
+    getReadHeaders(false).forEach(requestBuilder::setHeader);
     return handleResponse(requestBuilder, type, getParameters());
   }
 
@@ -473,6 +483,16 @@ public class OperationSupport {
     return Collections.emptyMap();
   }
 
+  /**
+   * Additional headers of the requests that read resources
+   *
+   * @param list true for a list request, false for a get or watch
+   * @return the headers
+   */
+  protected Map<String, String> getReadHeaders(boolean list) {
+    return Collections.emptyMap();
+  }
+
   protected <T extends HasMetadata> T handleApproveOrDeny(T csr, Class<T> type) throws IOException, InterruptedException {
     String uri = URLUtils.join(getResourceUrl(null, csr.getMetadata().getName(), false).toString(), "approval");
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
@@ -592,11 +612,87 @@ public class OperationSupport {
     });
   }
 
+  /**
+   * Send a request whose response body is read as a stream, with the same retries, rate limiting and
+   * scheduling as {@link #handleResponse(HttpClient, HttpRequest.Builder, Class, Map)}.
+   * <br>
+   * The scheduler slot of the request is held until the returned stream is closed.
+   *
+   * @param request the request
+   * @return the body of the successful response
+   */
+  protected CompletableFuture<InputStream> handleStreamedResponse(HttpRequest request) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    CompletableFuture<HttpResponse<InputStream>> futureResponse = new CompletableFuture<>();
+    retryWithExponentialBackoff(futureResponse, new AtomicInteger(), httpClient, request, InputStream.class, true);
+
+    return futureResponse.thenApply(response -> {
+      try {
+        assertResponseCode(request, response);
+      } catch (KubernetesClientException e) {
+        Utils.closeQuietly(response.body());
+        releaseSlot();
+        throw e;
+      }
+      AtomicBoolean released = new AtomicBoolean();
+      return new FilterInputStream(response.body()) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            if (released.compareAndSet(false, true)) {
+              releaseSlot();
+            }
+          }
+        }
+      };
+    });
+  }
+
+  private void releaseSlot() {
+    RequestScheduler scheduler = context.getRequestScheduler();
+    if (scheduler != null) {
+      scheduler.release(config != null ? config.getRequestPriority() : null);
+    }
+  }
+
   protected void retryWithExponentialBackoff(CompletableFuture<HttpResponse<byte[]>> result,
       AtomicInteger numRetries,
       HttpClient client, HttpRequest request) {
-    client.sendAsync(request, byte[].class)
-        .whenComplete((response, throwable) -> {
+    retryWithExponentialBackoff(result, numRetries, client, request, byte[].class, false);
+  }
+
+  /**
+   * @param holdSlot if true, the scheduler slot is not released when the result is completed with a response,
+   *        the caller must release it with {@link #releaseSlot()} instead
+   */
+  private <T> void retryWithExponentialBackoff(CompletableFuture<HttpResponse<T>> result, AtomicInteger numRetries,
+      HttpClient client, HttpRequest request, Class<T> type, boolean holdSlot) {
+    RequestScheduler scheduler = context.getRequestScheduler();
+    String priority = config != null ? config.getRequestPriority() : null;
+    RateLimiter rateLimiter = context.getRateLimiter();
+    // the token is taken before the slot, a slot must not be held while waiting for the rate limit
+    // otherwise requests of other priorities queue behind it
+    CompletableFuture<Void> dispatched = rateLimiter != null ? rateLimiter.acquire()
+        : CompletableFuture.completedFuture(null);
+    if (scheduler != null) {
+      dispatched = dispatched.thenCompose(v -> scheduler.acquire(priority));
+    }
+    dispatched.thenCompose(v -> client.sendAsync(request, type))
+        .whenComplete((response, t) -> {
+          // failures of the send are wrapped by the composition
+          Throwable throwable = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+          if (scheduler != null && (!holdSlot || response == null)) {
+            scheduler.release(priority);
+          }
+          if (rateLimiter != null && response != null) {
+            if (isThrottled(response)) {
+              rateLimiter.throttled(getRetryAfterMillis(response), TimeUnit.MILLISECONDS);
+            } else {
+              rateLimiter.succeeded();
+            }
+          }
           int retries = numRetries.getAndIncrement();
           if (retries < requestRetryBackoffLimit) {
             long retryInterval = retryIntervalCalculator.getInterval(retries);
@@ -605,14 +701,29 @@ public class OperationSupport {
               LOG.debug("HTTP operation on url: {} should be retried as the response code was {}, retrying after {} millis",
                   request.uri(), response.code(), retryInterval);
               retry = true;
+            } else if (response != null && isFlowControlRejection(response)) {
+              retryInterval = Math.max(retryInterval, getRetryAfterMillis(response));
+              LOG.debug("HTTP operation on url: {} was rejected by the priority level {}, retrying after {} millis",
+                  request.uri(), response.headers(PRIORITY_LEVEL_HEADER), retryInterval);
+              if (scheduler != null) {
+                scheduler.pause(priority, retryInterval, TimeUnit.MILLISECONDS);
+              }
+              retry = true;
             } else if (throwable instanceof IOException) {
               LOG.debug(String.format("HTTP operation on url: %s should be retried after %d millis because of IOException",
                   request.uri(), retryInterval), throwable);
               retry = true;
             }
             if (retry) {
+              if (response != null) {
+                closeBody(response);
+              }
+              if (scheduler != null && holdSlot && response != null) {
+                scheduler.release(priority);
+              }
               Utils.schedule(context.getExecutor(),
-                  () -> retryWithExponentialBackoff(result, numRetries, client, request), retryInterval, TimeUnit.MILLISECONDS);
+                  () -> retryWithExponentialBackoff(result, numRetries, client, request, type, holdSlot), retryInterval,
+                  TimeUnit.MILLISECONDS);
               return;
             }
           }
@@ -624,6 +735,41 @@ public class OperationSupport {
         });
   }
 
+  private static void closeBody(HttpResponse<?> response) {
+    Object body = response.body();
+    if (body instanceof Closeable) {
+      Utils.closeQuietly((Closeable) body);
+    }
+  }
+
+  /**
+   * A 429 marked with the API Priority and Fairness headers means the server is shedding load, unlike
+   * for example an eviction refused by a disruption budget
+   */
+  static boolean isFlowControlRejection(HttpResponse<?> response) {
+    return response.code() == HTTP_TOO_MANY_REQUESTS && !response.headers(PRIORITY_LEVEL_HEADER).isEmpty();
+  }
+
+  /**
+   * A 429 from the priority and fairness, or any other throttling that asks the client to retry after some time
+   */
+  static boolean isThrottled(HttpResponse<?> response) {
+    return isFlowControlRejection(response)
+        || (response.code() == HTTP_TOO_MANY_REQUESTS && !response.headers(RETRY_AFTER_HEADER).isEmpty());
+  }
+
+  static long getRetryAfterMillis(HttpResponse<?> response) {
+    List<String> retryAfter = response.headers(RETRY_AFTER_HEADER);
+    if (!retryAfter.isEmpty()) {
+      try {
+        return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.get(0).trim()));
+      } catch (NumberFormatException e) {
+        // an http-date, fall back to the backoff interval
+      }
+    }
+    return 0;
+  }
+
   /**
    * Checks if the response status code is the expected and throws the appropriate KubernetesClientException if not.
    *
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Operations on the {@link PartialObjectMetadata} representation of the resources described by the context.
+ * <p>
+ * The representation is read-only, writing it would create or replace the resources with only their metadata, so
+ * creates, updates and patches throw a {@link KubernetesClientException}. Deletes act on the resources themselves.
+ */
+public class PartialObjectMetadataOperationsImpl
+    extends HasMetadataOperation<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> {
+
+  private static final String ACCEPT = "application/json;as=%s;g=meta.k8s.io;v=v1";
+  private static final String READ_ONLY_EXCEPTION_MESSAGE = "Cannot write the metadata-only representation of "
+      + "resources, use the operations of the full resources instead";
+
+  private final boolean namespaced;
+
+  public PartialObjectMetadataOperationsImpl(OperationContext context, boolean namespaced) {
+    super(context, PartialObjectMetadata.class, PartialObjectMetadataList.class);
+    this.namespaced = namespaced;
+  }
+
+  @Override
+  public PartialObjectMetadataOperationsImpl newInstance(OperationContext context) {
+    return new PartialObjectMetadataOperationsImpl(context, namespaced);
+  }
+
+  @Override
+  public boolean isResourceNamespaced() {
+    return namespaced;
+  }
+
+  @Override
+  protected Map<String, String> getReadHeaders(boolean list) {
+    return Collections.singletonMap("Accept",
+        String.format(ACCEPT, list ? PartialObjectMetadataList.class.getSimpleName()
+            : PartialObjectMetadata.class.getSimpleName()));
+  }
+
+  @Override
+  protected PartialObjectMetadata handleCreate(PartialObjectMetadata resource) {
+    throw new KubernetesClientException(READ_ONLY_EXCEPTION_MESSAGE);
+  }
+
+  @Override
+  protected PartialObjectMetadata handleUpdate(PartialObjectMetadata updated, boolean status) {
+    throw new KubernetesClientException(READ_ONLY_EXCEPTION_MESSAGE);
+  }
+
+  @Override
+  protected PartialObjectMetadata handlePatch(PatchContext context, PartialObjectMetadata current,
+      PartialObjectMetadata updated, boolean status) {
+    throw new KubernetesClientException(READ_ONLY_EXCEPTION_MESSAGE);
+  }
+
+  @Override
+  protected <T> T handlePatch(PatchContext patchContext, T current, String patchForUpdate, Class<T> type,
+      boolean status) {
+    throw new KubernetesClientException(READ_ONLY_EXCEPTION_MESSAGE);
+  }
+
+}
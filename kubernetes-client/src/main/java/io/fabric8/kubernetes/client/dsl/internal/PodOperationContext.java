@@ -66,6 +66,9 @@ public class PodOperationContext {
   private String file;
   private String dir;
   private boolean terminateOnError;
+  private long chunkSize;
+  private int chunkConcurrency;
+  private boolean deltaSync;
 
   public PodOperationContext withContainerId(String containerId) {
     return this.toBuilder().containerId(containerId).build();
@@ -123,6 +126,14 @@ public class PodOperationContext {
     return this.toBuilder().dir(dir).build();
   }
 
+  public PodOperationContext withChunking(long chunkSize, int chunkConcurrency) {
+    return this.toBuilder().chunkSize(chunkSize).chunkConcurrency(chunkConcurrency).build();
+  }
+
+  public PodOperationContext withDeltaSync(boolean deltaSync) {
+    return this.toBuilder().deltaSync(deltaSync).build();
+  }
+
   public PodOperationContext withLogWaitTimeout(Integer logWaitTimeout) {
     return this.toBuilder().logWaitTimeout(logWaitTimeout).build();
   }
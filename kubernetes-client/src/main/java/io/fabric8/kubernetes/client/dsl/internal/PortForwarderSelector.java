@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Multiplexes the local sockets of all the port forwards over a single daemon thread.
+ * <p>
+ * The channels are non-blocking, so the thread only ever waits in {@link Selector#select()}.
+ * Everything touching a {@link SelectionKey} has to run on that thread, see {@link #execute(Runnable)}.
+ */
+public class PortForwarderSelector {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PortForwarderSelector.class);
+
+  /**
+   * How often the pending polls are checked, e.g. for a websocket queue to drain
+   */
+  static final long POLL_INTERVAL_MILLIS = 50;
+
+  private static PortForwarderSelector instance;
+
+  @FunctionalInterface
+  public interface Handler {
+
+    /**
+     * Called on the selector thread when the key is ready for one of its operations
+     */
+    void onSelected(SelectionKey key) throws IOException;
+
+  }
+
+  private final Selector selector;
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  private final List<BooleanSupplier> polls = new ArrayList<>();
+
+  /**
+   * @return the selector shared by all the port forwards
+   */
+  public static synchronized PortForwarderSelector get() {
+    if (instance == null) {
+      instance = new PortForwarderSelector();
+    }
+    return instance;
+  }
+
+  PortForwarderSelector() {
+    try {
+      this.selector = Selector.open();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to open a selector", e);
+    }
+    Thread thread = Utils.daemonThreadFactory(this).newThread(this::run);
+    thread.start();
+  }
+
+  /**
+   * Runs the task on the selector thread
+   */
+  public void execute(Runnable task) {
+    tasks.add(task);
+    selector.wakeup();
+  }
+
+  /**
+   * Registers the channel, must be called on the selector thread
+   */
+  public SelectionKey register(SelectableChannel channel, int ops, Handler handler) throws IOException {
+    channel.configureBlocking(false);
+    return channel.register(selector, ops, handler);
+  }
+
+  /**
+   * Checks the condition on every iteration until it returns true, must be called on the selector thread
+   */
+  public void poll(BooleanSupplier condition) {
+    polls.add(condition);
+  }
+
+  private void run() {
+    while (selector.isOpen()) {
+      try {
+        selector.select(polls.isEmpty() ? 0 : POLL_INTERVAL_MILLIS);
+        for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+          runSafely(task);
+        }
+        for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+          SelectionKey key = it.next();
+          it.remove();
+          runSafely(() -> {
+            try {
+              if (key.isValid()) {
+                ((Handler) key.attachment()).onSelected(key);
+              }
+            } catch (IOException e) {
+              LOG.debug("Closing a channel that failed", e);
+              key.cancel();
+              Utils.closeQuietly(key.channel());
+            }
+          });
+        }
+        polls.removeIf(PortForwarderSelector::isDone);
+      } catch (IOException e) {
+        LOG.error("Error while selecting the port forward channels", e);
+      }
+    }
+  }
+
+  private static boolean isDone(BooleanSupplier poll) {
+    try {
+      return poll.getAsBoolean();
+    } catch (CancelledKeyException e) {
+      return true;
+    } catch (RuntimeException e) {
+      LOG.error("Error while forwarding a port", e);
+      return true;
+    }
+  }
+
+  private static void runSafely(Runnable task) {
+    try {
+      task.run();
+    } catch (CancelledKeyException e) {
+      // the channel was closed concurrently
+    } catch (RuntimeException e) {
+      LOG.error("Error while forwarding a port", e);
+    }
+  }
+
+}
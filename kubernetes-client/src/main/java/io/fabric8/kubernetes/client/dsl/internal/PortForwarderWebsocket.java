@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.LocalPortForward;
 import io.fabric8.kubernetes.client.PortForward;
 import io.fabric8.kubernetes.client.http.HttpClient;
@@ -30,6 +31,7 @@ import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URL;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
@@ -38,13 +40,14 @@ import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A port-forwarder using the websocket protocol.
  * It requires Kubernetes 1.6+ (previous versions support the SPDY protocol only).
+ * <p>
+ * Local ports are served by the shared {@link PortForwarderSelector}, so forwarding does not take a thread per
+ * port or connection.
  */
 public class PortForwarderWebsocket implements PortForwarder {
 
@@ -52,10 +55,16 @@ public class PortForwarderWebsocket implements PortForwarder {
 
   private final HttpClient client;
   private final Executor executor;
+  private final int bufferSize;
 
   public PortForwarderWebsocket(HttpClient client, Executor executor) {
+    this(client, executor, Config.DEFAULT_PORT_FORWARD_BUFFER_SIZE);
+  }
+
+  public PortForwarderWebsocket(HttpClient client, Executor executor, int bufferSize) {
     this.client = client;
     this.executor = executor;
+    this.bufferSize = bufferSize;
   }
 
   @Override
@@ -77,7 +86,7 @@ public class PortForwarderWebsocket implements PortForwarder {
       final AtomicBoolean alive = new AtomicBoolean(true);
       final CopyOnWriteArrayList<PortForward> handles = new CopyOnWriteArrayList<>();
 
-      final ExecutorService executorService = Executors.newSingleThreadExecutor();
+      final PortForwarderSelector selector = PortForwarderSelector.get();
 
       // Create a handle that can be used to retrieve information and stop the port-forward
       final LocalPortForward localPortForwardHandle = new LocalPortForward() {
@@ -88,7 +97,9 @@ public class PortForwarderWebsocket implements PortForwarder {
             server.close();
           } finally {
             Utils.closeQuietly(handles);
-            executorService.shutdownNow();
+            // the selector has to deregister the server to complete the close
+            selector.execute(() -> {
+            });
           }
         }
 
@@ -146,18 +157,25 @@ public class PortForwarderWebsocket implements PortForwarder {
 
       // Start listening on localhost for new connections.
       // Every new connection will open its own stream on the remote resource.
-      executorService.execute(() -> {
-        // accept cycle
-        while (alive.get()) {
-          try {
-            SocketChannel socket = server.accept();
-            handles.add(forward(resourceBaseUrl, port, socket, socket));
-          } catch (IOException e) {
-            if (alive.get()) {
-              LOG.error("Error while listening for connections", e);
+      selector.execute(() -> {
+        try {
+          selector.register(server, SelectionKey.OP_ACCEPT, key -> {
+            try {
+              for (SocketChannel socket = server.accept(); socket != null; socket = server.accept()) {
+                handles.add(forward(resourceBaseUrl, port, socket));
+              }
+            } catch (IOException e) {
+              if (alive.get()) {
+                LOG.error("Error while listening for connections", e);
+              }
+              Utils.closeQuietly(localPortForwardHandle);
             }
-            Utils.closeQuietly(localPortForwardHandle);
+          });
+        } catch (IOException e) {
+          if (alive.get()) {
+            LOG.error("Error while listening for connections", e);
           }
+          Utils.closeQuietly(localPortForwardHandle);
         }
       });
 
@@ -169,7 +187,15 @@ public class PortForwarderWebsocket implements PortForwarder {
 
   @Override
   public PortForward forward(URL resourceBaseUrl, int port, final ReadableByteChannel in, final WritableByteChannel out) {
-    final PortForwarderWebsocketListener listener = new PortForwarderWebsocketListener(in, out, executor);
+    return forward(resourceBaseUrl, port, new PortForwarderWebsocketListener(in, out, executor, bufferSize));
+  }
+
+  private PortForward forward(URL resourceBaseUrl, int port, SocketChannel socket) {
+    return forward(resourceBaseUrl, port,
+        new PortForwarderWebsocketListener(socket, PortForwarderSelector.get(), bufferSize));
+  }
+
+  private PortForward forward(URL resourceBaseUrl, int port, PortForwarderWebsocketListener listener) {
     CompletableFuture<WebSocket> socket = client
         .newWebSocketBuilder()
         .uri(URI.create(URLUtils.join(resourceBaseUrl.toString(), "portforward?ports=" + port)))
@@ -23,9 +23,13 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -39,11 +43,23 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
   private static final String LOG_PREFIX = "FWD";
   private static final String PROTOCOL_ERROR = "Protocol error";
   private static final int BUFFER_SIZE = 4096;
+  /**
+   * Reading from the local socket is paused while the websocket has more than this many buffers queued
+   */
+  private static final int MAX_QUEUED_BUFFERS = 16;
 
-  private final ExecutorService pumperService = Executors.newSingleThreadExecutor();
+  private volatile ExecutorService pumperService;
 
   private final SerialExecutor serialExecutor;
 
+  private final PortForwarderSelector selector;
+
+  private final int bufferSize;
+
+  // the following are only accessed from the selector thread
+  private final Deque<ByteBuffer> pendingWrites = new ArrayDeque<>();
+  private SelectionKey key;
+
   private final AtomicBoolean alive = new AtomicBoolean(true);
 
   private final AtomicBoolean errorOccurred = new AtomicBoolean(false);
@@ -59,15 +75,42 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
   private int messagesRead = 0;
 
   public PortForwarderWebsocketListener(ReadableByteChannel in, WritableByteChannel out, Executor executor) {
+    this(in, out, executor, BUFFER_SIZE);
+  }
+
+  public PortForwarderWebsocketListener(ReadableByteChannel in, WritableByteChannel out, Executor executor,
+      int bufferSize) {
     this.in = in;
     this.out = out;
     this.serialExecutor = new SerialExecutor(executor);
+    this.selector = null;
+    this.bufferSize = bufferSize > 0 ? bufferSize : BUFFER_SIZE;
+  }
+
+  /**
+   * Forwards the socket without blocking any thread, all I/O happens on the thread of the selector
+   */
+  public PortForwarderWebsocketListener(SocketChannel socket, PortForwarderSelector selector, int bufferSize) {
+    this.in = socket;
+    this.out = socket;
+    this.serialExecutor = null;
+    this.selector = selector;
+    this.bufferSize = bufferSize > 0 ? bufferSize : BUFFER_SIZE;
   }
 
   @Override
   public void onOpen(final WebSocket webSocket) {
     logger.debug("{}: onOpen", LOG_PREFIX);
-    if (in != null) {
+    if (selector != null) {
+      selector.execute(() -> {
+        try {
+          key = selector.register((SocketChannel) in, SelectionKey.OP_READ, k -> onSelected(webSocket, k));
+        } catch (IOException e) {
+          onClientError(webSocket, e);
+        }
+      });
+    } else if (in != null) {
+      pumperService = Executors.newSingleThreadExecutor();
       pumperService.execute(() -> {
         try {
           pipe(in, webSocket, alive::get);
@@ -75,16 +118,81 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
           if (e instanceof InterruptedException) {
             Thread.currentThread().interrupt();
           }
-          if (alive.get()) {
-            clientThrowables.add(e);
-            logger.error("Error while writing client data");
-            closeBothWays(webSocket, 1001, "Client error");
-          }
+          onClientError(webSocket, e);
         }
       });
     }
   }
 
+  private void onClientError(WebSocket webSocket, Exception e) {
+    if (alive.get()) {
+      clientThrowables.add(e);
+      logger.error("Error while writing client data");
+      closeBothWays(webSocket, 1001, "Client error");
+    }
+  }
+
+  private void onSelected(WebSocket webSocket, SelectionKey key) {
+    try {
+      if (key.isReadable()) {
+        read(webSocket, key);
+      }
+      if (key.isValid() && key.isWritable()) {
+        write(webSocket, key);
+      }
+    } catch (IOException e) {
+      if (alive.get()) {
+        clientThrowables.add(e);
+        logger.error("Error while forwarding data to the client", e);
+        closeBothWays(webSocket, 1002, PROTOCOL_ERROR);
+      }
+    }
+  }
+
+  private void read(WebSocket webSocket, SelectionKey key) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    buffer.put((byte) 0); // channel byte
+    int read = in.read(buffer);
+    if (read > 0) {
+      buffer.flip();
+      webSocket.send(buffer);
+      if (isQueueFull(webSocket)) {
+        // resume reading once the websocket has caught up
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        selector.poll(() -> {
+          if (!key.isValid()) {
+            return true;
+          }
+          if (isQueueFull(webSocket)) {
+            return false;
+          }
+          key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+          return true;
+        });
+      }
+    } else if (read < 0) {
+      // the client is done sending, there may still be data to receive
+      key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+    }
+  }
+
+  private boolean isQueueFull(WebSocket webSocket) {
+    return webSocket.queueSize() > (long) MAX_QUEUED_BUFFERS * bufferSize;
+  }
+
+  private void write(WebSocket webSocket, SelectionKey key) throws IOException {
+    while (!pendingWrites.isEmpty()) {
+      ByteBuffer buffer = pendingWrites.peek();
+      out.write(buffer);
+      if (buffer.hasRemaining()) {
+        return; // wait until the socket is writable again
+      }
+      pendingWrites.poll();
+      webSocket.request();
+    }
+    key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+  }
+
   @Override
   public void onMessage(WebSocket webSocket, String text) {
     logger.debug("{}: onMessage(String)", LOG_PREFIX);
@@ -119,7 +227,14 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
       closeForwarder();
     } else {
       // Data
-      if (out != null) {
+      if (selector != null) {
+        selector.execute(() -> {
+          if (key != null && key.isValid()) {
+            pendingWrites.add(buffer); // channel byte already skipped
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+          }
+        });
+      } else if (out != null) {
         serialExecutor.execute(() -> {
           try {
             while (buffer.hasRemaining()) {
@@ -207,13 +322,20 @@ public class PortForwarderWebsocketListener implements WebSocket.Listener {
         logger.error("{}: Error while closing the client output channel", LOG_PREFIX, e);
       }
     }
-    pumperService.shutdownNow();
-    serialExecutor.shutdownNow();
+    if (selector != null) {
+      // the selector has to deregister the channel to complete the close
+      selector.execute(pendingWrites::clear);
+    } else {
+      if (pumperService != null) {
+        pumperService.shutdownNow();
+      }
+      serialExecutor.shutdownNow();
+    }
   }
 
-  private static void pipe(ReadableByteChannel in, WebSocket webSocket, BooleanSupplier isAlive)
+  private void pipe(ReadableByteChannel in, WebSocket webSocket, BooleanSupplier isAlive)
       throws IOException, InterruptedException {
-    final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    final ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
     int read;
     do {
       buffer.clear();
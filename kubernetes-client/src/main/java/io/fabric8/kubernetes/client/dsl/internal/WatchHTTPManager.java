@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -64,8 +65,11 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   protected synchronized void start(URL url, Map<String, String> headers) {
     HttpRequest.Builder builder = client.newHttpRequestBuilder().url(url);
     headers.forEach(builder::header);
-    call = client.consumeLines(builder.build(), (s, a) -> {
-      onMessage(s);
+    LineBuffer lines = new LineBuffer();
+    call = client.consumeBytes(builder.build(), (buffers, a) -> {
+      for (ByteBuffer buffer : buffers) {
+        lines.append(buffer, this::onMessage);
+      }
       a.consume();
     });
     call.whenComplete((response, t) -> {
@@ -89,6 +93,8 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
           body.done().whenComplete((v, e) -> {
             if (e != null) {
               logger.info("Watch terminated unexpectedly. reason: {}", e.getMessage());
+            } else {
+              lines.flush(this::onMessage);
             }
             if (!call.isCancelled()) {
               scheduleReconnect();
@@ -21,7 +21,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 
 class WatcherWebSocketListener<T extends HasMetadata> implements WebSocket.Listener {
   protected static final Logger logger = LoggerFactory.getLogger(WatcherWebSocketListener.class);
@@ -57,12 +56,17 @@ class WatcherWebSocketListener<T extends HasMetadata> implements WebSocket.Liste
     } finally {
       webSocket.request();
     }
-    webSocket.request();
   }
 
   @Override
   public void onMessage(WebSocket webSocket, ByteBuffer bytes) {
-    onMessage(webSocket, StandardCharsets.UTF_8.decode(bytes).toString());
+    try {
+      synchronized (this) {
+        manager.onMessage(bytes);
+      }
+    } finally {
+      webSocket.request();
+    }
   }
 
   @Override
@@ -22,6 +22,7 @@ import io.fabric8.kubernetes.api.model.apps.ReplicaSetList;
 import io.fabric8.kubernetes.api.model.extensions.DeploymentRollback;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.RollableScalableResource;
@@ -152,6 +153,11 @@ public class ReplicaSetOperationsImpl
     return PodOperationUtil.watchLog(doGetLog(false), out);
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    return PodOperationUtil.watchLogLines(doGetLog(false), listener);
+  }
+
   static Map<String, String> getReplicaSetSelectorLabels(ReplicaSet replicaSet) {
     Map<String, String> labels = new HashMap<>();
 
@@ -24,6 +24,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSetList;
 import io.fabric8.kubernetes.api.model.extensions.DeploymentRollback;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.RollableScalableResource;
@@ -137,6 +138,11 @@ public class StatefulSetOperationsImpl
     return PodOperationUtil.watchLog(doGetLog(false), out);
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    return PodOperationUtil.watchLogLines(doGetLog(false), listener);
+  }
+
   @Override
   public StatefulSet pause() {
     throw new KubernetesClientException("not supported");
@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.api.model.autoscaling.v1.Scale;
 import io.fabric8.kubernetes.api.model.batch.v1.Job;
 import io.fabric8.kubernetes.api.model.batch.v1.JobList;
 import io.fabric8.kubernetes.client.Client;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
@@ -163,6 +164,11 @@ public class JobOperationsImpl extends HasMetadataOperation<Job, JobList, Scalab
     return PodOperationUtil.watchLog(doGetLog(false), out);
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    return PodOperationUtil.watchLogLines(doGetLog(false), listener);
+  }
+
   @Override
   public Loggable withLogWaitTimeout(Integer logWaitTimeout) {
     return new JobOperationsImpl(podControllerOperationContext.withLogWaitTimout(logWaitTimeout), context);
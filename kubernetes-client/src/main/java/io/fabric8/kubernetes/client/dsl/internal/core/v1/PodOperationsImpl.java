@@ -31,6 +31,7 @@ import io.fabric8.kubernetes.client.dsl.ExecListenable;
 import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.dsl.Execable;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
@@ -44,16 +45,18 @@ import io.fabric8.kubernetes.client.dsl.TtyExecable;
 import io.fabric8.kubernetes.client.dsl.internal.ExecWebSocketListener;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
+import io.fabric8.kubernetes.client.dsl.internal.LogLineWatchCallback;
 import io.fabric8.kubernetes.client.dsl.internal.LogWatchCallback;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext.StreamContext;
 import io.fabric8.kubernetes.client.dsl.internal.PortForwarderWebsocket;
+import io.fabric8.kubernetes.client.dsl.internal.uploadable.ChunkedTransfer;
+import io.fabric8.kubernetes.client.dsl.internal.uploadable.DeltaSync;
 import io.fabric8.kubernetes.client.dsl.internal.uploadable.PodUpload;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.WebSocket;
-import io.fabric8.kubernetes.client.lib.FilenameUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils.URLBuilder;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -76,7 +79,6 @@ import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -175,15 +177,32 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     }
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    PodOperationUtil.waitUntilReadyBeforeFetchingLogs(this,
+        getContext().getLogWaitTimeout() != null ? getContext().getLogWaitTimeout() : DEFAULT_POD_LOG_WAIT_TIMEOUT);
+    final PodOperationContext logContext = getContext().withTimestamps(true);
+    return LogLineWatchCallback.watch(this, listener, sinceTime -> {
+      // resume from the last delivered line, whatever the initial window was
+      PodOperationContext resumeContext = sinceTime == null ? logContext
+          : logContext.withSinceSeconds(null).withTailingLines(null).withSinceTimestamp(sinceTime);
+      return new URL(URLUtils.join(getResourceUrl().toString(), resumeContext.getLogParameters() + "&follow=true"));
+    }, () -> PodOperationUtil.hasTerminated(get(), getContext().getContainerId()));
+  }
+
   @Override
   public Loggable withLogWaitTimeout(Integer logWaitTimeout) {
     return new PodOperationsImpl(getContext().withLogWaitTimeout(logWaitTimeout), context);
   }
 
+  private PortForwarderWebsocket newPortForwarder() {
+    return new PortForwarderWebsocket(httpClient, this.context.getExecutor(), getConfig().getPortForwardBufferSize());
+  }
+
   @Override
   public PortForward portForward(int port, ReadableByteChannel in, WritableByteChannel out) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor()).forward(getResourceUrl(), port, in, out);
+      return newPortForwarder().forward(getResourceUrl(), port, in, out);
     } catch (Throwable t) {
       throw KubernetesClientException.launderThrowable(t);
     }
@@ -192,7 +211,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   @Override
   public LocalPortForward portForward(int port) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor()).forward(getResourceUrl(), port);
+      return newPortForwarder().forward(getResourceUrl(), port);
     } catch (Throwable t) {
       throw KubernetesClientException.launderThrowable(t);
     }
@@ -201,7 +220,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   @Override
   public LocalPortForward portForward(int port, int localPort) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor()).forward(getResourceUrl(), port, localPort);
+      return newPortForwarder().forward(getResourceUrl(), port, localPort);
     } catch (Throwable t) {
       throw KubernetesClientException.launderThrowable(t);
     }
@@ -210,7 +229,7 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
   @Override
   public LocalPortForward portForward(int port, InetAddress localInetAddress, int localPort) {
     try {
-      return new PortForwarderWebsocket(httpClient, this.context.getExecutor()).forward(getResourceUrl(), port,
+      return newPortForwarder().forward(getResourceUrl(), port,
           localInetAddress, localPort);
     } catch (MalformedURLException ex) {
       throw KubernetesClientException.launderThrowable(ex);
@@ -314,12 +333,31 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
     return new PodOperationsImpl(getContext().withDir(dir), context);
   }
 
+  @Override
+  public PodOperationsImpl chunked(long chunkSize, int concurrency) {
+    return new PodOperationsImpl(getContext().withChunking(chunkSize, concurrency), context);
+  }
+
+  @Override
+  public PodOperationsImpl deltaSync() {
+    return new PodOperationsImpl(getContext().withDeltaSync(true), context);
+  }
+
   @Override
   public boolean copy(Path destination) {
     try {
       if (Utils.isNotNullOrEmpty(getContext().getFile())) {
         copyFile(getContext().getFile(), destination.toFile());
         return true;
+      } else if (Utils.isNotNullOrEmpty(getContext().getDir()) && getContext().isDeltaSync()) {
+        return wrapRunWithOptionalDependency(() -> {
+          try {
+            DeltaSync.download(this, getContext().getDir(), destination.toFile());
+            return true;
+          } catch (Exception ex) {
+            throw KubernetesClientException.launderThrowable(ex);
+          }
+        }, "TarArchiveInputStream is provided by commons-compress");
       } else if (Utils.isNotNullOrEmpty(getContext().getDir())) {
         copyDir(getContext().getDir(), destination.toFile());
         return true;
@@ -392,6 +430,17 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
       destination = destination.toPath().resolve(filename).toFile();
     }
 
+    try {
+      if (getContext().isDeltaSync() && DeltaSync.isUnchanged(this, destination.toPath(), source)) {
+        return;
+      }
+      if (getContext().getChunkSize() > 0 && ChunkedTransfer.download(this, source, destination)) {
+        return;
+      }
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+
     try (OutputStream out = new BufferedOutputStream(new FileOutputStream(destination))) {
       readTo(new Base64.OutputStream(out, Base64.DECODE), readFileCommand(source)).get();
     } catch (Exception e) {
@@ -440,33 +489,8 @@ public class PodOperationsImpl extends HasMetadataOperation<Pod, PodList, PodRes
           {
             throw KubernetesClientException.launderThrowable(new IOException("Failed to create directory: " + destination));
           }
-          try (
-              InputStream is = readTar(source);
-              org.apache.commons.compress.archivers.tar.TarArchiveInputStream tis = new org.apache.commons.compress.archivers.tar.TarArchiveInputStream(
-                  is))
-
-          {
-            for (org.apache.commons.compress.archivers.ArchiveEntry entry = tis.getNextTarEntry(); entry != null; entry = tis
-                .getNextEntry()) {
-              if (tis.canReadEntryData(entry)) {
-                final String normalizedEntryName = FilenameUtils.normalize(entry.getName());
-                if (normalizedEntryName == null) {
-                  throw new IOException("Tar entry '" + entry.getName() + "' has an invalid name");
-                }
-                File f = new File(destination, normalizedEntryName);
-                if (entry.isDirectory()) {
-                  if (!f.isDirectory() && !f.mkdirs()) {
-                    throw new IOException("Failed to create directory: " + f);
-                  }
-                } else {
-                  File parent = f.getParentFile();
-                  if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException("Failed to create directory: " + f);
-                  }
-                  Files.copy(tis, f.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                }
-              }
-            }
+          try (InputStream is = readTar(source)) {
+            DeltaSync.extractTar(is, destination);
           } catch (Exception e) {
             throw KubernetesClientException.launderThrowable(e);
           }
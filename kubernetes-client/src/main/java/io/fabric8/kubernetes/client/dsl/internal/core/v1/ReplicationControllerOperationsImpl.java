@@ -22,6 +22,7 @@ import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.extensions.DeploymentRollback;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.RollableScalableResource;
@@ -135,6 +136,11 @@ public class ReplicationControllerOperationsImpl extends
     return PodOperationUtil.watchLog(doGetLog(false), out);
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    return PodOperationUtil.watchLogLines(doGetLog(false), listener);
+  }
+
   @Override
   public ReplicationController pause() {
     throw new UnsupportedOperationException(context.getPlural() + " \"" + name + "\" pausing is not supported");
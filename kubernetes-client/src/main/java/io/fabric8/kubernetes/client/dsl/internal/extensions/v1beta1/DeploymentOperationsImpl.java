@@ -25,6 +25,7 @@ import io.fabric8.kubernetes.api.model.extensions.ReplicaSet;
 import io.fabric8.kubernetes.api.model.extensions.ReplicaSetList;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.RollableScalableResource;
@@ -250,6 +251,11 @@ public class DeploymentOperationsImpl
     return findFirstPodResource().map(it -> it.watchLog(out)).orElse(null);
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    return findFirstPodResource().map(it -> it.watchLogLines(listener)).orElse(null);
+  }
+
   private Optional<RollableScalableResource<ReplicaSet>> findFirstPodResource() {
     List<RollableScalableResource<ReplicaSet>> podResources = doGetLog();
     if (!podResources.isEmpty()) {
@@ -0,0 +1,397 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.utils.InputStreamPumper;
+import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.Base64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl.shellQuote;
+
+/**
+ * Transfers a single file to or from a pod in chunks, over several exec connections at once.
+ * <p>
+ * Each chunk is written to a part file next to the target and verified with its sha256 before the parts are joined.
+ * A chunk that fails is retried, and parts that already match are not transferred again, so a failed transfer is
+ * resumed by repeating it.
+ * <p>
+ * The exec streams are binary, so chunks are sent as is. Once a chunk arrives corrupted the remaining chunks are
+ * sent in base64.
+ */
+public class ChunkedTransfer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ChunkedTransfer.class);
+
+  /**
+   * Chunks are whole blocks, so that dd can seek to them in the pod
+   */
+  static final int BLOCK_SIZE = 64 * 1024;
+  private static final int MAX_ATTEMPTS = 3;
+
+  @FunctionalInterface
+  private interface ChunkTransfer {
+
+    boolean transfer(int index) throws IOException;
+
+  }
+
+  private final PodOperationsImpl operation;
+  private final long chunkSize;
+  private final int concurrency;
+  private final AtomicBoolean base64 = new AtomicBoolean();
+
+  ChunkedTransfer(PodOperationsImpl operation) {
+    this.operation = operation;
+    long requested = operation.getContext().getChunkSize();
+    this.chunkSize = Math.max(1, (requested + BLOCK_SIZE - 1) / BLOCK_SIZE) * BLOCK_SIZE;
+    this.concurrency = Math.max(1, operation.getContext().getChunkConcurrency());
+  }
+
+  /**
+   * @return true if a file of the given size should be transferred in chunks
+   */
+  public static boolean isChunked(PodOperationsImpl operation, long size) {
+    long requested = operation.getContext().getChunkSize();
+    return requested > 0 && size > requested;
+  }
+
+  public static boolean upload(PodOperationsImpl operation, Path source, String target) throws IOException {
+    return new ChunkedTransfer(operation).upload(source, target);
+  }
+
+  /**
+   * @return false if the file is not larger than a chunk and should be copied in one go
+   */
+  public static boolean download(PodOperationsImpl operation, String source, File target) throws IOException {
+    return new ChunkedTransfer(operation).download(source, target);
+  }
+
+  boolean upload(Path source, String target) throws IOException {
+    long size = Files.size(source);
+    int chunks = chunkCount(size);
+    String directory = target.substring(0, target.lastIndexOf('/') + 1);
+    String listing = exec(String.format("mkdir -p %s && for p in %s.*.part; do [ -f \"$p\" ] && sha256sum \"$p\"; done; true",
+        shellQuote(directory.isEmpty() ? "/" : directory), shellQuote(target)), null);
+    if (listing == null) {
+      return false;
+    }
+    Map<String, String> existing = new HashMap<>();
+    for (String line : listing.split("\n")) {
+      String[] checksumAndName = line.trim().split("\\s+", 2);
+      if (checksumAndName.length == 2) {
+        existing.put(checksumAndName[1], checksumAndName[0]);
+      }
+    }
+    try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+      boolean transferred = forEachChunk(chunks, index -> {
+        long offset = index * chunkSize;
+        long length = Math.min(chunkSize, size - offset);
+        String part = partName(target, index);
+        String expected = checksum(out -> copy(channel, offset, length, out));
+        if (expected.equals(existing.get(part))) {
+          return true;
+        }
+        return attempt(part, expected, asBase64 -> {
+          long sent = asBase64 ? (length + 2) / 3 * 4 : length;
+          String command = String.format("head -c %d%s > %s && sha256sum %s", sent, asBase64 ? " | base64 -d" : "",
+              shellQuote(part), shellQuote(part));
+          String output = exec(command, in -> {
+            if (asBase64) {
+              try (Base64.OutputStream b64 = new Base64.OutputStream(in, Base64.ENCODE)) {
+                copy(channel, offset, length, b64);
+              }
+            } else {
+              copy(channel, offset, length, in);
+            }
+          });
+          return output == null ? null : output.trim().split("\\s+", 2)[0];
+        });
+      });
+      if (!transferred) {
+        return false;
+      }
+    }
+    String join = String.format(
+        "f=%s; : > \"$f\" && i=0 && while [ $i -lt %d ]; do cat \"$(printf '%%s.%%05d.part' \"$f\" $i)\" >> \"$f\" || exit 1; i=$((i+1)); done && rm -f \"$f\".*.part",
+        shellQuote(target), chunks);
+    return exec(join, null) != null;
+  }
+
+  /**
+   * Copies the file in the pod in chunks if it is larger than a chunk, otherwise in one go. Either way the copy is
+   * verified against the checksum and sent in base64 once it arrived corrupted.
+   *
+   * @param size the size of the file in the pod
+   * @param checksum the sha256 of the file in the pod
+   */
+  static void downloadVerified(PodOperationsImpl operation, String source, long size, String checksum, File target)
+      throws IOException {
+    ChunkedTransfer transfer = new ChunkedTransfer(operation);
+    if (isChunked(operation, size) && transfer.download(source, target)) {
+      return;
+    }
+    Path file = target.toPath();
+    boolean transferred = transfer.attempt(target.toString(), checksum, asBase64 -> {
+      try (OutputStream out = Files.newOutputStream(file);
+          OutputStream decoded = asBase64 ? new Base64.OutputStream(out, Base64.DECODE) : out) {
+        if (!isSuccess(transfer.exec((asBase64 ? "base64 " : "cat ") + shellQuote(source), null, decoded))) {
+          return null;
+        }
+      }
+      return checksum(out -> Files.copy(file, out));
+    });
+    if (!transferred) {
+      throw new IOException("Could not copy " + source);
+    }
+  }
+
+  boolean download(String source, File target) throws IOException {
+    long blocks = chunkSize / BLOCK_SIZE;
+    String listing = exec(String.format(
+        "f=%s; s=$(wc -c < \"$f\") && echo $s && i=0 && while [ $((i*%d)) -lt $s ]; do dd if=\"$f\" bs=%d skip=$((i*%d)) count=%d 2>/dev/null | sha256sum; i=$((i+1)); done",
+        shellQuote(source), chunkSize, BLOCK_SIZE, blocks, blocks), null);
+    if (listing == null) {
+      throw new IOException("Could not read the size of " + source);
+    }
+    String[] lines = listing.trim().split("\n");
+    long size = Long.parseLong(lines[0].trim());
+    if (size <= chunkSize) {
+      return false;
+    }
+    int chunks = chunkCount(size);
+    if (lines.length != chunks + 1) {
+      throw new IOException("Could not read the checksums of " + source);
+    }
+    String targetPath = target.getAbsolutePath();
+    boolean transferred = forEachChunk(chunks, index -> {
+      String expected = lines[index + 1].trim().split("\\s+", 2)[0];
+      Path part = new File(partName(targetPath, index)).toPath();
+      if (Files.exists(part) && expected.equals(checksum(out -> Files.copy(part, out)))) {
+        return true;
+      }
+      return attempt(part.toString(), expected, asBase64 -> {
+        String command = String.format("dd if=%s bs=%d skip=%d count=%d 2>/dev/null%s", shellQuote(source), BLOCK_SIZE,
+            index * blocks, blocks, asBase64 ? " | base64" : "");
+        try (OutputStream file = Files.newOutputStream(part);
+            OutputStream out = asBase64 ? new Base64.OutputStream(file, Base64.DECODE) : file) {
+          if (!isSuccess(exec(command, null, out))) {
+            return null;
+          }
+        }
+        return checksum(out -> Files.copy(part, out));
+      });
+    });
+    if (!transferred) {
+      throw new IOException("Could not copy " + source + ", the parts copied so far are kept to resume from");
+    }
+    try (OutputStream out = Files.newOutputStream(target.toPath())) {
+      for (int i = 0; i < chunks; i++) {
+        Files.copy(new File(partName(targetPath, i)).toPath(), out);
+      }
+    }
+    for (int i = 0; i < chunks; i++) {
+      Files.delete(new File(partName(targetPath, i)).toPath());
+    }
+    return true;
+  }
+
+  @FunctionalInterface
+  private interface ChunkAttempt {
+
+    /**
+     * @return the checksum of the transferred chunk, or null if the transfer failed
+     */
+    String transfer(boolean asBase64) throws IOException;
+
+  }
+
+  private boolean attempt(String part, String expected, ChunkAttempt attempt) {
+    for (int i = 0; i < MAX_ATTEMPTS; i++) {
+      boolean asBase64 = base64.get();
+      try {
+        String actual = attempt.transfer(asBase64);
+        if (expected.equals(actual)) {
+          return true;
+        }
+        if (actual != null && !asBase64) {
+          LOG.debug("Chunk {} did not arrive intact, switching to base64", part);
+          base64.set(true);
+        }
+      } catch (IOException | KubernetesClientException e) {
+        LOG.debug("Transfer of chunk {} failed", part, e);
+      }
+    }
+    return false;
+  }
+
+  private boolean forEachChunk(int chunks, ChunkTransfer transfer) throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(chunks, concurrency),
+        Utils.daemonThreadFactory(this));
+    try {
+      List<CompletableFuture<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < chunks; i++) {
+        int index = i;
+        results.add(CompletableFuture.supplyAsync(() -> {
+          try {
+            return transfer.transfer(index);
+          } catch (IOException e) {
+            throw KubernetesClientException.launderThrowable(e);
+          }
+        }, executor));
+      }
+      boolean transferred = true;
+      for (CompletableFuture<Boolean> result : results) {
+        transferred &= Utils.waitUntilReady(result, -1, TimeUnit.MILLISECONDS) && result.getNow(false);
+      }
+      return transferred;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private String exec(String command, PodUpload.UploadProcessor input) throws IOException {
+    return exec(operation, command, input);
+  }
+
+  private Integer exec(String command, PodUpload.UploadProcessor input, OutputStream output) throws IOException {
+    return exec(operation, command, input, output);
+  }
+
+  /**
+   * @return the output of the command, or null if the command did not succeed
+   */
+  static String exec(PodOperationsImpl operation, String command, PodUpload.UploadProcessor input) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    if (!isSuccess(exec(operation, command, input, output))) {
+      return null;
+    }
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Runs the command with its output redirected to the given stream. Input is written first, the command
+   * has to stop reading on its own, e.g. with head -c.
+   *
+   * @return the exit code, or null if the command did not complete in time
+   */
+  static Integer exec(PodOperationsImpl operation, String command, PodUpload.UploadProcessor input, OutputStream output)
+      throws IOException {
+    PodOperationsImpl op = operation;
+    if (input != null) {
+      op = op.redirectingInput().terminateOnError();
+    }
+    op = (PodOperationsImpl) op.redirectingOutput();
+    CompletableFuture<Integer> exitFuture;
+    try (ExecWatch watch = op.exec("sh", "-c", command)) {
+      if (input != null) {
+        OutputStream in = watch.getInput();
+        input.process(in);
+        in.flush();
+      }
+      try (InputStream out = watch.getOutput()) {
+        InputStreamPumper.transferTo(out, output::write);
+      }
+      output.flush();
+      exitFuture = watch.exitCode();
+      if (!Utils.waitUntilReady(exitFuture, operation.getConfig().getRequestConfig().getUploadRequestTimeout(),
+          TimeUnit.MILLISECONDS)) {
+        return null;
+      }
+    }
+    Integer exitCode = exitFuture.getNow(null);
+    return exitCode == null ? 0 : exitCode;
+  }
+
+  static boolean isSuccess(Integer exitCode) {
+    return exitCode != null && exitCode == 0;
+  }
+
+  private int chunkCount(long size) {
+    return (int) ((size + chunkSize - 1) / chunkSize);
+  }
+
+  static String partName(String target, int index) {
+    return String.format("%s.%05d.part", target, index);
+  }
+
+  private static void copy(FileChannel channel, long offset, long length, OutputStream out) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(8192);
+    long position = offset;
+    long end = offset + length;
+    while (position < end) {
+      buffer.clear();
+      buffer.limit((int) Math.min(buffer.capacity(), end - position));
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+      out.write(buffer.array(), 0, read);
+      position += read;
+    }
+  }
+
+  static String checksum(PodUpload.UploadProcessor data) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    try (OutputStream out = new DigestOutputStream(new OutputStream() {
+      @Override
+      public void write(int b) {
+        // only the digest is needed
+      }
+    }, digest)) {
+      data.process(out);
+    }
+    StringBuilder result = new StringBuilder();
+    for (byte b : digest.digest()) {
+      result.append(String.format("%02x", b));
+    }
+    return result.toString();
+  }
+
+}
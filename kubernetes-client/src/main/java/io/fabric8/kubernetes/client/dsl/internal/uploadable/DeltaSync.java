@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.lib.FilenameUtils;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl.shellQuote;
+
+/**
+ * Compares the sha256 of the files on both sides, so that only the files that differ are transferred.
+ * <p>
+ * Files that only exist on the receiving side are kept.
+ */
+public class DeltaSync {
+
+  /**
+   * The exit code of the commands when the file or directory in the pod does not exist
+   */
+  static final int MISSING = 3;
+
+  private DeltaSync() {
+  }
+
+  /**
+   * @return true if the file in the pod has the same content as the local file
+   */
+  public static boolean isUnchanged(PodOperationsImpl operation, Path local, String remote) throws IOException {
+    if (!Files.isRegularFile(local)) {
+      return false;
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    Integer exitCode = ChunkedTransfer.exec(operation,
+        String.format("f=%s; [ -f \"$f\" ] || exit %d; sha256sum \"$f\"", shellQuote(remote), MISSING), null, output);
+    if (exitCode != null && exitCode == MISSING) {
+      return false;
+    }
+    if (!ChunkedTransfer.isSuccess(exitCode)) {
+      throw new IOException("Could not compute the checksum of " + remote);
+    }
+    return new String(output.toByteArray(), StandardCharsets.UTF_8).trim().split("\\s+", 2)[0]
+        .equals(ChunkedTransfer.checksum(out -> Files.copy(local, out)));
+  }
+
+  /**
+   * @return the paths, relative to the local directory, of the files that are missing or differ in the pod
+   */
+  public static Set<String> changedFiles(PodOperationsImpl operation, Path local, String remote) throws IOException {
+    Map<String, String> remoteChecksums = remoteChecksums(operation, remote);
+    return changed(localChecksums(local), remoteChecksums == null ? new HashMap<>() : remoteChecksums);
+  }
+
+  /**
+   * Copies the files of the directory in the pod that are missing or differ locally.
+   *
+   * @param target the directory the pod directory is copied into, as with the full copy
+   */
+  public static void download(PodOperationsImpl operation, String source, File target) throws IOException {
+    String normalizedSource = FilenameUtils.normalize(source.replaceFirst("^/+", ""));
+    if (normalizedSource == null) {
+      throw new IOException("Directory '" + source + "' has an invalid name");
+    }
+    File root = new File(target, normalizedSource);
+    Map<String, String> remoteChecksums = remoteChecksums(operation, source);
+    if (remoteChecksums == null) {
+      throw new FileNotFoundException("Directory " + source + " does not exist in the pod");
+    }
+    Set<String> changed = changed(remoteChecksums, root.isDirectory() ? localChecksums(root.toPath()) : new HashMap<>());
+    if (changed.isEmpty()) {
+      return;
+    }
+    byte[] list = changed.stream().map(path -> path + "\n").collect(Collectors.joining())
+        .getBytes(StandardCharsets.UTF_8);
+    // the changed files are archived in the pod first, so that the archive is copied the same verified way as a file
+    String archived = ChunkedTransfer.exec(operation,
+        String.format("t=$(mktemp) && cd %s && head -c %d | tar -cf \"$t\" -T - && sha256sum \"$t\" && wc -c < \"$t\"",
+            shellQuote(source), list.length),
+        in -> in.write(list));
+    String[] lines = archived == null ? new String[0] : archived.trim().split("\n");
+    if (lines.length != 2) {
+      throw new IOException("Could not archive the changed files of " + source);
+    }
+    String[] checksumAndName = lines[0].trim().split("\\s+", 2);
+    Path archive = Files.createTempFile("download", ".tar");
+    try {
+      ChunkedTransfer.downloadVerified(operation, checksumAndName[1], Long.parseLong(lines[1].trim()),
+          checksumAndName[0], archive.toFile());
+      try (InputStream in = Files.newInputStream(archive)) {
+        extractTar(in, root);
+      }
+    } finally {
+      Files.deleteIfExists(archive);
+      ChunkedTransfer.exec(operation, "rm -f " + shellQuote(checksumAndName[1]), null);
+    }
+  }
+
+  /**
+   * Extracts the tar into the destination, rejecting entries that would end up outside of it.
+   */
+  public static void extractTar(InputStream is, File destination) throws IOException {
+    try (TarArchiveInputStream tis = new TarArchiveInputStream(is)) {
+      for (ArchiveEntry entry = tis.getNextTarEntry(); entry != null; entry = tis.getNextEntry()) {
+        if (tis.canReadEntryData(entry)) {
+          final String normalizedEntryName = FilenameUtils.normalize(entry.getName());
+          if (normalizedEntryName == null) {
+            throw new IOException("Tar entry '" + entry.getName() + "' has an invalid name");
+          }
+          File f = new File(destination, normalizedEntryName);
+          if (entry.isDirectory()) {
+            if (!f.isDirectory() && !f.mkdirs()) {
+              throw new IOException("Failed to create directory: " + f);
+            }
+          } else {
+            File parent = f.getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs()) {
+              throw new IOException("Failed to create directory: " + f);
+            }
+            Files.copy(tis, f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the checksums by relative path, or null if the directory does not exist in the pod
+   */
+  static Map<String, String> remoteChecksums(PodOperationsImpl operation, String directory) throws IOException {
+    ByteArrayOutputStream listing = new ByteArrayOutputStream();
+    Integer exitCode = ChunkedTransfer.exec(operation,
+        String.format("d=%s; [ -d \"$d\" ] || exit %d; cd \"$d\" && find . -type f -exec sha256sum {} +",
+            shellQuote(directory), MISSING),
+        null, listing);
+    if (exitCode != null && exitCode == MISSING) {
+      return null;
+    }
+    if (!ChunkedTransfer.isSuccess(exitCode)) {
+      throw new IOException("Could not list the files of " + directory);
+    }
+    Map<String, String> checksums = new HashMap<>();
+    for (String line : new String(listing.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+      String[] checksumAndName = line.split("\\s+", 2);
+      if (checksumAndName.length == 2 && checksumAndName[1].startsWith("./")) {
+        checksums.put(checksumAndName[1].substring(2), checksumAndName[0]);
+      }
+    }
+    return checksums;
+  }
+
+  static Map<String, String> localChecksums(Path directory) throws IOException {
+    Map<String, String> checksums = new HashMap<>();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+        String relative = directory.relativize(file).toString().replace(File.separatorChar, '/');
+        checksums.put(relative, ChunkedTransfer.checksum(out -> Files.copy(file, out)));
+      }
+    }
+    return checksums;
+  }
+
+  /**
+   * @return the paths of the source whose checksum is missing or differs in the target
+   */
+  static Set<String> changed(Map<String, String> source, Map<String, String> target) {
+    return source.entrySet().stream()
+        .filter(e -> !e.getValue().equals(target.get(e.getKey())))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toCollection(TreeSet::new));
+  }
+
+}
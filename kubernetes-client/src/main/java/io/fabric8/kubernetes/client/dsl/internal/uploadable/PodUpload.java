@@ -31,8 +31,10 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.zip.GZIPOutputStream;
 
 import static io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl.shellQuote;
@@ -55,7 +57,7 @@ public class PodUpload {
     throw new IllegalArgumentException("Provided arguments are not valid (file, directory, path)");
   }
 
-  private static interface UploadProcessor {
+  interface UploadProcessor {
 
     void process(OutputStream out) throws IOException;
 
@@ -96,6 +98,13 @@ public class PodUpload {
 
   private static boolean uploadFile(PodOperationsImpl operation, Path pathToUpload)
       throws IOException {
+    if (operation.getContext().isDeltaSync()
+        && DeltaSync.isUnchanged(operation, pathToUpload, operation.getContext().getFile())) {
+      return true;
+    }
+    if (ChunkedTransfer.isChunked(operation, Files.size(pathToUpload))) {
+      return ChunkedTransfer.upload(operation, pathToUpload, operation.getContext().getFile());
+    }
     try (final FileInputStream fis = new FileInputStream(pathToUpload.toFile())) {
       return uploadFileData(operation, fis);
     }
@@ -104,34 +113,82 @@ public class PodUpload {
   private static boolean uploadDirectory(PodOperationsImpl operation, Path pathToUpload)
       throws IOException {
 
+    final Predicate<String> include;
+    if (operation.getContext().isDeltaSync()) {
+      Set<String> changed = DeltaSync.changedFiles(operation, pathToUpload, operation.getContext().getDir());
+      if (changed.isEmpty()) {
+        return true;
+      }
+      include = changed::contains;
+    } else {
+      include = path -> true;
+    }
+
+    if (operation.getContext().getChunkSize() > 0) {
+      return uploadDirectoryChunked(operation, pathToUpload, include);
+    }
+
     final String command = String.format(
         "mkdir -p %1$s && base64 -d - | tar -C %1$s -xzf -", shellQuote(operation.getContext().getDir()));
 
     return upload(operation, command, os -> {
-      try (final Base64.OutputStream b64Out = new Base64.OutputStream(os, Base64.ENCODE);
-          final GZIPOutputStream gzip = new GZIPOutputStream(b64Out);
-          final TarArchiveOutputStream tar = new TarArchiveOutputStream(gzip)) {
-        tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-        for (File file : pathToUpload.toFile().listFiles()) {
-          addFileToTar(null, file, tar);
-        }
-        tar.flush();
+      try (final Base64.OutputStream b64Out = new Base64.OutputStream(os, Base64.ENCODE)) {
+        writeTar(pathToUpload, b64Out, include);
       }
     });
   }
 
-  private static void addFileToTar(String rootTarPath, File file, TarArchiveOutputStream tar)
-      throws IOException {
+  private static boolean uploadDirectoryChunked(PodOperationsImpl operation, Path pathToUpload,
+      Predicate<String> include) throws IOException {
+    // the archive has to be complete before it can be split, so it is staged locally and in the pod
+    Path archive = Files.createTempFile("upload", ".tar.gz");
+    try {
+      try (OutputStream out = Files.newOutputStream(archive)) {
+        writeTar(pathToUpload, out, include);
+      }
+      String dir = operation.getContext().getDir();
+      String target = (dir.endsWith(TAR_PATH_DELIMITER) ? dir : dir + TAR_PATH_DELIMITER) + "." + archive.getFileName();
+      boolean uploaded = ChunkedTransfer.isChunked(operation, Files.size(archive))
+          ? ChunkedTransfer.upload(operation, archive, target)
+          : upload(operation, createExecCommandForUpload(target), os -> {
+            try (final Base64.OutputStream b64Out = new Base64.OutputStream(os, Base64.ENCODE)) {
+              Files.copy(archive, b64Out);
+            }
+          });
+      return uploaded && upload(operation, String.format("tar -C %1$s -xzf %2$s && rm -f %2$s", shellQuote(dir),
+          shellQuote(target)), os -> {
+          });
+    } finally {
+      Files.deleteIfExists(archive);
+    }
+  }
+
+  private static void writeTar(Path pathToUpload, OutputStream out, Predicate<String> include) throws IOException {
+    try (final GZIPOutputStream gzip = new GZIPOutputStream(out);
+        final TarArchiveOutputStream tar = new TarArchiveOutputStream(gzip)) {
+      tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      for (File file : pathToUpload.toFile().listFiles()) {
+        addFileToTar(null, file, tar, include);
+      }
+      tar.flush();
+    }
+  }
+
+  private static void addFileToTar(String rootTarPath, File file, TarArchiveOutputStream tar,
+      Predicate<String> include) throws IOException {
 
     final String fileName = Optional.ofNullable(rootTarPath).orElse("") + TAR_PATH_DELIMITER + file.getName();
-    tar.putArchiveEntry(new TarArchiveEntry(file, fileName));
     if (file.isFile()) {
-      Files.copy(file.toPath(), tar);
-      tar.closeArchiveEntry();
+      if (include.test(fileName.substring(1))) {
+        tar.putArchiveEntry(new TarArchiveEntry(file, fileName));
+        Files.copy(file.toPath(), tar);
+        tar.closeArchiveEntry();
+      }
     } else if (file.isDirectory()) {
+      tar.putArchiveEntry(new TarArchiveEntry(file, fileName));
       tar.closeArchiveEntry();
       for (File fileInDirectory : file.listFiles()) {
-        addFileToTar(fileName, fileInDirectory, tar);
+        addFileToTar(fileName, fileInDirectory, tar, include);
       }
     }
   }
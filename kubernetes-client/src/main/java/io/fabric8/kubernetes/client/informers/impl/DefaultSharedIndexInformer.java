@@ -18,6 +18,8 @@ package io.fabric8.kubernetes.client.informers.impl;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
@@ -27,17 +29,23 @@ import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorStore;
 import io.fabric8.kubernetes.client.informers.impl.cache.Reflector;
 import io.fabric8.kubernetes.client.informers.impl.cache.SharedProcessor;
+import io.fabric8.kubernetes.client.informers.impl.cache.StoreSnapshot;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -64,6 +72,8 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   private final SharedProcessor<T> processor;
   private final Executor informerExecutor;
   private final String description;
+  // identifies what is listed and watched, for snapshots and metrics
+  private final String id;
 
   private final AtomicBoolean started = new AtomicBoolean();
   private volatile boolean stopped = false;
@@ -72,6 +82,14 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   private Stream<T> initialState;
 
+  private int resyncSlices = 1;
+
+  private Path snapshotFile;
+  private long snapshotPeriodMillis;
+  private Future<?> snapshotFuture;
+
+  private InformerMetrics metrics = InformerMetrics.NOOP;
+
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
       Executor informerExecutor) {
     if (resyncPeriod < 0) {
@@ -81,10 +99,11 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     this.defaultEventHandlerResyncPeriod = resyncPeriod;
     this.apiTypeClass = apiTypeClass;
     this.description = listerWatcher.getApiEndpointPath();
+    this.id = apiTypeClass.getName() + " " + description + " " + listerWatcher.getSelectors();
 
     this.informerExecutor = informerExecutor;
     // reuse the informer executor, but ensure serial processing
-    this.processor = new SharedProcessor<>(informerExecutor, description);
+    this.processor = new SharedProcessor<>(informerExecutor, description, this.indexer::getKey);
 
     processorStore = new ProcessorStore<>(this.indexer, this.processor);
     this.reflector = new Reflector<>(listerWatcher, processorStore);
@@ -104,6 +123,23 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   @Override
   public SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
       long resyncPeriodMillis) {
+    return addEventHandlerWithResyncPeriod(handler, resyncPeriodMillis, false);
+  }
+
+  @Override
+  public SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
+      long resyncPeriodMillis, boolean resyncUnhandledOnly) {
+    return addEventHandler(handler, resyncPeriodMillis, resyncUnhandledOnly, -1, null);
+  }
+
+  /**
+   * Add an event handler with its own queue
+   *
+   * @param queueCapacity the queue capacity, 0 for unbounded, or negative to use the {@link #eventHandlerQueue} setting
+   * @param queueOverflowPolicy what to do when the queue is full
+   */
+  SharedIndexInformer<T> addEventHandler(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
+      boolean resyncUnhandledOnly, int queueCapacity, QueueOverflowPolicy queueOverflowPolicy) {
     if (stopped) {
       log.info("DefaultSharedIndexInformer#Handler was not added to {} because it has stopped already", this);
       return this;
@@ -131,12 +167,22 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
       }
     }
 
-    this.processor.addProcessorListener(handler,
-        determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis), this.indexer::list);
+    long resyncPeriod = determineResyncPeriod(resyncPeriodMillis, this.resyncCheckPeriodMillis);
+    if (queueCapacity < 0) {
+      this.processor.addProcessorListener(handler, resyncPeriod, resyncUnhandledOnly, this.indexer::list);
+    } else {
+      this.processor.addProcessorListener(handler, resyncPeriod, resyncUnhandledOnly, queueCapacity,
+          Objects.requireNonNull(queueOverflowPolicy), this.indexer::list);
+    }
 
     return this;
   }
 
+  @Override
+  public void removeEventHandler(ResourceEventHandler<? super T> handler) {
+    this.processor.removeListener(handler);
+  }
+
   @Override
   public String lastSyncResourceVersion() {
     return this.reflector.getLastSyncResourceVersion();
@@ -157,11 +203,36 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
       }
     }
 
+    String resumeVersion = restoreSnapshot();
+
     log.debug("Ready to run resync and reflector for {} with resync {}", this, resyncCheckPeriodMillis);
 
+    metrics.informerStarted(id, indexer::size, processor::getQueueSize);
     scheduleResync(processor::shouldResync);
+    scheduleSnapshot();
+
+    CompletableFuture<Void> reflectorStart = resumeVersion != null ? reflector.resume(resumeVersion) : reflector.start();
+    return stopIfStopped(reflectorStart);
+  }
 
-    return reflector.start().whenComplete((v, t) -> {
+  /**
+   * Retry the list and watch after the future returned by {@link #start()} has completed exceptionally
+   *
+   * @return a future that completes when the list and watch are established
+   */
+  synchronized CompletableFuture<Void> restart() {
+    if (stopped) {
+      throw new IllegalStateException("Cannot restart a stopped informer");
+    }
+    if (!started.get()) {
+      throw new IllegalStateException("Cannot restart an informer that has not been started");
+    }
+    log.debug("Restarting the reflector for {}", this);
+    return stopIfStopped(reflector.start());
+  }
+
+  private CompletableFuture<Void> stopIfStopped(CompletableFuture<Void> reflectorStart) {
+    return reflectorStart.whenComplete((v, t) -> {
       // stop called while run is called could be ineffective, check for it afterwards
       synchronized (this) {
         if (stopped) {
@@ -179,10 +250,69 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   @Override
   public synchronized void stop() {
+    boolean wasStopped = stopped;
     stopped = true;
     reflector.stop();
     stopResync();
     processor.stop();
+    if (snapshotFuture != null) {
+      snapshotFuture.cancel(true);
+      snapshotFuture = null;
+    }
+    if (!wasStopped && snapshotFile != null && started.get()) {
+      writeSnapshot();
+    }
+    if (!wasStopped && started.get()) {
+      metrics.informerStopped(id);
+    }
+  }
+
+  /**
+   * @return the snapshot resourceVersion to resume from, or null if there is no usable snapshot
+   */
+  private String restoreSnapshot() {
+    if (snapshotFile == null) {
+      return null;
+    }
+    try {
+      StoreSnapshot<T> snapshot = StoreSnapshot.read(snapshotFile, apiTypeClass);
+      if (snapshot == null) {
+        return null;
+      }
+      if (!id.equals(snapshot.getSource())) {
+        log.warn("Ignoring the snapshot {} of {} for {}, listing instead", snapshotFile, snapshot.getSource(),
+            id);
+        return null;
+      }
+      log.debug("Restoring {} items from snapshot at v{} for {}", snapshot.getItems().size(),
+          snapshot.getResourceVersion(), this);
+      processorStore.restore(snapshot.getItems());
+      return snapshot.getResourceVersion();
+    } catch (IOException | RuntimeException e) {
+      log.warn("Could not restore the snapshot {} for {}, listing instead", snapshotFile, this, e);
+      return null;
+    }
+  }
+
+  private synchronized void scheduleSnapshot() {
+    if (snapshotFile != null && snapshotPeriodMillis > 0) {
+      snapshotFuture = Utils.scheduleAtFixedRate(informerExecutor, this::writeSnapshot, snapshotPeriodMillis,
+          snapshotPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void writeSnapshot() {
+    // the items must be exactly at the version, otherwise the events replayed when resuming could revert them
+    StoreSnapshot<T> snapshot = reflector
+        .withSyncedState(resourceVersion -> new StoreSnapshot<>(id, resourceVersion, indexer.list()));
+    if (snapshot == null) {
+      return;
+    }
+    try {
+      StoreSnapshot.write(snapshotFile, snapshot.getSource(), snapshot.getResourceVersion(), snapshot.getItems());
+    } catch (IOException | RuntimeException e) {
+      log.warn("Could not write the snapshot {} for {}", snapshotFile, this, e);
+    }
   }
 
   private synchronized void stopResync() {
@@ -231,7 +361,11 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   synchronized void scheduleResync(BooleanSupplier resyncFunc) {
     // schedule the resync runnable
-    if (resyncCheckPeriodMillis > 0) {
+    if (resyncCheckPeriodMillis > 0 && resyncSlices > 1) {
+      long slicePeriodMillis = Math.max(1, resyncCheckPeriodMillis / resyncSlices);
+      resyncFuture = Utils.scheduleAtFixedRate(informerExecutor, new IncrementalResync(resyncFunc), slicePeriodMillis,
+          slicePeriodMillis, TimeUnit.MILLISECONDS);
+    } else if (resyncCheckPeriodMillis > 0) {
       resyncFuture = Utils.scheduleAtFixedRate(informerExecutor, () -> {
         if (log.isDebugEnabled()) {
           log.debug("Checking for resync at interval for {}", this);
@@ -247,10 +381,47 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     }
   }
 
+  /**
+   * Resyncs a slice of the keys at each run. The check for a new resync, which also determines the
+   * syncing listeners, is only made once all of the slices of the previous one have been resynced.
+   */
+  final class IncrementalResync implements Runnable {
+    private final BooleanSupplier resyncFunc;
+    private List<String> keys = Collections.emptyList();
+    private int sliceSize;
+    private int position;
+
+    IncrementalResync(BooleanSupplier resyncFunc) {
+      this.resyncFunc = resyncFunc;
+    }
+
+    @Override
+    public void run() {
+      if (position >= keys.size()) {
+        if (!resyncFunc.getAsBoolean()) {
+          return;
+        }
+        processorStore.pruneHandled();
+        keys = indexer.listKeys();
+        position = 0;
+        sliceSize = (keys.size() + resyncSlices - 1) / resyncSlices;
+        log.debug("Incremental resync of {} items in slices of {} running for {}", keys.size(), sliceSize,
+            DefaultSharedIndexInformer.this);
+      }
+      int end = Math.min(keys.size(), position + sliceSize);
+      processorStore.resync(keys.subList(position, end));
+      position = end;
+    }
+  }
+
   public long getFullResyncPeriod() {
     return resyncCheckPeriodMillis;
   }
 
+  long getDefaultEventHandlerResyncPeriod() {
+    return defaultEventHandlerResyncPeriod;
+  }
+
   Future<?> getResyncFuture() {
     return resyncFuture;
   }
@@ -284,6 +455,81 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  @Override
+  public synchronized SharedIndexInformer<T> listPrefetch(int pages) {
+    if (pages < 0) {
+      throw new IllegalArgumentException("Invalid list prefetch " + pages + ", must not be negative");
+    }
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting list prefetch");
+    }
+    this.reflector.setListPrefetch(pages);
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> watchList(boolean watchList) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting watch list");
+    }
+    this.reflector.setWatchList(watchList);
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> eventHandlerQueue(int capacity, QueueOverflowPolicy overflowPolicy) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Invalid event handler queue capacity " + capacity + ", must not be negative");
+    }
+    this.processor.setListenerQueue(capacity, Objects.requireNonNull(overflowPolicy));
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> incrementalResync(int slices) {
+    if (slices < 1) {
+      throw new IllegalArgumentException("Invalid number of resync slices " + slices + ", must be positive");
+    }
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting incremental resync");
+    }
+    this.resyncSlices = slices;
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> snapshot(Path file, long periodMillis) {
+    if (periodMillis < 0) {
+      throw new IllegalArgumentException("Invalid snapshot period " + periodMillis + ", must not be negative");
+    }
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting snapshot");
+    }
+    this.snapshotFile = Objects.requireNonNull(file);
+    this.snapshotPeriodMillis = periodMillis;
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> metrics(InformerMetrics metrics) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting metrics");
+    }
+    this.metrics = Objects.requireNonNull(metrics);
+    this.reflector.setMetrics(metrics, id);
+    this.processor.setMetrics(metrics, id);
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> updateFilter(BiPredicate<T, T> updateFilter) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting an update filter");
+    }
+    this.processorStore.setUpdateFilter(Objects.requireNonNull(updateFilter));
+    return this;
+  }
+
   @Override
   public String toString() {
     return this.description;
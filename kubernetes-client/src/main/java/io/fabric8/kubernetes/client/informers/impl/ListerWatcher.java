@@ -38,4 +38,11 @@ public interface ListerWatcher<T, L> {
   int getWatchReconnectInterval();
 
   String getApiEndpointPath();
+
+  /**
+   * @return the name, label and field selectors limiting what is listed and watched from the endpoint
+   */
+  default String getSelectors() {
+    return "";
+  }
 }
@@ -17,8 +17,11 @@ package io.fabric8.kubernetes.client.informers.impl;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Informable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
@@ -51,6 +54,7 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
 
   private String name;
   private String namespace;
+  private boolean shared;
 
   private KubernetesClient client;
 
@@ -70,6 +74,12 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
     return this;
   }
 
+  @Override
+  public SharedInformerFactory withSharedInformers(boolean shared) {
+    this.shared = shared;
+    return this;
+  }
+
   @Override
   public synchronized <T extends HasMetadata> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass,
       long resyncPeriodInMillis) {
@@ -89,7 +99,29 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
       informable = resources.inAnyNamespace();
     }
 
-    SharedIndexInformer<T> informer = informable.runnableInformer(resyncPeriodInMillis);
+    SharedIndexInformer<T> informer = shared ? informable.runnableSharedInformer(resyncPeriodInMillis)
+        : informable.runnableInformer(resyncPeriodInMillis);
+    this.informers.add(informer);
+    return informer;
+  }
+
+  @Override
+  public synchronized <T extends HasMetadata> SharedIndexInformer<PartialObjectMetadata> sharedIndexInformerForMetadata(
+      Class<T> apiTypeClass, long resyncPeriodInMillis) {
+    MixedOperation<T, KubernetesResourceList<T>, Resource<T>> resources = client.resources(apiTypeClass);
+
+    FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadata;
+    if (namespace != null) {
+      metadata = resources.inNamespace(namespace).metadataOnly();
+    } else {
+      metadata = resources.inAnyNamespace().metadataOnly();
+    }
+    if (name != null) {
+      metadata = metadata.withField("metadata.name", name);
+    }
+
+    SharedIndexInformer<PartialObjectMetadata> informer = shared ? metadata.runnableSharedInformer(resyncPeriodInMillis)
+        : metadata.runnableInformer(resyncPeriodInMillis);
     this.informers.add(informer);
     return informer;
   }
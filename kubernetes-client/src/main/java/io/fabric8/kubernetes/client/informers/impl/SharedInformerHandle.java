@@ -0,0 +1,278 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A reference to an informer tracked by the {@link SharedInformerRegistry}.
+ * <p>
+ * Event handlers, their queue and the update filter are local to the reference, and the handlers are removed when
+ * it is stopped. Indexers are added to the shared cache. Settings of the list/watch are only applied if the underlying
+ * informer has not been started yet, as they do not change what the references see. Settings of the shared cache
+ * are not supported, as they would change what the other references see.
+ */
+class SharedInformerHandle<T extends HasMetadata> implements SharedIndexInformer<T> {
+  private static final Logger log = LoggerFactory.getLogger(SharedInformerHandle.class);
+
+  private final SharedInformerRegistry registry;
+  private final SharedInformerRegistry.SharedEntry<T> entry;
+  private final DefaultSharedIndexInformer<T, ?> informer;
+  private final List<FilteringEventHandler> handlers = new ArrayList<>();
+  private volatile BiPredicate<T, T> updateFilter;
+  private int queueCapacity = -1;
+  private QueueOverflowPolicy queueOverflowPolicy;
+  private boolean stopped;
+
+  SharedInformerHandle(SharedInformerRegistry registry, SharedInformerRegistry.SharedEntry<T> entry) {
+    this.registry = registry;
+    this.entry = entry;
+    this.informer = entry.getInformer();
+  }
+
+  @Override
+  public SharedIndexInformer<T> addIndexers(Map<String, Function<T, List<String>>> indexers) {
+    informer.addIndexers(indexers);
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> removeIndexer(String name) {
+    throw unsupported("Removing an indexer");
+  }
+
+  @Override
+  public Indexer<T> getIndexer() {
+    return informer.getIndexer();
+  }
+
+  @Override
+  public SharedIndexInformer<T> addEventHandler(ResourceEventHandler<? super T> handler) {
+    return addEventHandlerWithResyncPeriod(handler, informer.getDefaultEventHandlerResyncPeriod());
+  }
+
+  @Override
+  public SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
+      long resyncPeriod) {
+    return addEventHandlerWithResyncPeriod(handler, resyncPeriod, false);
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handler,
+      long resyncPeriod, boolean resyncUnhandledOnly) {
+    if (stopped) {
+      log.info("Handler was not added to {} because it has stopped already", this);
+      return this;
+    }
+    FilteringEventHandler filtering = new FilteringEventHandler(handler);
+    informer.addEventHandler(filtering, resyncPeriod, resyncUnhandledOnly, queueCapacity, queueOverflowPolicy);
+    handlers.add(filtering);
+    return this;
+  }
+
+  @Override
+  public synchronized void removeEventHandler(ResourceEventHandler<? super T> handler) {
+    for (Iterator<FilteringEventHandler> iter = handlers.iterator(); iter.hasNext();) {
+      FilteringEventHandler filtering = iter.next();
+      if (filtering.handler == handler) {
+        iter.remove();
+        informer.removeEventHandler(filtering);
+      }
+    }
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> start() {
+    if (stopped) {
+      throw new IllegalStateException("Cannot restart a stopped informer");
+    }
+    return entry.start();
+  }
+
+  @Override
+  public SharedIndexInformer<T> run() {
+    Utils.waitUntilReadyOrFail(start(), -1, TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  @Override
+  public void stop() {
+    synchronized (this) {
+      if (stopped) {
+        return;
+      }
+      stopped = true;
+      handlers.forEach(informer::removeEventHandler);
+      handlers.clear();
+    }
+    registry.release(entry);
+  }
+
+  @Override
+  public String lastSyncResourceVersion() {
+    return informer.lastSyncResourceVersion();
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return !stopped && informer.isRunning();
+  }
+
+  @Override
+  public Class<T> getApiTypeClass() {
+    return informer.getApiTypeClass();
+  }
+
+  @Override
+  public synchronized boolean isWatching() {
+    return !stopped && informer.isWatching();
+  }
+
+  @Override
+  public Store<T> getStore() {
+    return informer.getStore();
+  }
+
+  @Override
+  public SharedIndexInformer<T> initialState(Stream<T> items) {
+    throw unsupported("Setting the initial state");
+  }
+
+  @Override
+  public SharedIndexInformer<T> itemStore(ItemStore<T> itemStore) {
+    throw unsupported("Setting the item store");
+  }
+
+  @Override
+  public SharedIndexInformer<T> listPrefetch(int pages) {
+    return configure("list prefetch", i -> i.listPrefetch(pages));
+  }
+
+  @Override
+  public SharedIndexInformer<T> watchList(boolean watchList) {
+    return configure("watch list", i -> i.watchList(watchList));
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> eventHandlerQueue(int capacity, QueueOverflowPolicy overflowPolicy) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Invalid event handler queue capacity " + capacity + ", must not be negative");
+    }
+    this.queueOverflowPolicy = Objects.requireNonNull(overflowPolicy);
+    this.queueCapacity = capacity;
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> incrementalResync(int slices) {
+    return configure("incremental resync", i -> i.incrementalResync(slices));
+  }
+
+  @Override
+  public SharedIndexInformer<T> snapshot(Path file, long periodMillis) {
+    throw unsupported("Setting a snapshot");
+  }
+
+  @Override
+  public SharedIndexInformer<T> metrics(InformerMetrics metrics) {
+    throw unsupported("Setting metrics");
+  }
+
+  /**
+   * Only notify the handlers of this reference of the updates for which the filter returns true.
+   * The other references are not affected.
+   */
+  @Override
+  public SharedIndexInformer<T> updateFilter(BiPredicate<T, T> updateFilter) {
+    this.updateFilter = Objects.requireNonNull(updateFilter);
+    return this;
+  }
+
+  private SharedIndexInformer<T> configure(String setting, Consumer<DefaultSharedIndexInformer<T, ?>> apply) {
+    if (!entry.configure(apply)) {
+      log.debug("Ignoring the {} setting of {}, as the shared list/watch has already been started", setting, this);
+    }
+    return this;
+  }
+
+  private UnsupportedOperationException unsupported(String operation) {
+    return new UnsupportedOperationException(operation + " is not supported by the shared informer " + this
+        + ", as it would affect all of the informers sharing it. Use a runnableInformer instead");
+  }
+
+  @Override
+  public String toString() {
+    return informer.toString();
+  }
+
+  /**
+   * Applies the update filter of this reference. Resyncs, which have the same old and new object, are not filtered.
+   */
+  private final class FilteringEventHandler implements ResourceEventHandler<T> {
+    private final ResourceEventHandler<? super T> handler;
+
+    FilteringEventHandler(ResourceEventHandler<? super T> handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void onNothing() {
+      handler.onNothing();
+    }
+
+    @Override
+    public void onAdd(T obj) {
+      handler.onAdd(obj);
+    }
+
+    @Override
+    public void onUpdate(T oldObj, T newObj) {
+      BiPredicate<T, T> filter = updateFilter;
+      if (filter == null || oldObj == newObj || filter.test(oldObj, newObj)) {
+        handler.onUpdate(oldObj, newObj);
+      }
+    }
+
+    @Override
+    public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+      handler.onDelete(obj, deletedFinalStateUnknown);
+    }
+  }
+
+}
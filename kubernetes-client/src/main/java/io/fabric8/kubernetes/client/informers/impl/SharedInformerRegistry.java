@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the informers shared by a client.
+ * <p>
+ * All of the informers obtained for the same key use a single {@link DefaultSharedIndexInformer} - and thus a
+ * single list/watch and cache. The underlying informer is started by the first start and is stopped once every
+ * informer using it has been stopped. A start that fails is retried by the next start.
+ */
+public class SharedInformerRegistry {
+
+  static class SharedEntry<T extends HasMetadata> {
+    private final Object key;
+    private final DefaultSharedIndexInformer<T, ?> informer;
+    private int references;
+    private boolean informerStarted;
+    private CompletableFuture<Void> started;
+
+    SharedEntry(Object key, DefaultSharedIndexInformer<T, ?> informer) {
+      this.key = key;
+      this.informer = informer;
+    }
+
+    DefaultSharedIndexInformer<T, ?> getInformer() {
+      return informer;
+    }
+
+    synchronized CompletableFuture<Void> start() {
+      if (started != null) {
+        return started;
+      }
+      CompletableFuture<Void> future = informerStarted ? informer.restart() : informer.start();
+      informerStarted = true;
+      started = future;
+      future.whenComplete((v, t) -> {
+        if (t != null) {
+          failed(future);
+        }
+      });
+      return future;
+    }
+
+    private synchronized void failed(CompletableFuture<Void> future) {
+      if (started == future) {
+        started = null;
+      }
+    }
+
+    /**
+     * Apply a setting of the list/watch, if the underlying informer has not been started yet
+     *
+     * @return false if the setting was not applied because the underlying informer has been started
+     */
+    synchronized boolean configure(Consumer<DefaultSharedIndexInformer<T, ?>> setting) {
+      if (informerStarted) {
+        return false;
+      }
+      setting.accept(informer);
+      return true;
+    }
+  }
+
+  private final Map<Object, SharedEntry<?>> entries = new HashMap<>();
+
+  /**
+   * Get a new reference to the informer for the given key, creating it if needed.
+   * <p>
+   * The returned informer must be stopped to release the reference.
+   *
+   * @param key identifies the list/watch, should include everything that affects it
+   * @param informerSupplier creates a non-running informer if there is none for the key
+   * @return a non-running informer that shares its list/watch and cache with the others for the same key
+   */
+  public synchronized <T extends HasMetadata> SharedIndexInformer<T> informerFor(Object key,
+      Supplier<DefaultSharedIndexInformer<T, ?>> informerSupplier) {
+    @SuppressWarnings("unchecked")
+    SharedEntry<T> entry = (SharedEntry<T>) entries.computeIfAbsent(key,
+        k -> new SharedEntry<>(k, informerSupplier.get()));
+    entry.references++;
+    return new SharedInformerHandle<>(this, entry);
+  }
+
+  synchronized void release(SharedEntry<?> entry) {
+    if (--entry.references == 0) {
+      entries.remove(entry.key, entry);
+      entry.informer.stop();
+    }
+  }
+
+  /**
+   * @return the number of underlying informers
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+}
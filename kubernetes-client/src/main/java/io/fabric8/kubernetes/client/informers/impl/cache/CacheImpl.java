@@ -25,17 +25,22 @@ import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * It basically saves and indexes all the entries.
+ * <br>
+ * Modifications are serialized, but reads of the items and indexes do not lock. Each index bucket
+ * is a concurrent set that is only modified when an item is added to or removed from that bucket,
+ * and it is dropped once empty.
  *
  * @param <T> type for cache object
  */
@@ -44,13 +49,16 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   public static final String NAMESPACE_INDEX = "namespace";
 
   // indexers stores index functions by their names
-  private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
 
   // items stores object instances
-  private ItemStore<T> items;
+  private volatile ItemStore<T> items;
+
+  // concurrent maps don't allow null keys, so null index values are stored under this key
+  private static final Object NULL_INDEX_VALUE = new Object();
 
   // indices stores objects' key by their indices
-  private final Map<String, Map<String, Set<String>>> indices = new HashMap<>();
+  private final Map<String, Map<Object, Set<String>>> indices = new ConcurrentHashMap<>();
 
   public CacheImpl() {
     this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
@@ -71,7 +79,7 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return registered indexers
    */
   @Override
-  public synchronized Map<String, Function<T, List<String>>> getIndexers() {
+  public Map<String, Function<T, List<String>>> getIndexers() {
     return Collections.unmodifiableMap(indexers);
   }
 
@@ -160,6 +168,13 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     return this.items.values().collect(Collectors.toList());
   }
 
+  /**
+   * @return the number of objects in the cache
+   */
+  public int size() {
+    return this.items.size();
+  }
+
   /**
    * Gets get by key.
    *
@@ -179,31 +194,25 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> index(String indexName, T obj) {
-    if (!this.indexers.containsKey(indexName)) {
+  public List<T> index(String indexName, T obj) {
+    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
+    Map<Object, Set<String>> index = getIndex(indexName);
+    if (indexFunc == null) {
       throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
     List<String> indexKeys = indexFunc.apply(obj);
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    if (index.isEmpty()) {
+    if (index.isEmpty() || indexKeys == null) {
       return new ArrayList<>();
     }
 
     Set<String> returnKeySet = new HashSet<>();
     for (String indexKey : indexKeys) {
-      Set<String> set = index.get(indexKey);
-      if (set.isEmpty()) {
-        continue;
+      Set<String> set = index.get(bucketKey(indexKey));
+      if (set != null) {
+        returnKeySet.addAll(set);
       }
-      returnKeySet.addAll(set);
     }
-
-    List<T> items = new ArrayList<>(returnKeySet.size());
-    for (String absoluteKey : returnKeySet) {
-      items.add(this.items.get(absoluteKey));
-    }
-    return items;
+    return getItems(returnKeySet);
   }
 
   /**
@@ -214,17 +223,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<String> indexKeys(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
-    List<String> keys = new ArrayList<>(set.size());
-    for (String key : set) {
-      keys.add(key);
+  public List<String> indexKeys(String indexName, String indexKey) {
+    Set<String> set = getIndex(indexName).get(bucketKey(indexKey));
+    if (set == null) {
+      return new ArrayList<>();
     }
-    return keys;
+    return new ArrayList<>(set);
   }
 
   /**
@@ -235,20 +239,38 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> byIndex(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
+  public List<T> byIndex(String indexName, String indexKey) {
+    Set<String> set = getIndex(indexName).get(bucketKey(indexKey));
     if (set == null) {
       return Arrays.asList();
     }
-    List<T> items = new ArrayList<>(set.size());
-    for (String key : set) {
-      items.add(this.items.get(key));
+    return getItems(set);
+  }
+
+  private Map<Object, Set<String>> getIndex(String indexName) {
+    Map<Object, Set<String>> index = this.indices.get(indexName);
+    if (index == null) {
+      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    return items;
+    return index;
+  }
+
+  private static Object bucketKey(String indexValue) {
+    return indexValue == null ? NULL_INDEX_VALUE : indexValue;
+  }
+
+  /**
+   * Get the items for the given keys, skipping any that were concurrently removed
+   */
+  private List<T> getItems(Collection<String> keys) {
+    List<T> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      T item = this.items.get(key);
+      if (item != null) {
+        result.add(item);
+      }
+    }
+    return result;
   }
 
   /**
@@ -268,18 +290,23 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
       String indexName = indexEntry.getKey();
       Function<T, List<String>> indexFunc = indexEntry.getValue();
-      Map<String, Set<String>> index = this.indices.get(indexName);
+      Map<Object, Set<String>> index = this.indices.get(indexName);
 
       updateIndex(key, newObj, indexFunc, index);
     }
   }
 
-  private void updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<String, Set<String>> index) {
+  private void updateIndex(String key, T newObj, Function<T, List<String>> indexFunc, Map<Object, Set<String>> index) {
     List<String> indexValues = indexFunc.apply(newObj);
     if (indexValues != null && !indexValues.isEmpty()) {
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> new HashSet<>());
-        indexSet.add(key);
+        index.compute(bucketKey(indexValue), (k, indexSet) -> {
+          if (indexSet == null) {
+            indexSet = ConcurrentHashMap.newKeySet();
+          }
+          indexSet.add(key);
+          return indexSet;
+        });
       }
     }
   }
@@ -300,15 +327,15 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
         continue;
       }
 
-      Map<String, Set<String>> index = this.indices.get(indexEntry.getKey());
+      Map<Object, Set<String>> index = this.indices.get(indexEntry.getKey());
       if (index == null) {
         continue;
       }
       for (String indexValue : indexValues) {
-        Set<String> indexSet = index.get(indexValue);
-        if (indexSet != null) {
+        index.computeIfPresent(bucketKey(indexValue), (k, indexSet) -> {
           indexSet.remove(key);
-        }
+          return indexSet.isEmpty() ? null : indexSet;
+        });
       }
     }
   }
@@ -320,11 +347,11 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param indexFunc the index func
    */
   public synchronized CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    HashMap<String, Set<String>> index = new HashMap<>();
+    Map<Object, Set<String>> index = new ConcurrentHashMap<>();
+    items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index));
+    // publish the index only once it is populated
     this.indices.put(indexName, index);
     this.indexers.put(indexName, indexFunc);
-
-    items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index));
     return this;
   }
 
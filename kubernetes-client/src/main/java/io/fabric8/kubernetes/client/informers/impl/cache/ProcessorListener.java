@@ -15,10 +15,24 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * ProcessorListener implements Runnable interface. It's supposed to run in background
@@ -31,6 +45,8 @@ import java.time.temporal.ChronoUnit;
  *
  * <br>
  * Modified to execute loosely coupled from its processing thread
+ * <br>
+ * Each listener has its own ordered queue, so that listeners are called independently of each other
  *
  * @param <T> type of ProcessorListener
  */
@@ -38,16 +54,191 @@ public class ProcessorListener<T> {
   private long resyncPeriodInMillis;
   private ZonedDateTime nextResync;
   private ResourceEventHandler<? super T> handler;
+  private SerialExecutor executor;
+  private Semaphore capacity;
+  private QueueOverflowPolicy overflowPolicy;
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final AtomicLong handledCount = new AtomicLong();
+  private final AtomicLong handlerNanos = new AtomicLong();
+  private final Map<String, String> handledVersions;
+  private final Function<T, String> keyFunction;
 
   public ProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodInMillis) {
+    this(handler, resyncPeriodInMillis, false, Cache::metaNamespaceKeyFunc);
+  }
+
+  /**
+   * @param resyncUnhandledOnly if true track the handled resourceVersions, and skip
+   *        the resync of items that have already been handled at their current version
+   * @param keyFunction the key function of the store the notifications come from
+   */
+  public ProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodInMillis,
+      boolean resyncUnhandledOnly, Function<T, String> keyFunction) {
     this.resyncPeriodInMillis = resyncPeriodInMillis;
     this.handler = handler;
+    this.handledVersions = resyncUnhandledOnly ? new ConcurrentHashMap<>() : null;
+    this.keyFunction = keyFunction;
 
     determineNextResync(ZonedDateTime.now());
   }
 
   public void add(Notification<T> notification) {
+    if (handledVersions == null) {
+      notification.handle(handler);
+      return;
+    }
+    if (notification.isResync() && isHandled(notification.getNewObject())) {
+      return;
+    }
     notification.handle(handler);
+    // only reached if the handler did not throw
+    T newObj = notification.getNewObject();
+    if (newObj instanceof HasMetadata) {
+      markHandled(newObj);
+    } else if (notification.getOldObject() != null) {
+      handledVersions.remove(keyFunction.apply(notification.getOldObject()));
+    }
+  }
+
+  /**
+   * Called for an update that was filtered rather than notified. The new version is considered
+   * handled if the old version was.
+   */
+  public void filtered(T oldObj, T newObj) {
+    if (handledVersions != null && isHandled(oldObj) && newObj instanceof HasMetadata) {
+      markHandled(newObj);
+    }
+  }
+
+  public boolean isResyncUnhandledOnly() {
+    return handledVersions != null;
+  }
+
+  /**
+   * Stop tracking the handled version of a deleted item. Called when the delete is distributed, as its
+   * notification may be discarded, or fail to be handled.
+   */
+  void forget(T item) {
+    if (handledVersions != null) {
+      handledVersions.remove(keyFunction.apply(item));
+    }
+  }
+
+  /**
+   * Stop tracking the handled versions of the items whose keys are not accepted, such as those no longer in the store
+   */
+  void retainHandled(Predicate<String> keyFilter) {
+    if (handledVersions != null) {
+      handledVersions.keySet().removeIf(keyFilter.negate());
+    }
+  }
+
+  /**
+   * @return the number of items whose handled version is tracked
+   */
+  int getHandledVersionCount() {
+    return handledVersions == null ? 0 : handledVersions.size();
+  }
+
+  private void markHandled(T item) {
+    handledVersions.put(keyFunction.apply(item), String.valueOf(((HasMetadata) item).getMetadata().getResourceVersion()));
+  }
+
+  private boolean isHandled(T item) {
+    if (!(item instanceof HasMetadata)) {
+      return false;
+    }
+    return String.valueOf(((HasMetadata) item).getMetadata().getResourceVersion())
+        .equals(handledVersions.get(keyFunction.apply(item)));
+  }
+
+  /**
+   * Set the queue used by {@link #execute(Runnable)}
+   *
+   * @param executor the executor to run the queued operations with
+   * @param capacity the queue capacity, or 0 if unbounded
+   * @param overflowPolicy what to do when a bounded queue is full
+   */
+  void setQueue(Executor executor, int capacity, QueueOverflowPolicy overflowPolicy) {
+    this.executor = new SerialExecutor(executor);
+    this.capacity = capacity > 0 ? new Semaphore(capacity) : null;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Queue an operation for this listener. Operations are run in order.
+   *
+   * @param operation the operation
+   * @return false if the operation was discarded because the queue is full or stopped
+   */
+  boolean execute(Runnable operation) {
+    try {
+      if (!acquire()) {
+        return false;
+      }
+      queueSize.incrementAndGet();
+      executor.execute(() -> {
+        long start = System.nanoTime();
+        try {
+          operation.run();
+        } finally {
+          handlerNanos.addAndGet(System.nanoTime() - start);
+          handledCount.incrementAndGet();
+          queueSize.decrementAndGet();
+          if (capacity != null) {
+            capacity.release();
+          }
+        }
+      });
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private boolean acquire() throws InterruptedException {
+    if (capacity == null) {
+      return true;
+    }
+    if (overflowPolicy == QueueOverflowPolicy.DISCARD) {
+      return capacity.tryAcquire();
+    }
+    while (!capacity.tryAcquire(1, TimeUnit.SECONDS)) {
+      if (executor.isShutdown()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * @return the number of notifications waiting to be handled, including the one being handled
+   */
+  public int getQueueSize() {
+    return queueSize.get();
+  }
+
+  /**
+   * @return the number of notifications handled
+   */
+  public long getHandledCount() {
+    return handledCount.get();
+  }
+
+  /**
+   * @return the total time spent in the handler in nanoseconds
+   */
+  public long getHandlerNanos() {
+    return handlerNanos.get();
   }
 
   public void determineNextResync(ZonedDateTime now) {
@@ -80,6 +271,13 @@ public class ProcessorListener<T> {
     }
 
     public abstract void handle(ResourceEventHandler<? super T> resourceEventHandler);
+
+    /**
+     * @return true if this is a resync, which has the same object as the old and new object
+     */
+    public boolean isResync() {
+      return oldObject != null && oldObject == newObject;
+    }
   }
 
   public static final class UpdateNotification<T> extends Notification<T> {
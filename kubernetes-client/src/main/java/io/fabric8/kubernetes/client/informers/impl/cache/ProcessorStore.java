@@ -21,10 +21,12 @@ import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.Notification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
 
 /**
  * Wraps a {@link Cache} and a {@link SharedProcessor} to distribute events related to changes and syncs
@@ -34,13 +36,23 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
   private CacheImpl<T> cache;
   private SharedProcessor<T> processor;
   private AtomicBoolean synced = new AtomicBoolean();
+  private volatile boolean restored;
   private List<String> deferredAdd = new ArrayList<>();
+  private volatile BiPredicate<T, T> updateFilter;
 
   public ProcessorStore(CacheImpl<T> cache, SharedProcessor<T> processor) {
     this.cache = cache;
     this.processor = processor;
   }
 
+  /**
+   * Only updates for which the filter, called with the old and new object, returns true will be distributed.
+   * The cache is always updated.
+   */
+  public void setUpdateFilter(BiPredicate<T, T> updateFilter) {
+    this.updateFilter = updateFilter;
+  }
+
   @Override
   public void add(T obj) {
     update(obj);
@@ -56,9 +68,14 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
     Notification<T> notification = null;
     if (oldObj != null) {
       if (!Objects.equals(oldObj.getMetadata().getResourceVersion(), obj.getMetadata().getResourceVersion())) {
-        notification = new ProcessorListener.UpdateNotification<>(oldObj, obj);
+        if (updateFilter == null || updateFilter.test(oldObj, obj)) {
+          notification = new ProcessorListener.UpdateNotification<>(oldObj, obj);
+        } else {
+          // the change is irrelevant, so the new version does not need to be resynced either
+          this.processor.distributeFiltered(oldObj, obj);
+        }
       }
-    } else if (synced.get() || !cache.isFullState()) {
+    } else if (synced.get() || restored || !cache.isFullState()) {
       notification = new ProcessorListener.AddNotification<>(obj);
     } else {
       deferredAdd.add(getKey(obj));
@@ -112,6 +129,7 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
     List<T> current = cache.list();
     if (nextKeys.isEmpty() && current.isEmpty()) {
       this.processor.distribute(l -> l.getHandler().onNothing(), false);
+      pruneHandled();
       return;
     }
     current.forEach(v -> {
@@ -121,6 +139,14 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
         this.processor.distribute(new ProcessorListener.DeleteNotification<>(v, true), false);
       }
     });
+    pruneHandled();
+  }
+
+  /**
+   * Stop tracking the handled versions of the items that are no longer in the store
+   */
+  public void pruneHandled() {
+    this.processor.retainHandled(key -> cache.getByKey(key) != null);
   }
 
   @Override
@@ -128,10 +154,37 @@ public class ProcessorStore<T extends HasMetadata> implements SyncableStore<T> {
     return cache.getKey(obj);
   }
 
+  /**
+   * Restore previously synced items, such as from a snapshot, notifying of them as adds.
+   * <p>
+   * The store holds a complete state afterwards, so later adds are not deferred. It is still only synced
+   * by the first list that retains the current items.
+   *
+   * @param items the items to restore
+   */
+  public void restore(List<T> items) {
+    restored = true;
+    items.forEach(i -> {
+      this.cache.put(i);
+      this.processor.distribute(new ProcessorListener.AddNotification<>(i), false);
+    });
+  }
+
   @Override
   public void resync() {
+    pruneHandled();
     this.cache.list()
         .forEach(i -> this.processor.distribute(new ProcessorListener.UpdateNotification<>(i, i), true));
   }
 
+  /**
+   * Resync only the items with the given keys
+   *
+   * @param keys the keys to resync, missing items are skipped
+   */
+  public void resync(Collection<String> keys) {
+    keys.stream().map(cache::getByKey).filter(Objects::nonNull)
+        .forEach(i -> this.processor.distribute(new ProcessorListener.UpdateNotification<>(i, i), true));
+  }
+
 }
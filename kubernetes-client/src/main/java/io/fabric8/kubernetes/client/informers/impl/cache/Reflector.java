@@ -17,16 +17,20 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.HttpURLConnection;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -34,9 +38,14 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T>> {
 
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+  static final long DEFAULT_INITIAL_EVENTS_TIMEOUT_MILLIS = 30_000;
+
   private static final Logger log = LoggerFactory.getLogger(Reflector.class);
 
   private volatile String lastSyncResourceVersion;
@@ -47,6 +56,15 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private volatile boolean watching;
   private volatile CompletableFuture<Watch> watchFuture;
   private volatile Future<?> reconnectFuture;
+  private volatile int listPrefetch;
+  private volatile boolean watchList;
+  private volatile InitialEvents initialEvents;
+  private volatile long initialEventsTimeoutMillis = DEFAULT_INITIAL_EVENTS_TIMEOUT_MILLIS;
+  private volatile InformerMetrics metrics = InformerMetrics.NOOP;
+  private volatile String metricsInformer;
+  // guards the consistency of the store with the lastSyncResourceVersion
+  private final Object syncLock = new Object();
+  private boolean syncing;
 
   public Reflector(ListerWatcher<T, L> listerWatcher, SyncableStore<T> store) {
     this.listerWatcher = listerWatcher;
@@ -59,6 +77,39 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     return listSyncAndWatch();
   }
 
+  /**
+   * Starts by resuming the watch from a previously synced resourceVersion, which the store state
+   * must already reflect.
+   * <br>
+   * Falls back to list and watch if the watch cannot be started, or if the resourceVersion is too old.
+   * <br>
+   * The resourceVersion is only reported as synced once the watch has been established from it.
+   *
+   * @param resourceVersion the resourceVersion to resume from
+   * @return a future that completes when the watch, or the list and watch, is established
+   */
+  public CompletableFuture<Void> resume(String resourceVersion) {
+    this.running = true;
+    CompletableFuture<Watch> started = startWatcher(watchOptions(resourceVersion));
+    if (started == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    watchStarted(started);
+    return started.handle((w, t) -> {
+      if (t == null) {
+        synchronized (syncLock) {
+          // events may already have advanced the version
+          if (lastSyncResourceVersion == null) {
+            lastSyncResourceVersion = resourceVersion;
+          }
+        }
+        return CompletableFuture.<Void> completedFuture(null);
+      }
+      log.debug("Could not resume the watch for {} at v{}, listing instead", this, resourceVersion, t);
+      return listSyncAndWatch();
+    }).thenCompose(Function.identity());
+  }
+
   public void stop() {
     running = false;
     Future<?> future = reconnectFuture;
@@ -95,44 +146,232 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     if (!running) {
       return CompletableFuture.completedFuture(null);
     }
+    synchronized (syncLock) {
+      // the store no longer reflects the lastSyncResourceVersion until synced
+      syncing = true;
+    }
+    if (watchList) {
+      return watchListSyncAndWatch();
+    }
     Set<String> nextKeys = new ConcurrentSkipListSet<>();
+    long listStart = System.nanoTime();
     return processList(nextKeys, null).thenAccept(result -> {
-      store.retainAll(nextKeys);
       final String latestResourceVersion = result.getMetadata().getResourceVersion();
-      lastSyncResourceVersion = latestResourceVersion;
+      synchronized (syncLock) {
+        store.retainAll(nextKeys);
+        lastSyncResourceVersion = latestResourceVersion;
+        syncing = false;
+      }
+      metrics.listCompleted(metricsInformer, nextKeys.size(), System.nanoTime() - listStart);
       log.debug("Listing items ({}) for {} at v{}", nextKeys.size(), this, latestResourceVersion);
-      CompletableFuture<Watch> started = startWatcher(latestResourceVersion);
-      if (started != null) {
-        // outside of the lock
-        started.whenComplete((w, t) -> {
-          if (w != null) {
-            if (running) {
-              watching = true;
-            } else {
-              stopWatch(w);
-            }
-          }
-        });
+      watchStarted(startWatcher(watchOptions(latestResourceVersion)));
+    });
+  }
+
+  /**
+   * Builds the store state from the initial events of a watch, rather than from a list.
+   * <br>
+   * Falls back to list and watch if the api server rejects the initial events request, or if
+   * the end of the initial events is not seen within the initial events timeout of the last event.
+   */
+  private CompletableFuture<Void> watchListSyncAndWatch() {
+    InitialEvents initial = new InitialEvents();
+    initialEvents = initial;
+    scheduleInitialEventsTimeout(initial, initialEventsTimeoutMillis);
+    CompletableFuture<Watch> started = startWatcher(new ListOptionsBuilder()
+        .withResourceVersionMatch("NotOlderThan")
+        .withAllowWatchBookmarks(true)
+        .addToAdditionalProperties(AbstractWatchManager.SEND_INITIAL_EVENTS, true)
+        .withTimeoutSeconds(null)
+        .build());
+    if (started == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    watchStarted(started);
+    started.whenComplete((w, t) -> {
+      if (t != null) {
+        initial.synced.completeExceptionally(t);
       }
     });
+    return initial.synced.handle((v, t) -> {
+      if (t == null) {
+        return CompletableFuture.<Void> completedFuture(null);
+      }
+      if (isInitialEventsUnsupported(t)) {
+        log.debug("Initial events are not supported for {}, using list and watch instead", this, t);
+        watchList = false;
+        return listSyncAndWatch();
+      }
+      if (t instanceof TimeoutException) {
+        log.warn("The end of the initial events was not received for {}, using list and watch instead", this);
+        watchList = false;
+        stopWatcher();
+        return listSyncAndWatch();
+      }
+      CompletableFuture<Void> failed = new CompletableFuture<>();
+      failed.completeExceptionally(t);
+      return failed;
+    }).thenCompose(Function.identity());
+  }
+
+  private void scheduleInitialEventsTimeout(InitialEvents initial, long delayMillis) {
+    Utils.schedule(Runnable::run, () -> {
+      if (initial.synced.isDone() || !running) {
+        return;
+      }
+      long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initial.lastEventNanos);
+      long timeoutMillis = initialEventsTimeoutMillis;
+      if (idleMillis < timeoutMillis) {
+        // events are still arriving
+        scheduleInitialEventsTimeout(initial, timeoutMillis - idleMillis);
+      } else if (initial.synced.completeExceptionally(new TimeoutException())) {
+        initialEvents = null;
+      }
+    }, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static boolean isInitialEventsUnsupported(Throwable t) {
+    if (t instanceof CompletionException) {
+      t = t.getCause();
+    }
+    if (t instanceof WatcherException) {
+      t = ((WatcherException) t).asClientException();
+    }
+    if (t instanceof KubernetesClientException) {
+      int code = ((KubernetesClientException) t).getCode();
+      return code == HttpURLConnection.HTTP_BAD_REQUEST || code == HTTP_UNPROCESSABLE_ENTITY;
+    }
+    return false;
+  }
+
+  /**
+   * Bookmarks are requested so that the last sync resource version stays current
+   * even when there are no changes to the watched resources
+   */
+  private static ListOptions watchOptions(String resourceVersion) {
+    return new ListOptionsBuilder().withResourceVersion(resourceVersion)
+        .withTimeoutSeconds(null)
+        .withAllowWatchBookmarks(true)
+        .build();
+  }
+
+  private void watchStarted(CompletableFuture<Watch> started) {
+    if (started != null) {
+      // outside of the lock
+      started.whenComplete((w, t) -> {
+        if (w != null) {
+          if (running) {
+            watching = true;
+          } else {
+            stopWatch(w);
+          }
+        }
+      });
+    }
   }
 
   private CompletableFuture<L> processList(Set<String> nextKeys, String continueVal) {
-    CompletableFuture<L> futureResult = listerWatcher
-        .submitList(new ListOptionsBuilder().withLimit(listerWatcher.getLimit()).withContinue(continueVal).build());
+    return new PagedList(nextKeys, listPrefetch).start(continueVal);
+  }
+
+  /**
+   * Fetches the list pages, applying each one to the store in order.
+   * <br>
+   * Up to prefetch pages may be requested ahead of the page currently being applied,
+   * so that the request for the next page overlaps with the processing of the current one.
+   */
+  private class PagedList {
+    private final Set<String> nextKeys;
+    private final int prefetch;
+    private final CompletableFuture<L> result = new CompletableFuture<>();
+    private CompletableFuture<Void> applied = CompletableFuture.completedFuture(null);
+    private int pending;
+    private String deferredContinueVal;
 
-    return futureResult.thenCompose(result -> {
-      result.getItems().forEach(i -> {
-        String key = store.getKey(i);
-        nextKeys.add(key);
+    PagedList(Set<String> nextKeys, int prefetch) {
+      this.nextKeys = nextKeys;
+      this.prefetch = prefetch;
+    }
+
+    CompletableFuture<L> start(String continueVal) {
+      return listerWatcher.submitList(listOptions(continueVal)).thenCompose(page -> {
+        received(page);
+        return result;
       });
-      store.update(result.getItems());
-      String nextContinueVal = result.getMetadata().getContinue();
-      if (Utils.isNotNullOrEmpty(nextContinueVal)) {
-        return processList(nextKeys, nextContinueVal);
+    }
+
+    private void fetch(String continueVal) {
+      try {
+        listerWatcher.submitList(listOptions(continueVal)).whenComplete((page, t) -> {
+          if (t != null) {
+            result.completeExceptionally(t);
+          } else {
+            received(page);
+          }
+        });
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
       }
-      return CompletableFuture.completedFuture(result);
-    });
+    }
+
+    private ListOptions listOptions(String continueVal) {
+      return new ListOptionsBuilder().withLimit(listerWatcher.getLimit()).withContinue(continueVal).build();
+    }
+
+    private void received(L page) {
+      String nextContinueVal = page.getMetadata().getContinue();
+      boolean more = Utils.isNotNullOrEmpty(nextContinueVal);
+      boolean fetchNext = false;
+      CompletableFuture<Void> previous;
+      CompletableFuture<Void> current = new CompletableFuture<>();
+      synchronized (this) {
+        // chain before requesting the next page to preserve the page order
+        previous = applied;
+        applied = current;
+        pending++;
+        if (more) {
+          if (pending <= prefetch) {
+            fetchNext = true;
+          } else {
+            deferredContinueVal = nextContinueVal;
+          }
+        }
+      }
+      if (fetchNext) {
+        fetch(nextContinueVal);
+      }
+      previous.whenComplete((v, e) -> apply(page, more, current, e));
+    }
+
+    private void apply(L page, boolean more, CompletableFuture<Void> current, Throwable previousFailure) {
+      if (previousFailure != null || result.isDone()) {
+        current.completeExceptionally(previousFailure != null ? previousFailure : new CancellationException());
+        return;
+      }
+      String toFetch;
+      try {
+        page.getItems().forEach(i -> {
+          String key = store.getKey(i);
+          nextKeys.add(key);
+        });
+        store.update(page.getItems());
+      } catch (RuntimeException e) {
+        current.completeExceptionally(e);
+        result.completeExceptionally(e);
+        return;
+      }
+      synchronized (this) {
+        pending--;
+        toFetch = deferredContinueVal;
+        deferredContinueVal = null;
+      }
+      current.complete(null);
+      if (toFetch != null) {
+        fetch(toFetch);
+      } else if (!more) {
+        result.complete(page);
+      }
+    }
   }
 
   private void stopWatch(Watch w) {
@@ -141,15 +380,13 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     watchStopped(); // proactively report as stopped
   }
 
-  private synchronized CompletableFuture<Watch> startWatcher(final String latestResourceVersion) {
+  private synchronized CompletableFuture<Watch> startWatcher(ListOptions options) {
     if (!running) {
       return null;
     }
-    log.debug("Starting watcher for {} at v{}", this, latestResourceVersion);
+    log.debug("Starting watcher for {} at v{}", this, options.getResourceVersion());
     // there's no need to stop the old watch, that will happen automatically when this call completes
-    watchFuture = listerWatcher.submitWatch(new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
-        .withTimeoutSeconds(null)
-        .build(), watcher);
+    watchFuture = listerWatcher.submitWatch(options, watcher);
     return watchFuture;
   }
 
@@ -157,10 +394,65 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     watching = false;
   }
 
+  /**
+   * Set the number of list pages that may be requested ahead of the page being applied to the store.
+   *
+   * @param listPrefetch the number of pages, 0 to request the pages strictly sequentially
+   */
+  public void setListPrefetch(int listPrefetch) {
+    this.listPrefetch = listPrefetch;
+  }
+
+  /**
+   * Build the initial store state from the initial events of the watch rather than from a list.
+   *
+   * @param watchList true to use the initial events of the watch
+   */
+  public void setWatchList(boolean watchList) {
+    this.watchList = watchList;
+  }
+
+  /**
+   * Set how long to wait, since the last initial event, for the end of the initial events
+   * before falling back to list and watch.
+   *
+   * @param initialEventsTimeoutMillis the timeout in milliseconds
+   */
+  public void setInitialEventsTimeout(long initialEventsTimeoutMillis) {
+    this.initialEventsTimeoutMillis = initialEventsTimeoutMillis;
+  }
+
+  /**
+   * Set the metrics to report list and watch measurements to
+   *
+   * @param metrics the metrics
+   * @param informer identifies the informer to the metrics
+   */
+  public void setMetrics(InformerMetrics metrics, String informer) {
+    this.metricsInformer = informer;
+    this.metrics = metrics;
+  }
+
   public String getLastSyncResourceVersion() {
     return lastSyncResourceVersion;
   }
 
+  /**
+   * Call the function with the lastSyncResourceVersion, while the store is exactly at that version.
+   * Events are not applied to the store until the function returns.
+   *
+   * @param function called with the lastSyncResourceVersion
+   * @return the result of the function, or null if the store is being synced or has not been synced yet
+   */
+  public <R> R withSyncedState(Function<String, R> function) {
+    synchronized (syncLock) {
+      if (syncing || lastSyncResourceVersion == null) {
+        return null;
+      }
+      return function.apply(lastSyncResourceVersion);
+    }
+  }
+
   public boolean isRunning() {
     return running;
   }
@@ -169,7 +461,26 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     return watching;
   }
 
-  class ReflectorWatcher implements Watcher<T> {
+  /**
+   * Tracks the keys seen while receiving the initial events of a watch
+   */
+  private static class InitialEvents {
+    private final Set<String> nextKeys = new ConcurrentSkipListSet<>();
+    private final CompletableFuture<Void> synced = new CompletableFuture<>();
+    private volatile long lastEventNanos = System.nanoTime();
+  }
+
+  class ReflectorWatcher implements Watcher<T>, AbstractWatchManager.WatchMonitor {
+
+    @Override
+    public void eventDecoded(long nanos) {
+      metrics.eventDecoded(metricsInformer, nanos);
+    }
+
+    @Override
+    public void reconnectScheduled() {
+      metrics.watchReconnected(metricsInformer);
+    }
 
     @Override
     public void eventReceived(Action action, T resource) {
@@ -183,10 +494,22 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         log.debug("Event received {} {} resourceVersion v{} for {}", action.name(), resource.getKind(),
             resource.getMetadata().getResourceVersion(), Reflector.this);
       }
+      metrics.eventReceived(metricsInformer, action);
+      synchronized (syncLock) {
+        applyEvent(action, resource);
+      }
+    }
+
+    private void applyEvent(Action action, T resource) {
+      InitialEvents initial = initialEvents;
       switch (action) {
         case ERROR:
           throw new KubernetesClientException("ERROR event");
         case ADDED:
+          if (initial != null) {
+            initial.nextKeys.add(store.getKey(resource));
+            initial.lastEventNanos = System.nanoTime();
+          }
           store.add(resource);
           break;
         case MODIFIED:
@@ -195,6 +518,19 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         case DELETED:
           store.delete(resource);
           break;
+        case BOOKMARK:
+          if (initial != null && AbstractWatchManager.isInitialEventsEnd(resource)) {
+            store.retainAll(initial.nextKeys);
+            initialEvents = null;
+            lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
+            syncing = false;
+            log.debug("Received initial events ({}) for {} at v{}", initial.nextKeys.size(), Reflector.this,
+                lastSyncResourceVersion);
+            initial.synced.complete(null);
+            return;
+          }
+          // only the resource version needs to be tracked
+          break;
       }
       lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
     }
@@ -205,19 +541,18 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       // not the user, it is expected that the watch retry will handle this
       boolean restarted = false;
       try {
-        if (exception.isHttpGone()) {
+        InitialEvents initial = initialEvents;
+        if (initial != null && initial.synced.completeExceptionally(exception)) {
+          // handled by the initial sync
+          initialEvents = null;
+        } else if (exception.isHttpGone()) {
+          metrics.watchReconnected(metricsInformer);
+          // the watch manager already reconnected from the latest event or bookmark version,
+          // so that version has expired as well
           if (log.isDebugEnabled()) {
             log.debug("Watch restarting due to http gone for {}", Reflector.this);
           }
-          listSyncAndWatch().whenComplete((v, t) -> {
-            if (t != null) {
-              watchStopped();
-              // start a whole new list/watch cycle, can be run in the scheduler thread because
-              // any further operations will happen on the io thread
-              reconnectFuture = Utils.schedule(Runnable::run, Reflector.this::listSyncAndWatch,
-                  listerWatcher.getWatchReconnectInterval(), TimeUnit.MILLISECONDS);
-            }
-          });
+          relist();
           restarted = true;
         } else {
           log.warn("Watch closing with exception for {}", Reflector.this, exception);
@@ -230,6 +565,18 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       }
     }
 
+    private void relist() {
+      listSyncAndWatch().whenComplete((v, t) -> {
+        if (t != null) {
+          watchStopped();
+          // start a whole new list/watch cycle, can be run in the scheduler thread because
+          // any further operations will happen on the io thread
+          reconnectFuture = Utils.schedule(Runnable::run, Reflector.this::listSyncAndWatch,
+              listerWatcher.getWatchReconnectInterval(), TimeUnit.MILLISECONDS);
+        }
+      });
+    }
+
     @Override
     public void onClose() {
       watchStopped();
@@ -15,20 +15,24 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
-import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Executor;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -40,6 +44,8 @@ import java.util.function.Supplier;
  *
  * <br>
  * Modified to simplify threading
+ * <br>
+ * Each listener is notified through its own queue, so a slow listener does not delay the others
  */
 public class SharedProcessor<T> {
   private static final Logger log = LoggerFactory.getLogger(SharedProcessor.class);
@@ -48,16 +54,30 @@ public class SharedProcessor<T> {
 
   private final List<ProcessorListener<T>> listeners = new ArrayList<>();
   private final List<ProcessorListener<T>> syncingListeners = new ArrayList<>();
-  private final SerialExecutor executor;
+  private final Executor executor;
   private final String informerDescription;
+  private final Function<T, String> keyFunction;
+  private volatile int listenerQueueCapacity;
+  private volatile QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.BLOCK;
+  private volatile boolean stopped;
+  private volatile InformerMetrics metrics = InformerMetrics.NOOP;
+  private volatile String metricsInformer;
 
   public SharedProcessor() {
     this(Runnable::run, "informer");
   }
 
   public SharedProcessor(Executor executor, String informerDescription) {
-    this.executor = new SerialExecutor(executor);
+    this(executor, informerDescription, Cache::metaNamespaceKeyFunc);
+  }
+
+  /**
+   * @param keyFunction the key function of the store that is distributed, used to track handled items
+   */
+  public SharedProcessor(Executor executor, String informerDescription, Function<T, String> keyFunction) {
+    this.executor = executor;
     this.informerDescription = informerDescription;
+    this.keyFunction = keyFunction;
   }
 
   /**
@@ -66,8 +86,16 @@ public class SharedProcessor<T> {
    * @param processorListener specific processor listener
    */
   public void addListener(final ProcessorListener<T> processorListener) {
+    addListener(processorListener, listenerQueueCapacity, overflowPolicy);
+  }
+
+  private void addListener(ProcessorListener<T> processorListener, int capacity, QueueOverflowPolicy overflowPolicy) {
     lock.writeLock().lock();
     try {
+      processorListener.setQueue(executor, capacity, overflowPolicy);
+      if (stopped) {
+        processorListener.stop();
+      }
       this.listeners.add(processorListener);
       if (processorListener.isReSync()) {
         this.syncingListeners.add(processorListener);
@@ -77,6 +105,27 @@ public class SharedProcessor<T> {
     }
   }
 
+  /**
+   * Removes and stops the listeners for the given handler
+   *
+   * @param handler the handler to remove
+   */
+  public void removeListener(ResourceEventHandler<? super T> handler) {
+    lock.writeLock().lock();
+    try {
+      for (Iterator<ProcessorListener<T>> iter = this.listeners.iterator(); iter.hasNext();) {
+        ProcessorListener<T> listener = iter.next();
+        if (listener.getHandler() == handler) {
+          iter.remove();
+          this.syncingListeners.remove(listener);
+          listener.stop();
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
   /**
    * Distribute the object amount listeners.
    *
@@ -84,9 +133,40 @@ public class SharedProcessor<T> {
    * @param isSync whether in sync or not
    */
   public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
+    if (obj instanceof ProcessorListener.DeleteNotification) {
+      forEachUnhandledOnly(l -> l.forget(obj.getOldObject()));
+    }
     distribute(l -> l.add(obj), isSync);
   }
 
+  /**
+   * Stop tracking the handled versions of the items whose keys are not accepted by the filter
+   *
+   * @param keyFilter accepts the keys of the items still in the store
+   */
+  public void retainHandled(Predicate<String> keyFilter) {
+    forEachUnhandledOnly(l -> l.retainHandled(keyFilter));
+  }
+
+  private void forEachUnhandledOnly(Consumer<ProcessorListener<T>> operation) {
+    lock.readLock().lock();
+    try {
+      listeners.stream().filter(ProcessorListener::isResyncUnhandledOnly).forEach(operation);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Distribute an update that was filtered, and so is not notified, to the listeners
+   * that track the handled versions
+   */
+  public void distributeFiltered(T oldObj, T newObj) {
+    List<ProcessorListener<T>> toCall = new ArrayList<>();
+    forEachUnhandledOnly(toCall::add);
+    distribute(l -> l.filtered(oldObj, newObj), toCall);
+  }
+
   /**
    * Distribute the operation to the respective listeners
    */
@@ -103,19 +183,61 @@ public class SharedProcessor<T> {
     } finally {
       lock.readLock().unlock();
     }
-    try {
-      executor.execute(() -> {
-        for (ProcessorListener<T> listener : toCall) {
-          try {
-            operation.accept(listener);
-          } catch (Exception ex) {
-            log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
-                ex);
-          }
+    distribute(operation, toCall);
+  }
+
+  private void distribute(Consumer<ProcessorListener<T>> operation, List<ProcessorListener<T>> toCall) {
+    for (ProcessorListener<T> listener : toCall) {
+      long queuedAt = System.nanoTime();
+      boolean queued = listener.execute(() -> {
+        long start = System.nanoTime();
+        try {
+          operation.accept(listener);
+        } catch (Exception ex) {
+          log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
+              ex);
+        } finally {
+          metrics.notificationHandled(metricsInformer, start - queuedAt, System.nanoTime() - start);
         }
       });
-    } catch (RejectedExecutionException e) {
-      // do nothing
+      if (!queued && !stopped) {
+        log.debug("{} discarded a notification for {} event handler because its queue is full", informerDescription,
+            listener.getHandler());
+      }
+    }
+  }
+
+  /**
+   * Set the queue capacity and overflow policy for listeners added after this call
+   *
+   * @param capacity the queue capacity, 0 for unbounded
+   * @param overflowPolicy what to do when the queue is full
+   */
+  public void setListenerQueue(int capacity, QueueOverflowPolicy overflowPolicy) {
+    this.listenerQueueCapacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Set the metrics to report handled notifications to
+   *
+   * @param metrics the metrics
+   * @param informer identifies the informer to the metrics
+   */
+  public void setMetrics(InformerMetrics metrics, String informer) {
+    this.metricsInformer = informer;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the number of notifications waiting to be handled across all listeners
+   */
+  public int getQueueSize() {
+    lock.readLock().lock();
+    try {
+      return listeners.stream().mapToInt(ProcessorListener::getQueueSize).sum();
+    } finally {
+      lock.readLock().unlock();
     }
   }
 
@@ -140,9 +262,10 @@ public class SharedProcessor<T> {
   }
 
   public void stop() {
-    executor.shutdownNow();
     lock.writeLock().lock();
     try {
+      stopped = true;
+      listeners.forEach(ProcessorListener::stop);
       syncingListeners.clear();
       listeners.clear();
     } finally {
@@ -156,15 +279,34 @@ public class SharedProcessor<T> {
    */
   public ProcessorListener<T> addProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
       Supplier<Collection<T>> initialItems) {
+    return addProcessorListener(handler, resyncPeriodMillis, false, initialItems);
+  }
+
+  /**
+   * Adds a new listener, which may skip the resync of the items it has already handled
+   */
+  public ProcessorListener<T> addProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
+      boolean resyncUnhandledOnly, Supplier<Collection<T>> initialItems) {
+    return addProcessorListener(handler, resyncPeriodMillis, resyncUnhandledOnly, listenerQueueCapacity, overflowPolicy,
+        initialItems);
+  }
+
+  /**
+   * Adds a new listener with its own queue capacity and overflow policy, rather than those set by
+   * {@link #setListenerQueue(int, QueueOverflowPolicy)}
+   */
+  public ProcessorListener<T> addProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodMillis,
+      boolean resyncUnhandledOnly, int queueCapacity, QueueOverflowPolicy queueOverflowPolicy,
+      Supplier<Collection<T>> initialItems) {
     lock.writeLock().lock();
     try {
-      ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis);
+      ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis, resyncUnhandledOnly, keyFunction);
 
       for (T item : initialItems.get()) {
         listener.add(new ProcessorListener.AddNotification<>(item));
       }
 
-      addListener(listener);
+      addListener(listener, queueCapacity, queueOverflowPolicy);
       return listener;
     } finally {
       lock.writeLock().unlock();
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A point in time copy of the informer store, which can be persisted to resume the informer from.
+ * <p>
+ * The file is a gzip compressed sequence of: a format marker, the source, the resourceVersion, the item count
+ * and then each item as length prefixed json.
+ * <p>
+ * The source describes what the items were listed and watched from, so that a snapshot is not restored
+ * into a different informer.
+ *
+ * @param <T> resource
+ */
+public class StoreSnapshot<T> {
+
+  private static final int FORMAT = 0x6b387302;
+
+  private final String source;
+  private final String resourceVersion;
+  private final List<T> items;
+
+  public StoreSnapshot(String source, String resourceVersion, List<T> items) {
+    this.source = source;
+    this.resourceVersion = resourceVersion;
+    this.items = items;
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  public String getResourceVersion() {
+    return resourceVersion;
+  }
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  /**
+   * Write the snapshot, replacing the file only once it has been completely written.
+   *
+   * @param file the snapshot file
+   * @param source what the items were listed and watched from
+   * @param resourceVersion the resourceVersion of the state of the items
+   * @param items the items
+   */
+  public static void write(Path file, String source, String resourceVersion, Collection<?> items)
+      throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    try {
+      ObjectWriter writer = Serialization.jsonMapper().writer();
+      try (OutputStream os = Files.newOutputStream(temp);
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(os)))) {
+        out.writeInt(FORMAT);
+        out.writeUTF(source);
+        out.writeUTF(resourceVersion);
+        out.writeInt(items.size());
+        for (Object item : items) {
+          byte[] bytes = writer.writeValueAsBytes(item);
+          out.writeInt(bytes.length);
+          out.write(bytes);
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Read a snapshot
+   *
+   * @param file the snapshot file
+   * @param type the item type
+   * @return the snapshot, or null if the file does not exist
+   */
+  public static <T> StoreSnapshot<T> read(Path file, Class<T> type) throws IOException {
+    if (!Files.exists(file)) {
+      return null;
+    }
+    ObjectReader reader = Serialization.jsonMapper().readerFor(type);
+    try (InputStream is = Files.newInputStream(file);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(is)))) {
+      if (in.readInt() != FORMAT) {
+        throw new IOException("Unrecognized snapshot format in " + file);
+      }
+      String source = in.readUTF();
+      String resourceVersion = in.readUTF();
+      int count = in.readInt();
+      List<T> items = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        items.add(reader.readValue(bytes));
+      }
+      return new StoreSnapshot<>(source, resourceVersion, items);
+    }
+  }
+
+}
@@ -94,6 +94,7 @@ import io.fabric8.kubernetes.client.dsl.StorageAPIGroupDSL;
 import io.fabric8.kubernetes.client.dsl.V1APIGroupDSL;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectorBuilder;
+import io.fabric8.kubernetes.client.extended.logs.PodLogAggregatorBuilder;
 import io.fabric8.kubernetes.client.extended.run.RunOperations;
 import io.fabric8.kubernetes.client.extension.ClientAdapter;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
@@ -384,6 +385,11 @@ public class NamespacedKubernetesClientAdapter<N extends NamespacedKubernetesCli
     return getClient().leaderElector();
   }
 
+  @Override
+  public PodLogAggregatorBuilder podLogAggregator() {
+    return getClient().podLogAggregator();
+  }
+
   @Override
   public MixedOperation<Lease, LeaseList, Resource<Lease>> leases() {
     return getClient().leases();
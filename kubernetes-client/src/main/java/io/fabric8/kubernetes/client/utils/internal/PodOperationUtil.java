@@ -15,10 +15,12 @@
  */
 package io.fabric8.kubernetes.client.utils.internal;
 
+import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
@@ -84,6 +86,35 @@ public class PodOperationUtil {
     return findFirstPodResource(podResources).map(it -> it.watchLog(out)).orElse(null);
   }
 
+  /**
+   * @param containerId the container, or null for the first container of the pod
+   * @return true if the pod no longer exists, has completed or the container has terminated
+   */
+  public static boolean hasTerminated(Pod pod, String containerId) {
+    if (pod == null) {
+      return true;
+    }
+    if (pod.getStatus() == null) {
+      return false;
+    }
+    if ("Succeeded".equals(pod.getStatus().getPhase()) || "Failed".equals(pod.getStatus().getPhase())) {
+      return true;
+    }
+    List<ContainerStatus> statuses = pod.getStatus().getContainerStatuses();
+    if (statuses == null) {
+      return false;
+    }
+    return statuses.stream()
+        .filter(status -> containerId == null || containerId.equals(status.getName()))
+        .findFirst()
+        .map(status -> status.getState() != null && status.getState().getTerminated() != null)
+        .orElse(false);
+  }
+
+  public static LogWatch watchLogLines(List<PodResource> podResources, LogLineListener listener) {
+    return findFirstPodResource(podResources).map(it -> it.watchLogLines(listener)).orElse(null);
+  }
+
   public static Reader getLogReader(List<PodResource> podResources) {
     return findFirstPodResource(podResources).map(Loggable::getLogReader).orElse(null);
   }
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import io.fabric8.kubernetes.client.RequestPriorityClass;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules requests by their {@link RequestPriorityClass}.
+ * <br>
+ * A request is dispatched when both its class and the scheduler as a whole have a free slot. Freed slots go to the
+ * queued requests of the highest priority class first. A class may also be paused, for example when the server
+ * rejected one of its requests with a Retry-After.
+ */
+public class RequestScheduler {
+
+  private static final class PriorityClassState {
+    private final RequestPriorityClass priorityClass;
+    private final Deque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+    private int inFlight;
+    private long pausedUntil;
+
+    PriorityClassState(RequestPriorityClass priorityClass) {
+      this.priorityClass = priorityClass;
+      this.pausedUntil = System.nanoTime();
+    }
+
+    boolean canDispatch(long now) {
+      return !queue.isEmpty() && now - pausedUntil >= 0
+          && (priorityClass.getMaxInFlight() <= 0 || inFlight < priorityClass.getMaxInFlight());
+    }
+  }
+
+  private final Map<String, PriorityClassState> classes = new LinkedHashMap<>();
+  private final int maxInFlight;
+  private int inFlight;
+
+  /**
+   * @param priorityClasses the classes to schedule requests in
+   * @param maxInFlight the max number of scheduled requests awaiting a response, or 0 for no limit
+   */
+  public RequestScheduler(List<RequestPriorityClass> priorityClasses, int maxInFlight) {
+    this.maxInFlight = maxInFlight;
+    if (priorityClasses != null) {
+      priorityClasses.stream()
+          .sorted(Comparator.comparingInt(RequestPriorityClass::getPriority).reversed())
+          .forEach(c -> classes.put(c.getName(), new PriorityClassState(c)));
+    }
+  }
+
+  /**
+   * @return true if requests of the named class are scheduled
+   */
+  public boolean isScheduled(String priority) {
+    return priority != null && classes.containsKey(priority);
+  }
+
+  /**
+   * Queue a request of the named class. Requests of a class that is not configured may start immediately.
+   *
+   * @return a future that completes when the request may be sent, which must be followed by a
+   *         {@link #release(String)} once the response has arrived
+   */
+  public CompletableFuture<Void> acquire(String priority) {
+    if (!isScheduled(priority)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    List<CompletableFuture<Void>> dispatched;
+    synchronized (this) {
+      classes.get(priority).queue.add(result);
+      dispatched = dispatch();
+    }
+    complete(dispatched);
+    return result;
+  }
+
+  public void release(String priority) {
+    if (!isScheduled(priority)) {
+      return;
+    }
+    List<CompletableFuture<Void>> dispatched;
+    synchronized (this) {
+      inFlight--;
+      classes.get(priority).inFlight--;
+      dispatched = dispatch();
+    }
+    complete(dispatched);
+  }
+
+  /**
+   * Hold back the requests of the named class for the given time, the requests already in flight are not affected.
+   */
+  public void pause(String priority, long delay, TimeUnit unit) {
+    if (!isScheduled(priority) || delay <= 0) {
+      return;
+    }
+    synchronized (this) {
+      PriorityClassState state = classes.get(priority);
+      long until = System.nanoTime() + unit.toNanos(delay);
+      if (until - state.pausedUntil <= 0) {
+        return;
+      }
+      state.pausedUntil = until;
+    }
+    Utils.schedule(Runnable::run, () -> {
+      List<CompletableFuture<Void>> dispatched;
+      synchronized (this) {
+        dispatched = dispatch();
+      }
+      complete(dispatched);
+    }, delay, unit);
+  }
+
+  public synchronized int getInFlight(String priority) {
+    PriorityClassState state = classes.get(priority);
+    return state == null ? 0 : state.inFlight;
+  }
+
+  public synchronized int getQueued(String priority) {
+    PriorityClassState state = classes.get(priority);
+    return state == null ? 0 : state.queue.size();
+  }
+
+  private List<CompletableFuture<Void>> dispatch() {
+    List<CompletableFuture<Void>> dispatched = new ArrayList<>();
+    long now = System.nanoTime();
+    for (PriorityClassState state : classes.values()) {
+      while ((maxInFlight <= 0 || inFlight < maxInFlight) && state.canDispatch(now)) {
+        inFlight++;
+        state.inFlight++;
+        dispatched.add(state.queue.poll());
+      }
+    }
+    return dispatched;
+  }
+
+  private static void complete(List<CompletableFuture<Void>> dispatched) {
+    // complete outside of the lock, as that sends the requests
+    dispatched.forEach(f -> f.complete(null));
+  }
+
+}
@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.dsl.internal;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.http.WebSocket;
@@ -29,6 +30,10 @@ import org.mockito.Mockito;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -214,6 +219,51 @@ class AbstractWatchManagerTest {
     assertThat(awm.closeCount.get()).isEqualTo(1);
   }
 
+  @Test
+  @DisplayName("onMessage, with bytes, decodes the object as the watched type")
+  void onMessageBytesUsesWatchedType() throws MalformedURLException {
+    // Given
+    final List<Pod> received = new ArrayList<>();
+    final WatcherAdapter<Pod> watcher = new WatcherAdapter<Pod>() {
+      @Override
+      public void eventReceived(Action action, Pod resource) {
+        received.add(resource);
+      }
+    };
+    final WatchManager<Pod> awm = withTypedWatchManager(watcher, Pod.class);
+    final byte[] message = ("{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\","
+        + "\"metadata\":{\"name\":\"pod1\",\"resourceVersion\":\"2\"}}}").getBytes(StandardCharsets.UTF_8);
+    // When
+    awm.onMessage(ByteBuffer.wrap(message));
+    // Then
+    assertThat(received).singleElement()
+        .extracting(p -> p.getMetadata().getName())
+        .isEqualTo("pod1");
+    assertThat(awm.resourceVersion.get()).isEqualTo("2");
+  }
+
+  @Test
+  @DisplayName("onMessage, with bytes, decodes an ERROR event as a Status")
+  void onMessageBytesWithErrorStatus() throws MalformedURLException {
+    // Given
+    final WatcherAdapter<Pod> watcher = new WatcherAdapter<>();
+    final WatchManager<Pod> awm = withTypedWatchManager(watcher, Pod.class);
+    final byte[] message = ("{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\","
+        + "\"code\":410,\"message\":\"too old resource version\"}}").getBytes(StandardCharsets.UTF_8);
+    // When
+    awm.onMessage(message, 0, message.length);
+    // Then
+    assertThat(watcher.closeCount.get()).isEqualTo(1);
+  }
+
+  private static <T extends HasMetadata> WatchManager<T> withTypedWatchManager(Watcher<T> watcher, Class<T> type)
+      throws MalformedURLException {
+    final BaseOperation<T, ?, ?> baseOperation = mock(BaseOperation.class);
+    Mockito.when(baseOperation.getType()).thenReturn(type);
+    return new WatchManager<>(
+        watcher, baseOperation, mock(ListOptions.class, RETURNS_DEEP_STUBS), 1, 0, 0);
+  }
+
   private static <T extends HasMetadata> WatchManager<T> withDefaultWatchManager(Watcher<T> watcher)
       throws MalformedURLException {
     return new WatchManager<>(
@@ -244,7 +294,12 @@ class AbstractWatchManagerTest {
 
     public WatchManager(Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval,
         int maxIntervalExponent) throws MalformedURLException {
-      super(watcher, Mockito.mock(BaseOperation.class), listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent,
+      this(watcher, Mockito.mock(BaseOperation.class), listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent);
+    }
+
+    public WatchManager(Watcher<T> watcher, BaseOperation<T, ?, ?> baseOperation, ListOptions listOptions,
+        int reconnectLimit, int reconnectInterval, int maxIntervalExponent) throws MalformedURLException {
+      super(watcher, baseOperation, listOptions, reconnectLimit, reconnectInterval, maxIntervalExponent,
           () -> null);
     }
 
@@ -16,15 +16,18 @@
 package io.fabric8.kubernetes.client.dsl.internal;
 
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.BaseClient;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.RequestPriorityClass;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
 import io.fabric8.kubernetes.client.extension.ExtensibleResource;
@@ -37,13 +40,17 @@ import io.fabric8.kubernetes.client.utils.CommonThreadPool;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.kubernetes.client.utils.internal.RequestScheduler;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +59,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -60,6 +68,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -208,6 +217,13 @@ class BaseOperationTest {
     assertEquals(URLUtils.join(url.toString(), "?watch=true"), operation.fetchListUrl(url, new ListOptionsBuilder()
         .withWatch(true)
         .build()).toString());
+    assertEquals(URLUtils.join(url.toString(), "?resourceVersionMatch=NotOlderThan&allowWatchBookmarks=true&sendInitialEvents=true&watch=true"),
+        operation.fetchListUrl(url, new ListOptionsBuilder()
+            .withResourceVersionMatch("NotOlderThan")
+            .withAllowWatchBookmarks(true)
+            .addToAdditionalProperties(AbstractWatchManager.SEND_INITIAL_EVENTS, true)
+            .withWatch(true)
+            .build()).toString());
   }
 
   @Test
@@ -335,6 +351,112 @@ class BaseOperationTest {
     assertEquals(3, httpExecutionCounter.get(), "Expected 3 calls: 2 failures and 1 success!");
   }
 
+  @Test
+  void testHttpRetryOnFlowControlRejection() {
+    final AtomicInteger httpExecutionCounter = new AtomicInteger(0);
+    HttpClient mockClient = newHttpClientWithTooManyRequests(httpExecutionCounter, true);
+    BaseOperation<Pod, PodList, Resource<Pod>> baseOp = new BaseOperation(new OperationContext()
+        .withClient(mockClient(mockClient,
+            new ConfigBuilder().withMasterUrl("https://172.17.0.2:8443").withNamespace("default")
+                .withRequestRetryBackoffLimit(3).withRequestRetryBackoffInterval(100).build()))
+        .withPlural("pods")
+        .withName("test-pod"));
+    baseOp.setType(Pod.class);
+
+    // When
+    Pod result = baseOp.get();
+
+    // Then
+    assertNotNull(result);
+    assertEquals(2, httpExecutionCounter.get(), "Expected 2 calls: 1 rejection and 1 success!");
+  }
+
+  @Test
+  void testNoHttpRetryOnOtherTooManyRequests() {
+    final AtomicInteger httpExecutionCounter = new AtomicInteger(0);
+    HttpClient mockClient = newHttpClientWithTooManyRequests(httpExecutionCounter, false);
+    BaseOperation<Pod, PodList, Resource<Pod>> baseOp = new BaseOperation(new OperationContext()
+        .withClient(mockClient(mockClient,
+            new ConfigBuilder().withMasterUrl("https://172.17.0.2:8443").withNamespace("default")
+                .withRequestRetryBackoffLimit(3).withRequestRetryBackoffInterval(100).build()))
+        .withPlural("pods")
+        .withName("test-pod"));
+    baseOp.setType(Pod.class);
+
+    // When
+    KubernetesClientException exception = assertThrows(KubernetesClientException.class, baseOp::get);
+
+    // Then
+    assertEquals(429, exception.getCode());
+    assertEquals(1, httpExecutionCounter.get());
+  }
+
+  @Test
+  void testStreamRetriesPagesAndReleasesTheSlotWhenClosed() {
+    // Given
+    final AtomicInteger httpExecutionCounter = new AtomicInteger(0);
+    HttpClient mockClient = mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+    HttpRequest.Builder mockRequestBuilder = mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+    when(mockClient.newHttpRequestBuilder()).thenReturn(mockRequestBuilder);
+    when(mockRequestBuilder.build()).thenReturn(new TestHttpRequest().withUri("https://k8s.example.com"));
+    when(mockClient.sendAsync(Mockito.any(), Mockito.eq(InputStream.class))).thenAnswer(invocation -> {
+      if (httpExecutionCounter.getAndIncrement() == 0) {
+        return CompletableFuture.completedFuture(
+            new TestHttpResponse<InputStream>().withCode(500).withBody(new ByteArrayInputStream(new byte[0])));
+      }
+      PodList list = new PodListBuilder().addNewItem().withNewMetadata().withName("pod1").endMetadata().endItem().build();
+      return CompletableFuture.completedFuture(new TestHttpResponse<InputStream>().withCode(200)
+          .withBody(new ByteArrayInputStream(Serialization.asJson(list).getBytes(StandardCharsets.UTF_8))));
+    });
+    Config config = new ConfigBuilder().withMasterUrl("https://172.17.0.2:8443").withNamespace("default")
+        .withRequestRetryBackoffLimit(3).withRequestRetryBackoffInterval(10).withRequestPriority(RequestPriorityClass.BULK)
+        .build();
+    BaseClient client = mockClient(mockClient, config);
+    RequestScheduler scheduler = new RequestScheduler(
+        Collections.singletonList(new RequestPriorityClass(RequestPriorityClass.BULK, 1, 1)), 1);
+    when(client.getRequestScheduler()).thenReturn(scheduler);
+    BaseOperation<Pod, PodList, Resource<Pod>> baseOp = new BaseOperation(new OperationContext()
+        .withClient(client)
+        .withPlural("pods"));
+    baseOp.setType(Pod.class);
+    ListOptions options = new ListOptionsBuilder().withLimit(1L).build();
+
+    // When
+    long count;
+    try (Stream<Pod> stream = baseOp.stream(options)) {
+      count = stream.count();
+    }
+
+    // Then
+    assertEquals(1, count);
+    assertEquals(2, httpExecutionCounter.get(), "Expected 2 calls: 1 server error and 1 success!");
+    assertEquals(0, scheduler.getInFlight(RequestPriorityClass.BULK));
+    assertNull(options.getContinue());
+    assertNull(options.getWatch());
+  }
+
+  private HttpClient newHttpClientWithTooManyRequests(final AtomicInteger httpExecutionCounter, boolean flowControl) {
+    HttpClient mockClient = mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+    HttpRequest.Builder mockRequestBuilder = mock(HttpRequest.Builder.class, Mockito.RETURNS_SELF);
+    when(mockClient.newHttpRequestBuilder()).thenReturn(mockRequestBuilder);
+    when(mockRequestBuilder.build()).thenReturn(new TestHttpRequest().withUri("https://k8s.example.com"));
+    when(mockClient.sendAsync(Mockito.any(), Mockito.eq(byte[].class))).thenAnswer(
+        invocation -> {
+          if (httpExecutionCounter.getAndIncrement() == 0) {
+            TestHttpResponse<byte[]> response = new TestHttpResponse<byte[]>().withCode(429).withBody(new byte[0])
+                .addHeader("Retry-After", "0");
+            if (flowControl) {
+              response.addHeader("X-Kubernetes-PF-PriorityLevel-UID", "uid");
+            }
+            return CompletableFuture.completedFuture(response);
+          }
+          Pod podNoLabels = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
+          return CompletableFuture.completedFuture(
+              TestHttpResponse.from(200, Serialization.asJson(podNoLabels)));
+        });
+    return mockClient;
+  }
+
   @Test
   void testMissingNamespace() {
     BaseOperation<Pod, PodList, Resource<Pod>> baseOp = new BaseOperation<>(new OperationContext()
@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineBufferTest {
+
+  @Test
+  void splitsLinesAcrossBuffers() {
+    List<String> lines = new ArrayList<>();
+    LineBuffer buffer = new LineBuffer();
+    LineBuffer.LineConsumer consumer = (bytes, offset, length) -> lines
+        .add(new String(bytes, offset, length, StandardCharsets.UTF_8));
+
+    buffer.append(ByteBuffer.wrap("{\"a\":".getBytes(StandardCharsets.UTF_8)), consumer);
+    assertThat(lines).isEmpty();
+    buffer.append(ByteBuffer.wrap("1}\n{\"b\":2}\r".getBytes(StandardCharsets.UTF_8)), consumer);
+    buffer.append(ByteBuffer.wrap("\n{\"c\":3}".getBytes(StandardCharsets.UTF_8)), consumer);
+    assertThat(lines).containsExactly("{\"a\":1}", "{\"b\":2}");
+
+    buffer.flush(consumer);
+    assertThat(lines).containsExactly("{\"a\":1}", "{\"b\":2}", "{\"c\":3}");
+  }
+
+  @Test
+  void growsForLongLines() {
+    List<Integer> lengths = new ArrayList<>();
+    LineBuffer buffer = new LineBuffer();
+    byte[] data = new byte[20000];
+    Arrays.fill(data, (byte) 'x');
+    data[data.length - 1] = '\n';
+
+    buffer.append(ByteBuffer.wrap(data), (bytes, offset, length) -> lengths.add(length));
+
+    assertThat(lengths).containsExactly(data.length - 1);
+  }
+
+}
@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.CommonThreadPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+class LogLineWatchCallbackTest {
+
+  private final List<String> lines = new CopyOnWriteArrayList<>();
+  private final AtomicReference<Throwable> closeCause = new AtomicReference<>();
+  private final List<String> closes = new CopyOnWriteArrayList<>();
+  private LogLineListener listener;
+
+  @BeforeEach
+  void setUp() {
+    listener = new LogLineListener() {
+      @Override
+      public void onLine(Instant timestamp, CharBuffer line) {
+        lines.add(timestamp + "|" + line);
+      }
+
+      @Override
+      public void onClose(Throwable cause) {
+        closeCause.set(cause);
+        closes.add(String.valueOf(cause));
+      }
+    };
+  }
+
+  @Test
+  void onBytes_shouldSplitLinesAcrossBuffersAndParseTimestamps() {
+    // Given
+    LogLineWatchCallback callback = new LogLineWatchCallback(listener, () -> true, CommonThreadPool.get(), 0, 1);
+    byte[] bytes = "2022-07-01T10:00:00.123456789Z café\n2022-07-01T10:00:01Z\nno timestamp\n"
+        .getBytes(StandardCharsets.UTF_8);
+
+    // When
+    callback.onBytes(ByteBuffer.wrap(bytes, 0, 34));
+    callback.onBytes(ByteBuffer.wrap(bytes, 34, 20));
+    callback.onBytes(ByteBuffer.wrap(bytes, 54, bytes.length - 54));
+
+    // Then
+    assertThat(lines).containsExactly(
+        "2022-07-01T10:00:00.123456789Z|café",
+        "null|2022-07-01T10:00:01Z",
+        "null|no timestamp");
+  }
+
+  @Test
+  void onBytes_withLongLine_shouldGrowBuffers() {
+    // Given
+    LogLineWatchCallback callback = new LogLineWatchCallback(listener, () -> true, CommonThreadPool.get(), 0, 1);
+    char[] message = new char[LogLineWatchCallback.INITIAL_LINE_BUFFER_SIZE * 3];
+    Arrays.fill(message, 'x');
+    byte[] bytes = ("2022-07-01T10:00:00Z " + new String(message) + "\n").getBytes(StandardCharsets.UTF_8);
+
+    // When
+    for (int i = 0; i < bytes.length; i += 1000) {
+      callback.onBytes(ByteBuffer.wrap(bytes, i, Math.min(1000, bytes.length - i)));
+    }
+
+    // Then
+    assertThat(lines).containsExactly("2022-07-01T10:00:00Z|" + new String(message));
+  }
+
+  @Test
+  void call_withFailure_shouldResumeFromLastTimestampWithoutDuplicates() throws Exception {
+    // Given
+    List<HttpClient.BodyConsumer<List<ByteBuffer>>> consumers = new CopyOnWriteArrayList<>();
+    List<CompletableFuture<Void>> done = new CopyOnWriteArrayList<>();
+    HttpClient client = mockClient(consumers, done);
+    List<String> sinceTimes = new CopyOnWriteArrayList<>();
+    LogLineWatchCallback callback = new LogLineWatchCallback(listener, () -> true, CommonThreadPool.get(), 2, 1);
+
+    // When
+    callback.call(client, sinceTime -> {
+      sinceTimes.add(String.valueOf(sinceTime));
+      return new URL("http://localhost/log");
+    });
+    send(consumers.get(0), "2022-07-01T10:00:00.1Z a\n2022-07-01T10:00:05.5Z b\n2022-07-01T10:00:05.5Z c\n2022-07-01T10:00");
+    done.get(0).completeExceptionally(new IOException("connection reset"));
+    await().atMost(5, TimeUnit.SECONDS).until(() -> consumers.size() == 2);
+    send(consumers.get(1), "2022-07-01T10:00:05.5Z b\n2022-07-01T10:00:05.5Z c\n2022-07-01T10:00:05.5Z d\n"
+        + "2022-07-01T10:00:06Z e\n");
+    done.get(1).complete(null);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> closes.size() == 1);
+
+    // Then
+    assertThat(sinceTimes).containsExactly("null", "2022-07-01T10:00:05Z");
+    assertThat(lines).containsExactly(
+        "2022-07-01T10:00:00.100Z|a",
+        "2022-07-01T10:00:05.500Z|b",
+        "2022-07-01T10:00:05.500Z|c",
+        "2022-07-01T10:00:05.500Z|d",
+        "2022-07-01T10:00:06Z|e");
+    assertThat(closeCause.get()).isNull();
+  }
+
+  @Test
+  void call_withEndBeforeFinished_shouldResume() throws Exception {
+    // Given
+    List<HttpClient.BodyConsumer<List<ByteBuffer>>> consumers = new CopyOnWriteArrayList<>();
+    List<CompletableFuture<Void>> done = new CopyOnWriteArrayList<>();
+    HttpClient client = mockClient(consumers, done);
+    AtomicBoolean finished = new AtomicBoolean();
+    List<String> sinceTimes = new CopyOnWriteArrayList<>();
+    LogLineWatchCallback callback = new LogLineWatchCallback(listener, finished::get, CommonThreadPool.get(), 2, 1);
+
+    // When
+    callback.call(client, sinceTime -> {
+      sinceTimes.add(String.valueOf(sinceTime));
+      return new URL("http://localhost/log");
+    });
+    send(consumers.get(0), "2022-07-01T10:00:00.1Z a\n2022-07-01T10:00");
+    done.get(0).complete(null);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> consumers.size() == 2);
+    finished.set(true);
+    send(consumers.get(1), "2022-07-01T10:00:00.1Z a\n2022-07-01T10:00:01Z b");
+    done.get(1).complete(null);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> closes.size() == 1);
+
+    // Then
+    assertThat(sinceTimes).containsExactly("null", "2022-07-01T10:00:00Z");
+    assertThat(lines).containsExactly("2022-07-01T10:00:00.100Z|a", "2022-07-01T10:00:01Z|b");
+    assertThat(closeCause.get()).isNull();
+    assertThat(callback.onClose()).isCompletedWithValue(null);
+  }
+
+  @Test
+  void call_withNonRetryableResponse_shouldClose() {
+    // Given
+    HttpClient client = Mockito.mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+    when(client.newBuilder().readTimeout(anyLong(), any()).build()).thenReturn(client);
+    HttpResponse<HttpClient.AsyncBody> response = Mockito.mock(HttpResponse.class);
+    when(response.isSuccessful()).thenReturn(false);
+    when(response.body()).thenReturn(Mockito.mock(HttpClient.AsyncBody.class));
+    when(response.code()).thenReturn(400);
+    when(client.consumeBytes(any(), any())).thenReturn(CompletableFuture.completedFuture(response));
+    LogLineWatchCallback callback = new LogLineWatchCallback(listener, () -> true, CommonThreadPool.get(), 2, 1);
+
+    // When
+    callback.call(client, sinceTime -> new URL("http://localhost/log"));
+
+    // Then
+    await().atMost(5, TimeUnit.SECONDS).until(() -> closes.size() == 1);
+    assertThat(closeCause.get()).hasMessageContaining("400");
+    assertThat(callback.getOutput()).isNull();
+  }
+
+  private static HttpClient mockClient(List<HttpClient.BodyConsumer<List<ByteBuffer>>> consumers,
+      List<CompletableFuture<Void>> done) {
+    HttpClient client = Mockito.mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+    when(client.newBuilder().readTimeout(anyLong(), any()).build()).thenReturn(client);
+    when(client.consumeBytes(any(), any())).thenAnswer(invocation -> {
+      HttpClient.AsyncBody body = Mockito.mock(HttpClient.AsyncBody.class);
+      CompletableFuture<Void> bodyDone = new CompletableFuture<>();
+      when(body.done()).thenReturn(bodyDone);
+      HttpResponse<HttpClient.AsyncBody> response = Mockito.mock(HttpResponse.class);
+      when(response.isSuccessful()).thenReturn(true);
+      when(response.body()).thenReturn(body);
+      consumers.add(invocation.getArgument(1));
+      done.add(bodyDone);
+      return CompletableFuture.completedFuture(response);
+    });
+    return client;
+  }
+
+  private static void send(HttpClient.BodyConsumer<List<ByteBuffer>> consumer, String data) throws Exception {
+    HttpClient.AsyncBody body = Mockito.mock(HttpClient.AsyncBody.class);
+    consumer.consume(Collections.singletonList(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8))), body);
+    await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> Mockito.verify(body).consume());
+  }
+
+}
@@ -29,10 +29,13 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +43,7 @@ import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -214,4 +218,61 @@ class PortForwarderWebsocketListenerTest {
     }
 
   }
+
+  @Test
+  void onOpen_withSelector_shouldPipeSocketToWebSocket() throws IOException {
+    try (ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress("localhost", 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel socket = server.accept()) {
+      listener = new PortForwarderWebsocketListener(socket, PortForwarderSelector.get(), 1024);
+      listener.onOpen(webSocket);
+      client.write(ByteBuffer.wrap("THIS IS A TEST".getBytes(StandardCharsets.UTF_8)));
+      ArgumentCaptor<ByteBuffer> contentTypeCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+      // Then
+      verify(webSocket, timeout(10_000).times(1)).send(contentTypeCaptor.capture());
+      assertThat(contentTypeCaptor.getValue())
+          .extracting(StandardCharsets.UTF_8::decode)
+          .extracting(CharBuffer::toString).asString()
+          .endsWith("THIS IS A TEST");
+    }
+  }
+
+  @Test
+  void onOpen_withSelectorAndFullQueue_shouldPauseReading() throws IOException {
+    try (ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress("localhost", 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel socket = server.accept()) {
+      when(webSocket.queueSize()).thenReturn(Long.MAX_VALUE);
+      listener = new PortForwarderWebsocketListener(socket, PortForwarderSelector.get(), 4);
+      listener.onOpen(webSocket);
+      client.write(ByteBuffer.wrap("THIS IS A TEST".getBytes(StandardCharsets.UTF_8)));
+      verify(webSocket, timeout(10_000).times(1)).send(any());
+      verify(webSocket, after(200).times(1)).send(any());
+      // When
+      when(webSocket.queueSize()).thenReturn(0L);
+      // Then
+      verify(webSocket, timeout(10_000).times(5)).send(any());
+    }
+  }
+
+  @Test
+  void onMessage_withSelector_shouldWriteToSocket() throws IOException {
+    try (ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress("localhost", 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel socket = server.accept()) {
+      listener = new PortForwarderWebsocketListener(socket, PortForwarderSelector.get(), 1024);
+      listener.onOpen(webSocket);
+      listener.onMessage(webSocket, "SKIP 1");
+      listener.onMessage(webSocket, "SKIP 2");
+      listener.onMessage(webSocket, ByteBuffer.wrap(
+          ByteBuffer.allocate(18).put((byte) 0).put("PROCESSED MESSAGE".getBytes(StandardCharsets.UTF_8)).array()));
+      // Then
+      ByteBuffer received = ByteBuffer.allocate(17);
+      while (received.hasRemaining() && client.read(received) >= 0) {
+        // read until the whole message arrived
+      }
+      assertThat(new String(received.array(), StandardCharsets.UTF_8)).isEqualTo("PROCESSED MESSAGE");
+      verify(webSocket, timeout(10_000).times(3)).request();
+    }
+  }
 }
@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.http.WebSocket;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WatcherWebSocketListenerTest {
+
+  @Test
+  void onMessage_shouldRequestOneMessageForTextAndBytes() {
+    // Given
+    AbstractWatchManager<Pod> manager = Mockito.mock(AbstractWatchManager.class);
+    WebSocket webSocket = Mockito.mock(WebSocket.class);
+    WatcherWebSocketListener<Pod> listener = new WatcherWebSocketListener<>(manager);
+
+    // When
+    listener.onMessage(webSocket, "{}");
+    listener.onMessage(webSocket, ByteBuffer.wrap("{}".getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    verify(manager).onMessage("{}");
+    verify(manager).onMessage(Mockito.any(ByteBuffer.class));
+    verify(webSocket, times(2)).request();
+  }
+
+}
@@ -0,0 +1,241 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import io.fabric8.kubernetes.client.BaseClient;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.dsl.internal.ExecWebSocketListener;
+import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
+import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.utils.CommonThreadPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class ChunkedTransferTest {
+
+  private static final Pattern HEAD = Pattern.compile("head -c (\\d+)( \\| base64 -d)? > '([^']+)'.*");
+
+  @TempDir
+  Path tempDir;
+
+  private PodOperationsImpl operation;
+  private final Map<String, byte[]> podFiles = new ConcurrentHashMap<>();
+  private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicBoolean corruptBinary = new AtomicBoolean();
+
+  @BeforeEach
+  void setUp() {
+    HttpClient mockClient = Mockito.mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+    when(mockClient.newBuilder().readTimeout(anyLong(), any(TimeUnit.class)).build()).thenReturn(mockClient);
+    AtomicReference<URI> uri = new AtomicReference<>();
+    WebSocket.Builder builder = Mockito.mock(WebSocket.Builder.class, Mockito.RETURNS_SELF);
+    when(builder.uri(any())).thenAnswer(invocation -> {
+      uri.set(invocation.getArgument(0));
+      return builder;
+    });
+    when(builder.buildAsync(any())).thenAnswer(invocation -> {
+      ExecWebSocketListener listener = invocation.getArgument(0, ExecWebSocketListener.class);
+      return CompletableFuture.completedFuture(execInPod(command(uri.get()), listener));
+    });
+    when(mockClient.newWebSocketBuilder()).thenReturn(builder);
+
+    BaseClient client = Mockito.mock(BaseClient.class, Mockito.RETURNS_SELF);
+    when(client.adapt(BaseClient.class).getExecutor()).thenReturn(CommonThreadPool.get());
+    Config config = Mockito.mock(Config.class, Mockito.RETURNS_DEEP_STUBS);
+    when(config.getMasterUrl()).thenReturn("https://openshift.com:8443");
+    when(config.getNamespace()).thenReturn("default");
+    when(config.getRequestConfig().getUploadRequestTimeout()).thenReturn(10000);
+    when(client.getConfiguration()).thenReturn(config);
+    when(client.getHttpClient()).thenReturn(mockClient);
+    operation = new PodOperationsImpl(new PodOperationContext(), new OperationContext().withClient(client))
+        .chunked(1, 1);
+  }
+
+  @Test
+  void isChunked_whenLargerThanChunk_shouldChunk() {
+    assertThat(ChunkedTransfer.isChunked(operation, 2)).isTrue();
+    assertThat(ChunkedTransfer.isChunked(operation, 1)).isFalse();
+    assertThat(ChunkedTransfer.isChunked(operation.chunked(0, 1), 2)).isFalse();
+  }
+
+  @Test
+  void partName_shouldBeSortable() {
+    assertThat(ChunkedTransfer.partName("/tmp/file", 12)).isEqualTo("/tmp/file.00012.part");
+  }
+
+  @Test
+  void upload_shouldTransferAndJoinChunks() throws IOException {
+    byte[] content = randomContent(3 * ChunkedTransfer.BLOCK_SIZE + 10);
+
+    assertThat(ChunkedTransfer.upload(operation, write(content), "/tmp/file")).isTrue();
+
+    assertThat(podFiles.get("/tmp/file")).isEqualTo(content);
+    assertThat(podFiles).hasSize(1);
+    assertThat(commands).filteredOn(c -> c.startsWith("head -c")).hasSize(4);
+  }
+
+  @Test
+  void upload_withExistingChunks_shouldResume() throws IOException {
+    byte[] content = randomContent(3 * ChunkedTransfer.BLOCK_SIZE + 10);
+    podFiles.put("/tmp/file.00001.part",
+        java.util.Arrays.copyOfRange(content, ChunkedTransfer.BLOCK_SIZE, 2 * ChunkedTransfer.BLOCK_SIZE));
+
+    assertThat(ChunkedTransfer.upload(operation, write(content), "/tmp/file")).isTrue();
+
+    assertThat(podFiles.get("/tmp/file")).isEqualTo(content);
+    assertThat(commands).filteredOn(c -> c.startsWith("head -c")).hasSize(3)
+        .noneMatch(c -> c.contains("/tmp/file.00001.part"));
+  }
+
+  @Test
+  void upload_whenBinaryIsCorrupted_shouldFallBackToBase64() throws IOException {
+    byte[] content = randomContent(2 * ChunkedTransfer.BLOCK_SIZE + 10);
+    corruptBinary.set(true);
+
+    assertThat(ChunkedTransfer.upload(operation, write(content), "/tmp/file")).isTrue();
+
+    assertThat(podFiles.get("/tmp/file")).isEqualTo(content);
+    assertThat(commands).filteredOn(c -> c.startsWith("head -c")).last().asString().contains("| base64 -d");
+  }
+
+  private Path write(byte[] content) throws IOException {
+    Path file = tempDir.resolve("upload");
+    Files.write(file, content);
+    return file;
+  }
+
+  private static byte[] randomContent(int size) {
+    byte[] content = new byte[size];
+    new Random(0).nextBytes(content);
+    return content;
+  }
+
+  private static String command(URI uri) throws UnsupportedEncodingException {
+    List<String> command = new ArrayList<>();
+    for (String parameter : uri.getRawQuery().split("&")) {
+      if (parameter.startsWith("command=")) {
+        command.add(URLDecoder.decode(parameter.substring("command=".length()), "UTF-8"));
+      }
+    }
+    return command.get(2);
+  }
+
+  /**
+   * Simulates the shell commands issued by the transfer against an in memory file system
+   */
+  private WebSocket execInPod(String command, ExecWebSocketListener listener) {
+    commands.add(command);
+    WebSocket webSocket = Mockito.mock(WebSocket.class);
+    ByteArrayOutputStream stdin = new ByteArrayOutputStream();
+    Mockito.doAnswer(close -> {
+      listener.onClose(webSocket, close.getArgument(0), close.getArgument(1));
+      return null;
+    }).when(webSocket).sendClose(anyInt(), anyString());
+    listener.onOpen(webSocket);
+    Matcher head = HEAD.matcher(command);
+    if (head.matches()) {
+      int length = Integer.parseInt(head.group(1));
+      boolean base64 = head.group(2) != null;
+      when(webSocket.send(any())).thenAnswer(send -> {
+        ByteBuffer buffer = send.getArgument(0);
+        stdin.write(buffer.array(), 1, buffer.remaining() - 1);
+        if (stdin.size() == length) {
+          byte[] data = base64 ? java.util.Base64.getDecoder().decode(stdin.toByteArray()) : stdin.toByteArray();
+          if (!base64 && corruptBinary.get()) {
+            data[0]++;
+          }
+          podFiles.put(head.group(3), data);
+          exit(webSocket, listener, sha256(data) + "  " + head.group(3) + "\n");
+        }
+        return true;
+      });
+    } else if (command.startsWith("mkdir -p")) {
+      StringBuilder listing = new StringBuilder();
+      podFiles.forEach((name, data) -> listing.append(sha256(data)).append("  ").append(name).append("\n"));
+      exit(webSocket, listener, listing.toString());
+    } else if (command.startsWith("f='/tmp/file'")) {
+      ByteArrayOutputStream joined = new ByteArrayOutputStream();
+      for (int i = 0; podFiles.containsKey(ChunkedTransfer.partName("/tmp/file", i)); i++) {
+        byte[] part = podFiles.remove(ChunkedTransfer.partName("/tmp/file", i));
+        joined.write(part, 0, part.length);
+      }
+      podFiles.put("/tmp/file", joined.toByteArray());
+      exit(webSocket, listener, "");
+    }
+    return webSocket;
+  }
+
+  private static void exit(WebSocket webSocket, ExecWebSocketListener listener, String stdout) {
+    byte[] out = stdout.getBytes(StandardCharsets.UTF_8);
+    if (out.length > 0) {
+      ByteBuffer buffer = ByteBuffer.allocate(out.length + 1).put((byte) 1).put(out);
+      buffer.flip();
+      listener.onMessage(webSocket, buffer);
+    }
+    byte[] status = "{\"status\":\"Success\"}".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocate(status.length + 1).put((byte) 3).put(status);
+    buffer.flip();
+    listener.onMessage(webSocket, buffer);
+  }
+
+  private static String sha256(byte[] data) {
+    try {
+      StringBuilder result = new StringBuilder();
+      for (byte b : MessageDigest.getInstance("SHA-256").digest(data)) {
+        result.append(String.format("%02x", b));
+      }
+      return result.toString();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
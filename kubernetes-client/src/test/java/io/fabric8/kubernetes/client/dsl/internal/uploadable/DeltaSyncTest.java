@@ -0,0 +1,195 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal.uploadable;
+
+import io.fabric8.kubernetes.client.BaseClient;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.dsl.internal.ExecWebSocketListener;
+import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
+import io.fabric8.kubernetes.client.dsl.internal.PodOperationContext;
+import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.WebSocket;
+import io.fabric8.kubernetes.client.utils.CommonThreadPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class DeltaSyncTest {
+
+  // sha256 of "a" and "b"
+  private static final String SHA_A = "ca978112ca1bbdcafac231b39a23dc4da786eff8147c4e72b9807785afee48bb";
+  private static final String SHA_B = "3e23e8160039594a33894f6564e1b1348bbd7a0088d42c4acb73eeaed59c009d";
+
+  @TempDir
+  Path tempDir;
+
+  private PodOperationsImpl operation;
+  private final AtomicReference<URI> uri = new AtomicReference<>();
+  private final AtomicReference<String> podOutput = new AtomicReference<>("");
+  private final AtomicReference<String> podStatus = new AtomicReference<>("{\"status\":\"Success\"}");
+
+  @BeforeEach
+  void setUp() {
+    HttpClient mockClient = Mockito.mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+    when(mockClient.newBuilder().readTimeout(anyLong(), any(TimeUnit.class)).build()).thenReturn(mockClient);
+    WebSocket.Builder builder = Mockito.mock(WebSocket.Builder.class, Mockito.RETURNS_SELF);
+    when(builder.uri(any())).thenAnswer(invocation -> {
+      uri.set(invocation.getArgument(0));
+      return builder;
+    });
+    when(builder.buildAsync(any())).thenAnswer(invocation -> {
+      ExecWebSocketListener listener = invocation.getArgument(0, ExecWebSocketListener.class);
+      WebSocket webSocket = Mockito.mock(WebSocket.class);
+      Mockito.doAnswer(close -> {
+        listener.onClose(webSocket, close.getArgument(0), close.getArgument(1));
+        return null;
+      }).when(webSocket).sendClose(anyInt(), anyString());
+      listener.onOpen(webSocket);
+      byte[] out = podOutput.get().getBytes(StandardCharsets.UTF_8);
+      if (out.length > 0) {
+        listener.onMessage(webSocket, frame((byte) 1, out));
+      }
+      listener.onMessage(webSocket, frame((byte) 3, podStatus.get().getBytes(StandardCharsets.UTF_8)));
+      return CompletableFuture.completedFuture(webSocket);
+    });
+    when(mockClient.newWebSocketBuilder()).thenReturn(builder);
+
+    BaseClient client = Mockito.mock(BaseClient.class, Mockito.RETURNS_SELF);
+    when(client.adapt(BaseClient.class).getExecutor()).thenReturn(CommonThreadPool.get());
+    Config config = Mockito.mock(Config.class, Mockito.RETURNS_DEEP_STUBS);
+    when(config.getMasterUrl()).thenReturn("https://openshift.com:8443");
+    when(config.getNamespace()).thenReturn("default");
+    when(config.getRequestConfig().getUploadRequestTimeout()).thenReturn(10000);
+    when(client.getConfiguration()).thenReturn(config);
+    when(client.getHttpClient()).thenReturn(mockClient);
+    operation = new PodOperationsImpl(new PodOperationContext(), new OperationContext().withClient(client));
+  }
+
+  @Test
+  void changed_shouldReturnMissingAndDifferentFiles() {
+    Map<String, String> source = new HashMap<>();
+    source.put("same", SHA_A);
+    source.put("different", SHA_A);
+    source.put("missing", SHA_A);
+    Map<String, String> target = new HashMap<>();
+    target.put("same", SHA_A);
+    target.put("different", SHA_B);
+    target.put("extra", SHA_B);
+
+    assertThat(DeltaSync.changed(source, target)).containsExactly("different", "missing");
+  }
+
+  @Test
+  void localChecksums_shouldUseRelativePaths() throws IOException {
+    Files.createDirectories(tempDir.resolve("dir"));
+    Files.write(tempDir.resolve("a"), "a".getBytes(StandardCharsets.UTF_8));
+    Files.write(tempDir.resolve("dir").resolve("b"), "b".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(DeltaSync.localChecksums(tempDir))
+        .containsEntry("a", SHA_A)
+        .containsEntry("dir/b", SHA_B)
+        .hasSize(2);
+  }
+
+  @Test
+  void changedFiles_shouldCompareWithPodListing() throws IOException {
+    Files.createDirectories(tempDir.resolve("dir"));
+    Files.write(tempDir.resolve("a"), "a".getBytes(StandardCharsets.UTF_8));
+    Files.write(tempDir.resolve("dir").resolve("b"), "b".getBytes(StandardCharsets.UTF_8));
+    podOutput.set(SHA_A + "  ./a\n" + SHA_A + "  ./dir/b\n" + SHA_B + "  ./c\n");
+
+    assertThat(DeltaSync.changedFiles(operation, tempDir, "/remote/dir")).containsExactly("dir/b");
+    assertThat(uri.get().getQuery())
+        .contains("command=d='/remote/dir'; [ -d \"$d\" ] || exit 3; cd \"$d\" && find . -type f -exec sha256sum {} +");
+  }
+
+  @Test
+  void changedFiles_whenPodDirectoryIsMissing_shouldReturnAllFiles() throws IOException {
+    Files.write(tempDir.resolve("a"), "a".getBytes(StandardCharsets.UTF_8));
+    podStatus.set(exitCode(DeltaSync.MISSING));
+
+    assertThat(DeltaSync.changedFiles(operation, tempDir, "/remote/dir")).containsExactly("a");
+  }
+
+  @Test
+  void download_whenPodDirectoryIsMissing_shouldFail() {
+    podStatus.set(exitCode(DeltaSync.MISSING));
+
+    assertThatThrownBy(() -> DeltaSync.download(operation, "/remote/dir", tempDir.toFile()))
+        .isInstanceOf(FileNotFoundException.class)
+        .hasMessageContaining("/remote/dir");
+  }
+
+  @Test
+  void remoteChecksums_whenListingFails_shouldFail() {
+    podStatus.set(exitCode(1));
+
+    assertThatThrownBy(() -> DeltaSync.remoteChecksums(operation, "/remote/dir"))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Could not list the files of /remote/dir");
+  }
+
+  @Test
+  void isUnchanged_whenChecksumMatches_shouldSkip() throws IOException {
+    Path file = tempDir.resolve("a");
+    Files.write(file, "a".getBytes(StandardCharsets.UTF_8));
+
+    podOutput.set(SHA_A + "  /remote/a\n");
+    assertThat(DeltaSync.isUnchanged(operation, file, "/remote/a")).isTrue();
+
+    podOutput.set(SHA_B + "  /remote/a\n");
+    assertThat(DeltaSync.isUnchanged(operation, file, "/remote/a")).isFalse();
+
+    podOutput.set("");
+    podStatus.set(exitCode(DeltaSync.MISSING));
+    assertThat(DeltaSync.isUnchanged(operation, file, "/remote/a")).isFalse();
+  }
+
+  private static String exitCode(int exitCode) {
+    return "{\"status\":\"Failure\",\"reason\":\"NonZeroExitCode\",\"details\":{\"causes\":[{\"reason\":\"ExitCode\",\"message\":\""
+        + exitCode + "\"}]}}";
+  }
+
+  private static ByteBuffer frame(byte stream, byte[] data) {
+    ByteBuffer buffer = ByteBuffer.allocate(data.length + 1).put(stream).put(data);
+    buffer.flip();
+    return buffer;
+  }
+
+}
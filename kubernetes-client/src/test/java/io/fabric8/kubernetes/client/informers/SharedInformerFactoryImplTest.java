@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.RequestConfig;
+import io.fabric8.kubernetes.client.RequestConfigBuilder;
 import io.fabric8.kubernetes.client.informers.impl.SharedInformerFactoryImpl;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
@@ -146,4 +148,67 @@ class SharedInformerFactoryImplTest {
     assertThat(sharedIndexInformerVSvc.getApiTypeClass()).isEqualTo(VirtualService.class);
   }
 
+  @Test
+  void testIdenticalInformersShareTheUnderlyingInformer() {
+    // Given
+    SharedInformerFactory first = new SharedInformerFactoryImpl(mockBaseClient).withSharedInformers(true).inNamespace("ns1");
+    SharedInformerFactory second = new SharedInformerFactoryImpl(mockBaseClient).withSharedInformers(true).inNamespace("ns1");
+
+    // When
+    SharedIndexInformer<Pod> firstInformer = first.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    SharedIndexInformer<Pod> secondInformer = second.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    SharedIndexInformer<Pod> otherNamespace = new SharedInformerFactoryImpl(mockBaseClient).withSharedInformers(true)
+        .inNamespace("ns2")
+        .sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+
+    // Then
+    assertThat(firstInformer).isNotSameAs(secondInformer);
+    assertThat(firstInformer.getStore()).isSameAs(secondInformer.getStore());
+    assertThat(otherNamespace.getStore()).isNotSameAs(firstInformer.getStore());
+    assertThat(mockBaseClient.getSharedInformerRegistry().size()).isEqualTo(2);
+
+    first.stopAllRegisteredInformers();
+    assertThat(mockBaseClient.getSharedInformerRegistry().size()).isEqualTo(2);
+    second.stopAllRegisteredInformers();
+    otherNamespace.stop();
+    assertThat(mockBaseClient.getSharedInformerRegistry().size()).isZero();
+  }
+
+  @Test
+  void testInformersAreNotSharedByDefault() {
+    // Given
+    SharedInformerFactory first = new SharedInformerFactoryImpl(mockBaseClient).inNamespace("ns1");
+    SharedInformerFactory second = new SharedInformerFactoryImpl(mockBaseClient).withSharedInformers(true).inNamespace("ns1");
+
+    // When
+    SharedIndexInformer<Pod> firstInformer = first.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    SharedIndexInformer<Pod> secondInformer = second.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+
+    // Then
+    assertThat(firstInformer.getStore()).isNotSameAs(secondInformer.getStore());
+    assertThat(mockBaseClient.getSharedInformerRegistry().size()).isEqualTo(1);
+    first.stopAllRegisteredInformers();
+    second.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testInformersOfDifferentIdentitiesAreNotShared() {
+    // Given
+    SharedInformerFactory first = new SharedInformerFactoryImpl(mockBaseClient).withSharedInformers(true).inNamespace("ns1");
+    RequestConfig impersonating = new RequestConfigBuilder().withImpersonateUsername("other").build();
+    SharedInformerFactory second = mockBaseClient.withRequestConfig(impersonating)
+        .call(c -> new SharedInformerFactoryImpl(c).withSharedInformers(true).inNamespace("ns1"));
+
+    // When
+    SharedIndexInformer<Pod> firstInformer = first.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+    SharedIndexInformer<Pod> secondInformer = second.sharedIndexInformerFor(Pod.class, RESYNC_PERIOD);
+
+    // Then
+    assertThat(firstInformer.getStore()).isNotSameAs(secondInformer.getStore());
+    assertThat(mockBaseClient.getSharedInformerRegistry().size()).isEqualTo(2);
+    first.stopAllRegisteredInformers();
+    second.stopAllRegisteredInformers();
+    assertThat(mockBaseClient.getSharedInformerRegistry().size()).isZero();
+  }
+
 }
@@ -16,7 +16,10 @@
 package io.fabric8.kubernetes.client.informers.impl;
 
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,7 @@ import org.mockito.Mockito;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -174,4 +178,45 @@ class DefaultSharedIndexInformerResyncTest {
     assertThat(countDown.getCount()).isEqualTo(count);
   }
 
+  @Test
+  @DisplayName("Incremental resync should resync a slice of the items at each run")
+  void testIncrementalResync() {
+    // Given
+    DefaultSharedIndexInformer<Pod, PodList> controller = createDefaultSharedIndexInformer(1000L);
+    controller.incrementalResync(4);
+    AtomicInteger updates = new AtomicInteger();
+    controller.addEventHandler(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        updates.incrementAndGet();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    });
+    for (int i = 0; i < 8; i++) {
+      ((CacheImpl<Pod>) controller.getStore())
+          .put(new PodBuilder().withNewMetadata().withName("pod" + i).withNamespace("default").endMetadata().build());
+    }
+    AtomicInteger checks = new AtomicInteger();
+    Runnable resync = controller.new IncrementalResync(() -> checks.incrementAndGet() > 0);
+
+    // When + Then
+    for (int slice = 1; slice <= 4; slice++) {
+      resync.run();
+      assertEquals(slice * 2, updates.get());
+    }
+    // the check for the next resync is only made once all slices are done
+    assertEquals(1, checks.get());
+    resync.run();
+    assertEquals(2, checks.get());
+    assertEquals(10, updates.get());
+    assertThrows(IllegalArgumentException.class, () -> controller.incrementalResync(0));
+  }
+
 }
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class SharedInformerRegistryTest {
+  private abstract static class AbstractPodListerWatcher implements ListerWatcher<Pod, PodList> {
+  };
+
+  private final ListerWatcher<Pod, PodList> listerWatcher = Mockito.mock(AbstractPodListerWatcher.class);
+  private final SharedInformerRegistry registry = new SharedInformerRegistry();
+
+  @BeforeEach
+  void setUp() {
+    when(listerWatcher.getApiEndpointPath()).thenReturn("pods");
+    when(listerWatcher.submitList(any())).thenReturn(CompletableFuture.completedFuture(podList(pod("1"))));
+    when(listerWatcher.submitWatch(any(), any())).thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+  }
+
+  @Test
+  void testStartIsRetriedAfterAFailure() {
+    // Given
+    CompletableFuture<PodList> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new KubernetesClientException("unavailable"));
+    when(listerWatcher.submitList(any())).thenReturn(failed, CompletableFuture.completedFuture(podList(pod("1"))));
+    SharedIndexInformer<Pod> first = informer();
+    SharedIndexInformer<Pod> second = informer();
+
+    // When
+    CompletableFuture<Void> firstStart = first.start();
+    CompletableFuture<Void> secondStart = second.start();
+
+    // Then
+    assertThat(firstStart).isCompletedExceptionally();
+    assertThat(secondStart).isCompleted().isNotCompletedExceptionally();
+    assertThat(second.getStore().list()).hasSize(1);
+    first.stop();
+    second.stop();
+    assertThat(registry.size()).isZero();
+  }
+
+  @Test
+  void testUpdateFilterOnlyAppliesToItsInformer() {
+    // Given
+    SharedIndexInformer<Pod> filtered = informer().updateFilter((oldPod, newPod) -> false);
+    SharedIndexInformer<Pod> unfiltered = informer();
+    AtomicInteger filteredUpdates = countUpdates(filtered);
+    AtomicInteger unfilteredUpdates = countUpdates(unfiltered);
+    filtered.start();
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Watcher<Pod>> watcher = ArgumentCaptor.forClass(Watcher.class);
+    Mockito.verify(listerWatcher).submitWatch(any(), watcher.capture());
+
+    // When
+    watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("2"));
+
+    // Then
+    assertThat(filteredUpdates).hasValue(0);
+    assertThat(unfilteredUpdates).hasValue(1);
+    filtered.stop();
+    unfiltered.stop();
+  }
+
+  @Test
+  void testCacheSettingsAreNotSupported() {
+    // Given
+    SharedIndexInformer<Pod> informer = informer();
+
+    // When + Then
+    assertThrows(UnsupportedOperationException.class,
+        () -> informer.itemStore(new BasicItemStore<>(Cache::metaNamespaceKeyFunc)));
+    assertThrows(UnsupportedOperationException.class, () -> informer.snapshot(Paths.get("snapshot"), 0));
+    informer.stop();
+  }
+
+  @Test
+  void testListWatchSettingsAreIgnoredOnceStarted() {
+    // Given
+    SharedIndexInformer<Pod> first = informer();
+    SharedIndexInformer<Pod> second = informer();
+    first.listPrefetch(1).eventHandlerQueue(1, QueueOverflowPolicy.DISCARD).start();
+
+    // When
+    second.listPrefetch(2).watchList(true).incrementalResync(2);
+
+    // Then
+    assertThat(second.isRunning()).isTrue();
+    first.stop();
+    second.stop();
+  }
+
+  private SharedIndexInformer<Pod> informer() {
+    return registry.informerFor("pods", () -> new DefaultSharedIndexInformer<>(Pod.class, listerWatcher, 0, Runnable::run));
+  }
+
+  private static AtomicInteger countUpdates(SharedIndexInformer<Pod> informer) {
+    AtomicInteger updates = new AtomicInteger();
+    informer.addEventHandler(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        updates.incrementAndGet();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    });
+    return updates;
+  }
+
+  private static Pod pod(String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName("pod").withNamespace("ns").withResourceVersion(resourceVersion)
+        .endMetadata().build();
+  }
+
+  private static PodList podList(Pod... pods) {
+    return new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().withItems(pods).build();
+  }
+
+}
@@ -29,6 +29,8 @@ import java.util.Map;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CacheTest {
 
@@ -149,6 +151,30 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testNamespaceIndexBuckets() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    Pod clusterScoped = new PodBuilder().withNewMetadata().withName("cluster-pod").endMetadata().build();
+    Pod namespaced = new PodBuilder().withNewMetadata().withNamespace("test").withName("test-pod").endMetadata().build();
+    podCache.put(clusterScoped);
+    podCache.put(namespaced);
+
+    // a null index value is indexed as well
+    assertEquals(Collections.singletonList(clusterScoped), podCache.byIndex(Cache.NAMESPACE_INDEX, null));
+    assertEquals(Collections.singletonList("test/test-pod"), podCache.indexKeys(Cache.NAMESPACE_INDEX, "test"));
+
+    // moving the item removes it from the old bucket
+    Pod moved = new PodBuilder(namespaced).editMetadata().withNamespace("other").endMetadata().build();
+    podCache.remove(namespaced);
+    podCache.put(moved);
+
+    assertTrue(podCache.byIndex(Cache.NAMESPACE_INDEX, "test").isEmpty());
+    assertTrue(podCache.indexKeys(Cache.NAMESPACE_INDEX, "test").isEmpty());
+    assertTrue(podCache.index(Cache.NAMESPACE_INDEX, namespaced).isEmpty());
+    assertEquals(Collections.singletonList(moved), podCache.index(Cache.NAMESPACE_INDEX, moved));
+    assertThrows(IllegalArgumentException.class, () -> podCache.byIndex("missing", "test"));
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Collections.singletonList("null");
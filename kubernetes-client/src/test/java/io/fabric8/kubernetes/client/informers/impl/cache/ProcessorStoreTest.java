@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.AddNotification;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.DeleteNotification;
@@ -29,7 +30,9 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -78,6 +81,75 @@ class ProcessorStoreTest {
     assertThat(syncValues.get(2)).isFalse();
   }
 
+  @Test
+  void testUpdateFilter() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = Mockito.mock(CacheImpl.class);
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setUpdateFilter((oldPod, newPod) -> !oldPod.getSpec().equals(newPod.getSpec()));
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").endMetadata()
+        .withNewSpec().withNodeName("node").endSpec().build();
+    Pod statusChanged = new PodBuilder(pod).editMetadata().withResourceVersion("2").endMetadata()
+        .withNewStatus().withPhase("Running").endStatus().build();
+    Pod specChanged = new PodBuilder(statusChanged).editMetadata().withResourceVersion("3").endMetadata()
+        .editSpec().withNodeName("other").endSpec().build();
+
+    // filtered, but still stored
+    Mockito.when(podCache.put(statusChanged)).thenReturn(pod);
+    processorStore.update(statusChanged);
+    Mockito.verify(podCache).put(statusChanged);
+
+    // update notification
+    Mockito.when(podCache.put(specChanged)).thenReturn(statusChanged);
+    processorStore.update(specChanged);
+
+    Mockito.verify(processor, Mockito.times(1)).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    assertThat(notificationCaptor.getValue()).isInstanceOf(UpdateNotification.class);
+  }
+
+  @Test
+  void testFilteredUpdateIsNotResyncedToUnhandledOnlyListeners() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = new SharedProcessor<>();
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setUpdateFilter((oldPod, newPod) -> !oldPod.getSpec().equals(newPod.getSpec()));
+    AtomicInteger resyncs = new AtomicInteger();
+    processor.addProcessorListener(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        if ("failed".equals(obj.getMetadata().getName())) {
+          throw new IllegalStateException();
+        }
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        resyncs.incrementAndGet();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    }, 1000, true, Collections::emptyList);
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1").endMetadata()
+        .withNewSpec().withNodeName("node").endSpec().build();
+    Pod failed = new PodBuilder(pod).editMetadata().withName("failed").endMetadata().build();
+    processorStore.update(Arrays.asList(pod, failed));
+    processorStore.retainAll(Stream.of(pod, failed).map(Cache::metaNamespaceKeyFunc).collect(Collectors.toSet()));
+
+    // filtered status changes
+    processorStore.update(new PodBuilder(pod).editMetadata().withResourceVersion("2").endMetadata()
+        .withNewStatus().withPhase("Running").endStatus().build());
+    processorStore.update(new PodBuilder(failed).editMetadata().withResourceVersion("2").endMetadata()
+        .withNewStatus().withPhase("Running").endStatus().build());
+    processorStore.resync();
+
+    // only the item whose previous version was not handled is resynced
+    assertThat(resyncs.get()).isEqualTo(1);
+  }
+
   @Test
   void testSyncEvents() {
     ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
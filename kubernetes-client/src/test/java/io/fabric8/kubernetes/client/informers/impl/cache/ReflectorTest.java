@@ -16,20 +16,32 @@
 
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.informers.InformerMetrics;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -70,6 +82,34 @@ class ReflectorTest {
     assertFalse(reflector.isRunning());
   }
 
+  @Test
+  void testSyncedStateIsOnlyAvailableOnceListed() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    CompletableFuture<PodList> listFuture = new CompletableFuture<>();
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(listFuture);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+    reflector.start();
+
+    assertNull(reflector.withSyncedState(v -> v));
+
+    listFuture.complete(list);
+    reflector.getWatcher().eventReceived(Action.MODIFIED,
+        new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("2").endMetadata().build());
+
+    assertEquals("2", reflector.withSyncedState(v -> v));
+
+    // a relist makes the state unavailable until it completes
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(new CompletableFuture<>());
+    reflector.listSyncAndWatch();
+
+    assertNull(reflector.withSyncedState(v -> v));
+    reflector.stop();
+  }
+
   @Test
   void testNonHttpGone() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
@@ -92,4 +132,243 @@ class ReflectorTest {
     assertFalse(reflector.isRunning());
   }
 
+  @Test
+  void testListPrefetch() throws InterruptedException {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").endMetadata().build();
+    PodList page1 = new PodListBuilder().withNewMetadata().withContinue("a").endMetadata().withItems(pod1).build();
+    PodList page2 = new PodListBuilder().withNewMetadata().withResourceVersion("2").endMetadata().withItems(pod2).build();
+    CompletableFuture<PodList> page1Future = new CompletableFuture<>();
+    CompletableFuture<PodList> page2Future = new CompletableFuture<>();
+    Mockito.when(mock.submitList(Mockito.any())).thenAnswer(invocation -> {
+      ListOptions options = invocation.getArgument(0);
+      return options.getContinue() == null ? page1Future : page2Future;
+    });
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+
+    SyncableStore<Pod> store = Mockito.mock(SyncableStore.class);
+    Mockito.when(store.getKey(Mockito.any())).thenAnswer(invocation -> ((Pod) invocation.getArgument(0)).getMetadata().getName());
+    CountDownLatch updating = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Mockito.doAnswer(invocation -> {
+      updating.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      return null;
+    }).when(store).update(Collections.singletonList(pod1));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, store);
+    reflector.setListPrefetch(1);
+
+    CompletableFuture<Void> future = reflector.start();
+    CompletableFuture.runAsync(() -> page1Future.complete(page1));
+
+    // the second page is requested while the first is still being applied
+    assertTrue(updating.await(10, TimeUnit.SECONDS));
+    Mockito.verify(mock, Mockito.timeout(10000).times(2)).submitList(Mockito.any());
+    assertFalse(future.isDone());
+
+    release.countDown();
+    page2Future.complete(page2);
+    future.join();
+
+    InOrder inOrder = Mockito.inOrder(store);
+    inOrder.verify(store).update(Collections.singletonList(pod1));
+    inOrder.verify(store).update(Collections.singletonList(pod2));
+    inOrder.verify(store).retainAll(Mockito.anySet());
+    assertEquals("2", reflector.getLastSyncResourceVersion());
+    reflector.stop();
+  }
+
+  @Test
+  void testWatchList() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+    SyncableStore<Pod> store = Mockito.mock(SyncableStore.class);
+    Mockito.when(store.getKey(Mockito.any())).thenAnswer(invocation -> ((Pod) invocation.getArgument(0)).getMetadata().getName());
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, store);
+    reflector.setWatchList(true);
+
+    CompletableFuture<Void> future = reflector.start();
+    assertFalse(future.isDone());
+
+    ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+    Mockito.verify(mock).submitWatch(options.capture(), Mockito.any());
+    assertEquals("NotOlderThan", options.getValue().getResourceVersionMatch());
+    assertEquals(Boolean.TRUE, options.getValue().getAdditionalProperties().get(AbstractWatchManager.SEND_INITIAL_EVENTS));
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1").endMetadata().build();
+    reflector.getWatcher().eventReceived(Action.ADDED, pod);
+    reflector.getWatcher().eventReceived(Action.BOOKMARK, new PodBuilder().withNewMetadata().withResourceVersion("2")
+        .addToAnnotations(AbstractWatchManager.INITIAL_EVENTS_END_ANNOTATION, "true").endMetadata().build());
+
+    future.join();
+    Mockito.verify(store).add(pod);
+    Mockito.verify(store).retainAll(Collections.singleton("pod1"));
+    Mockito.verify(mock, Mockito.never()).submitList(Mockito.any());
+    assertEquals("2", reflector.getLastSyncResourceVersion());
+    assertTrue(reflector.isWatching());
+    reflector.stop();
+  }
+
+  @Test
+  void testWatchListUnsupported() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    CompletableFuture<Watch> rejected = new CompletableFuture<>();
+    rejected.completeExceptionally(new KubernetesClientException("invalid", 422, null));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(rejected)
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+    reflector.setWatchList(true);
+
+    reflector.start().join();
+
+    // falls back to list and watch
+    Mockito.verify(mock).submitList(Mockito.any());
+    Mockito.verify(mock, Mockito.times(2)).submitWatch(Mockito.any(), Mockito.any());
+    assertEquals("1", reflector.getLastSyncResourceVersion());
+    assertTrue(reflector.isWatching());
+    reflector.stop();
+  }
+
+  @Test
+  void testWatchListWithoutInitialEventsEndFallsBackToList() throws Exception {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("3").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Watch initialWatch = Mockito.mock(Watch.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(initialWatch))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+    SyncableStore<Pod> store = Mockito.mock(SyncableStore.class);
+    Mockito.when(store.getKey(Mockito.any())).thenAnswer(invocation -> ((Pod) invocation.getArgument(0)).getMetadata().getName());
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, store);
+    reflector.setWatchList(true);
+    reflector.setInitialEventsTimeout(100);
+
+    CompletableFuture<Void> future = reflector.start();
+    // the server sends the initial state, but never the end bookmark
+    reflector.getWatcher().eventReceived(Action.ADDED,
+        new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1").endMetadata().build());
+
+    future.get(5, TimeUnit.SECONDS);
+    Mockito.verify(initialWatch).close();
+    Mockito.verify(mock).submitList(Mockito.any());
+    Mockito.verify(mock, Mockito.times(2)).submitWatch(Mockito.any(), Mockito.any());
+    assertEquals("3", reflector.getLastSyncResourceVersion());
+    assertTrue(reflector.isWatching());
+    reflector.stop();
+  }
+
+  @Test
+  void testHttpGoneAfterBookmarkRelists() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+    reflector.start().join();
+
+    reflector.getWatcher().eventReceived(Action.BOOKMARK,
+        new PodBuilder().withNewMetadata().withResourceVersion("5").endMetadata().build());
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+
+    WatcherException gone = new WatcherException("gone", new KubernetesClientException("gone", 410, null));
+    reflector.getWatcher().onClose(gone);
+
+    // the bookmark version has expired too, so relist rather than resuming from it
+    ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+    Mockito.verify(mock, Mockito.times(2)).submitList(Mockito.any());
+    Mockito.verify(mock, Mockito.times(2)).submitWatch(options.capture(), Mockito.any());
+    assertEquals(Boolean.TRUE, options.getAllValues().get(0).getAllowWatchBookmarks());
+    assertEquals("1", options.getAllValues().get(1).getResourceVersion());
+    assertEquals("1", reflector.getLastSyncResourceVersion());
+    assertTrue(reflector.isWatching());
+    reflector.stop();
+  }
+
+  @Test
+  void testResume() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("7").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    CompletableFuture<Watch> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new KubernetesClientException("gone", 410, null));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)))
+        .thenReturn(failed)
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+
+    // resumes without a list
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+    reflector.resume("5").join();
+    Mockito.verify(mock, Mockito.never()).submitList(Mockito.any());
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+    assertTrue(reflector.isWatching());
+    reflector.stop();
+
+    // falls back to list and watch
+    reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+    reflector.resume("5").join();
+    Mockito.verify(mock).submitList(Mockito.any());
+    ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+    Mockito.verify(mock, Mockito.times(3)).submitWatch(options.capture(), Mockito.any());
+    assertEquals("5", options.getAllValues().get(1).getResourceVersion());
+    assertEquals("7", options.getAllValues().get(2).getResourceVersion());
+    assertEquals("7", reflector.getLastSyncResourceVersion());
+    reflector.stop();
+  }
+
+  @Test
+  void testMetrics() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(Watch.class)));
+    String informer = "Pod v1/pods labels=app=a";
+    InformerMetrics metrics = Mockito.mock(InformerMetrics.class);
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+    reflector.setMetrics(metrics, informer);
+    reflector.start().join();
+    reflector.getWatcher().eventReceived(Action.MODIFIED,
+        new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("2").endMetadata().build());
+    reflector.getWatcher().eventDecoded(10);
+    reflector.getWatcher().reconnectScheduled();
+
+    Mockito.verify(metrics).listCompleted(Mockito.eq(informer), Mockito.eq(0), Mockito.anyLong());
+    Mockito.verify(metrics).eventReceived(informer, Action.MODIFIED);
+    Mockito.verify(metrics).eventDecoded(informer, 10);
+    Mockito.verify(metrics).watchReconnected(informer);
+    reflector.stop();
+  }
+
+  @Test
+  void testResumeIsSyncedOnceTheWatchIsEstablished() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    CompletableFuture<Watch> watch = new CompletableFuture<>();
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any())).thenReturn(watch);
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, Mockito.mock(SyncableStore.class));
+
+    CompletableFuture<Void> resumed = reflector.resume("5");
+
+    // the restored state has not been confirmed yet
+    assertNull(reflector.getLastSyncResourceVersion());
+    watch.complete(Mockito.mock(Watch.class));
+    resumed.join();
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+    reflector.stop();
+  }
+
 }
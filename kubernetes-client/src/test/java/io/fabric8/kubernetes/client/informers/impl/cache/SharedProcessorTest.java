@@ -17,9 +17,19 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
 
 class SharedProcessorTest {
@@ -62,6 +72,209 @@ class SharedProcessorTest {
     sharedProcessor.distribute(addNotification, false);
   }
 
+  @Test
+  void testSlowListenerDoesNotBlockOthers() throws InterruptedException {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executor, "informer");
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch added = new CountDownLatch(2);
+
+    ProcessorListener<Pod> slow = sharedProcessor.addProcessorListener(new AddHandler(pod -> {
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }), 0, Collections::emptyList);
+    sharedProcessor.addProcessorListener(new AddHandler(pod -> added.countDown()), 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo1")), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo2")), false);
+
+    // the second listener is not held up by the first
+    assertTrue(added.await(10, TimeUnit.SECONDS));
+    assertEquals(2, slow.getQueueSize());
+
+    release.countDown();
+    sharedProcessor.stop();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testDiscardWhenQueueFull() throws InterruptedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executor, "informer");
+    sharedProcessor.setListenerQueue(1, QueueOverflowPolicy.DISCARD);
+    CountDownLatch handling = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    ProcessorListener<Pod> listener = sharedProcessor.addProcessorListener(new AddHandler(pod -> {
+      handling.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }), 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo1")), false);
+    assertTrue(handling.await(10, TimeUnit.SECONDS));
+    // the queue is full
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo2")), false);
+    assertEquals(1, listener.getQueueSize());
+
+    release.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(1, listener.getHandledCount());
+    assertEquals(0, listener.getQueueSize());
+  }
+
+  @Test
+  void testRemoveListener() {
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>();
+    AtomicInteger removedAdds = new AtomicInteger();
+    AtomicInteger keptAdds = new AtomicInteger();
+    AddHandler removed = new AddHandler(pod -> removedAdds.incrementAndGet());
+    sharedProcessor.addProcessorListener(removed, 0, Collections::emptyList);
+    sharedProcessor.addProcessorListener(new AddHandler(pod -> keptAdds.incrementAndGet()), 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo1")), false);
+    sharedProcessor.removeListener(removed);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo2")), false);
+
+    assertEquals(1, removedAdds.get());
+    assertEquals(2, keptAdds.get());
+  }
+
+  @Test
+  void testResyncUnhandledOnly() {
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>();
+    AtomicInteger resyncs = new AtomicInteger();
+    Pod handled = new PodBuilder(pod("foo1")).editMetadata().withResourceVersion("1").endMetadata().build();
+    Pod failed = new PodBuilder(pod("foo2")).editMetadata().withResourceVersion("1").endMetadata().build();
+    sharedProcessor.addProcessorListener(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        if (obj == failed) {
+          throw new IllegalStateException();
+        }
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        resyncs.incrementAndGet();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    }, 1000, true, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(handled), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(failed), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(handled, handled), true);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(failed, failed), true);
+    assertEquals(1, resyncs.get());
+
+    // the resync was handled, so is not repeated
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(failed, failed), true);
+    assertEquals(1, resyncs.get());
+  }
+
+  @Test
+  void testResyncUnhandledOnlyUsesTheStoreKeyFunction() {
+    // a store keyed by name only
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(Runnable::run, "informer",
+        p -> p.getMetadata().getName());
+    AtomicInteger resyncs = new AtomicInteger();
+    Pod pod = new PodBuilder(pod("foo1")).editMetadata().withResourceVersion("1").endMetadata().build();
+    Pod otherNamespace = new PodBuilder(pod).editMetadata().withNamespace("other").endMetadata().build();
+    sharedProcessor.addProcessorListener(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+        resyncs.incrementAndGet();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    }, 1000, true, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(otherNamespace, otherNamespace), true);
+
+    // the same store key at the same version has been handled
+    assertEquals(0, resyncs.get());
+  }
+
+  @Test
+  void testResyncUnhandledOnlyForgetsDeletesThatAreNotHandled() {
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>();
+    Pod pod = new PodBuilder(pod("foo1")).editMetadata().withResourceVersion("1").endMetadata().build();
+    ProcessorListener<Pod> listener = sharedProcessor.addProcessorListener(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        throw new IllegalStateException();
+      }
+    }, 1000, true, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod), false);
+    assertEquals(1, listener.getHandledVersionCount());
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod), false);
+    assertEquals(0, listener.getHandledVersionCount());
+  }
+
+  @Test
+  void testRetainHandled() {
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>();
+    ProcessorListener<Pod> listener = sharedProcessor.addProcessorListener(new AddHandler(pod -> {
+    }), 1000, true, Collections::emptyList);
+    for (String name : new String[] { "foo1", "foo2" }) {
+      sharedProcessor.distribute(new ProcessorListener.AddNotification<>(
+          new PodBuilder(pod(name)).editMetadata().withResourceVersion("1").endMetadata().build()), false);
+    }
+    assertEquals(2, listener.getHandledVersionCount());
+
+    sharedProcessor.retainHandled("default/foo1"::equals);
+    assertEquals(1, listener.getHandledVersionCount());
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").endMetadata().build();
+  }
+
+  private static class AddHandler implements ResourceEventHandler<Pod> {
+    private final Consumer<Pod> onAdd;
+
+    AddHandler(Consumer<Pod> onAdd) {
+      this.onAdd = onAdd;
+    }
+
+    @Override
+    public void onAdd(Pod obj) {
+      onAdd.accept(obj);
+    }
+
+    @Override
+    public void onUpdate(Pod oldObj, Pod newObj) { }
+
+    @Override
+    public void onDelete(Pod obj, boolean deletedFinalStateUnknown) { }
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
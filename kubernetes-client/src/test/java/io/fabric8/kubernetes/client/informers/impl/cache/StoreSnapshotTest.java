@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StoreSnapshotTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void testWriteAndRead() throws IOException {
+    Path file = dir.resolve("snapshots").resolve("pods");
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1").endMetadata().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withResourceVersion("2").endMetadata().build();
+
+    assertNull(StoreSnapshot.read(file, Pod.class));
+
+    StoreSnapshot.write(file, "pods", "2", Arrays.asList(pod1, pod2));
+    StoreSnapshot<Pod> snapshot = StoreSnapshot.read(file, Pod.class);
+
+    assertThat(snapshot.getSource()).isEqualTo("pods");
+    assertThat(snapshot.getResourceVersion()).isEqualTo("2");
+    assertThat(snapshot.getItems()).containsExactly(pod1, pod2);
+    // only the snapshot itself is left
+    assertThat(Files.list(file.getParent())).containsExactly(file);
+  }
+
+  @Test
+  void testReadUnrecognized() throws IOException {
+    Path file = dir.resolve("pods");
+    Files.write(file, new byte[] { 1, 2, 3 });
+
+    assertThrows(IOException.class, () -> StoreSnapshot.read(file, Pod.class));
+  }
+
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils.internal;
+
+import io.fabric8.kubernetes.client.RequestPriorityClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class RequestSchedulerTest {
+
+  private final RequestScheduler scheduler = new RequestScheduler(Arrays.asList(
+      new RequestPriorityClass(RequestPriorityClass.BULK, 1, 1),
+      new RequestPriorityClass(RequestPriorityClass.LEADER_ELECTION, 10, 0)), 2);
+
+  @Test
+  void unscheduledRequestsStartImmediately() {
+    assertThat(scheduler.acquire(null)).isDone();
+    assertThat(scheduler.acquire("other")).isDone();
+    assertThat(scheduler.getInFlight(RequestPriorityClass.BULK)).isZero();
+  }
+
+  @Test
+  void limitsInFlightPerClass() {
+    CompletableFuture<Void> first = scheduler.acquire(RequestPriorityClass.BULK);
+    CompletableFuture<Void> second = scheduler.acquire(RequestPriorityClass.BULK);
+
+    assertThat(first).isDone();
+    assertThat(second).isNotDone();
+    assertThat(scheduler.getQueued(RequestPriorityClass.BULK)).isEqualTo(1);
+
+    scheduler.release(RequestPriorityClass.BULK);
+
+    assertThat(second).isDone();
+    assertThat(scheduler.getInFlight(RequestPriorityClass.BULK)).isEqualTo(1);
+  }
+
+  @Test
+  void higherPriorityIsDispatchedFirst() {
+    scheduler.acquire(RequestPriorityClass.LEADER_ELECTION);
+    scheduler.acquire(RequestPriorityClass.LEADER_ELECTION);
+    CompletableFuture<Void> bulk = scheduler.acquire(RequestPriorityClass.BULK);
+    CompletableFuture<Void> leaderElection = scheduler.acquire(RequestPriorityClass.LEADER_ELECTION);
+
+    assertThat(bulk).isNotDone();
+    assertThat(leaderElection).isNotDone();
+
+    scheduler.release(RequestPriorityClass.LEADER_ELECTION);
+
+    assertThat(leaderElection).isDone();
+    assertThat(bulk).isNotDone();
+  }
+
+  @Test
+  void pauseHoldsBackClass() {
+    scheduler.pause(RequestPriorityClass.BULK, 1, TimeUnit.SECONDS);
+
+    CompletableFuture<Void> bulk = scheduler.acquire(RequestPriorityClass.BULK);
+    CompletableFuture<Void> leaderElection = scheduler.acquire(RequestPriorityClass.LEADER_ELECTION);
+
+    assertThat(bulk).isNotDone();
+    assertThat(leaderElection).isDone();
+    await().atMost(5, TimeUnit.SECONDS).until(bulk::isDone);
+  }
+
+}
@@ -16,10 +16,12 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.KubernetesResourceMappingProvider;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -31,7 +33,6 @@ import io.fabric8.kubernetes.model.util.Helper;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -83,54 +84,88 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
   @Override
   public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-    JsonNode node = jp.readValueAsTree();
-    if (node.isObject()) {
-      return fromObjectNode(jp, node);
-    } else if (node.isArray()) {
-      return fromArrayNode(jp, node);
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+      return fromObject(jp, ctxt);
+    } else if (token == JsonToken.START_ARRAY) {
+      return fromArray(jp, ctxt);
     } else {
+      jp.skipChildren();
       return null;
     }
   }
 
-  private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
-    Iterator<JsonNode> iterator = node.elements();
+  private KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
     List<HasMetadata> list = new ArrayList<>();
-    while (iterator.hasNext()) {
-      JsonNode jsonNode = iterator.next();
-      if (jsonNode.isObject()) {
-        KubernetesResource resource = fromObjectNode(jp, jsonNode);
+    JsonToken token;
+    while ((token = jp.nextToken()) != JsonToken.END_ARRAY && token != null) {
+      if (token == JsonToken.START_OBJECT) {
+        KubernetesResource resource = fromObject(jp, ctxt);
         if (resource instanceof HasMetadata) {
           list.add((HasMetadata) resource);
         }
+      } else {
+        jp.skipChildren();
       }
     }
     return new KubernetesListBuilder().withItems(list).build();
   }
 
-  private static KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-    TypeKey key = getKey(node);
-    Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
+  /**
+   * Buffers the tokens only until both the apiVersion and kind are known, then replays them
+   * followed by the rest of the object directly into the resolved type.
+   * <br>
+   * The api server emits apiVersion and kind first, so typically only those two fields are buffered.
+   */
+  private static KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    TokenBuffer buffer = new TokenBuffer(jp, ctxt);
+    buffer.writeStartObject();
+    String apiVersion = null;
+    String kind = null;
+    boolean apiVersionSeen = false;
+    boolean kindSeen = false;
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    for (; token == JsonToken.FIELD_NAME && !(apiVersionSeen && kindSeen); token = jp.nextToken()) {
+      String name = jp.getCurrentName();
+      buffer.writeFieldName(name);
+      jp.nextToken();
+      if (API_VERSION.equals(name)) {
+        apiVersion = textValue(jp);
+        apiVersionSeen = true;
+      } else if (KIND.equals(name)) {
+        kind = textValue(jp);
+        kindSeen = true;
+      }
+      buffer.copyCurrentStructure(jp);
+    }
+
+    JsonParser replay;
+    if (token == JsonToken.END_OBJECT) {
+      // the whole object has been buffered
+      buffer.writeEndObject();
+      replay = buffer.asParser(jp);
+    } else {
+      // jp is positioned on the next field name, which must be replayed as well
+      replay = JsonParserSequence.createFlattened(true, buffer.asParser(jp), jp);
+    }
+    replay.nextToken();
+
+    Class<? extends KubernetesResource> resourceType = mapping.getForKey(mapping.createKey(apiVersion, kind));
     if (resourceType == null) {
-      return jp.getCodec().treeToValue(node, GenericKubernetesResource.class);
+      return ctxt.readValue(replay, GenericKubernetesResource.class);
     } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
-      return jp.getCodec().treeToValue(node, resourceType);
+      return ctxt.readValue(replay, resourceType);
     }
     throw new JsonMappingException(jp, String.format(
         "There's a class loading issue, %s is registered as a KubernetesResource, but is not an instance of KubernetesResource",
         resourceType.getName()));
   }
 
-  /**
-   * Return a string representation of the key of the type: <version>#<kind>.
-   */
-  private static TypeKey getKey(JsonNode node) {
-    JsonNode apiVersion = node.get(API_VERSION);
-    JsonNode kind = node.get(KIND);
-
-    return mapping.createKey(
-        apiVersion != null ? apiVersion.textValue() : null,
-        kind != null ? kind.textValue() : null);
+  private static String textValue(JsonParser jp) throws IOException {
+    return jp.currentToken() == JsonToken.VALUE_STRING ? jp.getText() : null;
   }
 
   /**
@@ -58,4 +58,61 @@ class KubernetesResourceTest {
       .hasFieldOrPropertyWithValue("kind", "CustomKind")
       .hasFieldOrPropertyWithValue("apiVersion", "custom/v1");
   }
+
+  @Test
+  @DisplayName("deserialize, with apiVersion and Kind after other fields, should return Pod with all fields")
+  void deserializeWithTrailingApiVersionKindShouldReturnPod() throws Exception {
+    // When
+    final HasMetadata result = objectMapper.readerFor(KubernetesResource.class)
+      .readValue("{\"metadata\": {\"name\": \"pod\"}, \"spec\": {\"nodeName\": \"node\"}, \"kind\": \"Pod\", \"apiVersion\": \"v1\", \"status\": {\"phase\": \"Running\"}}");
+    // Then
+    assertThat(result)
+      .isInstanceOf(Pod.class)
+      .hasFieldOrPropertyWithValue("metadata.name", "pod")
+      .hasFieldOrPropertyWithValue("spec.nodeName", "node")
+      .hasFieldOrPropertyWithValue("status.phase", "Running");
+  }
+
+  @Test
+  @DisplayName("deserialize, with apiVersion and Kind first, should return Pod with all fields")
+  void deserializeWithLeadingApiVersionKindShouldReturnPod() throws Exception {
+    // When
+    final HasMetadata result = objectMapper.readerFor(KubernetesResource.class)
+      .readValue("{\"apiVersion\": \"v1\", \"kind\": \"Pod\", \"metadata\": {\"name\": \"pod\"}, \"status\": {\"phase\": \"Running\"}}");
+    // Then
+    assertThat(result)
+      .isInstanceOf(Pod.class)
+      .hasFieldOrPropertyWithValue("metadata.name", "pod")
+      .hasFieldOrPropertyWithValue("status.phase", "Running");
+  }
+
+  @Test
+  @DisplayName("deserialize, with array, should return KubernetesList of the resolved types")
+  void deserializeWithArrayShouldReturnKubernetesList() throws Exception {
+    // When
+    final KubernetesResource result = objectMapper.readerFor(KubernetesResource.class)
+      .readValue("[{\"kind\": \"Pod\", \"apiVersion\": \"v1\"}, \"ignored\", {\"metadata\": {}, \"kind\": \"CustomKind\", \"apiVersion\": \"custom/v1\"}]");
+    // Then
+    assertThat(result).isInstanceOf(KubernetesList.class);
+    assertThat(((KubernetesList) result).getItems())
+      .hasSize(2)
+      .hasExactlyElementsOfTypes(Pod.class, GenericKubernetesResource.class);
+  }
+
+  @Test
+  @DisplayName("deserialize, with nested items, should leave the parser positioned after each item")
+  void deserializeWithNestedItemsShouldResolveEachItem() throws Exception {
+    // When
+    final KubernetesList result = objectMapper.readValue("{\"apiVersion\": \"v1\", \"kind\": \"List\", \"items\": ["
+      + "{\"apiVersion\": \"v1\", \"kind\": \"Pod\", \"metadata\": {\"name\": \"a\"}},"
+      + "{\"metadata\": {\"name\": \"b\"}, \"apiVersion\": \"v1\", \"kind\": \"ConfigMap\", \"data\": {\"k\": \"v\"}}"
+      + "], \"metadata\": {\"resourceVersion\": \"1\"}}", KubernetesList.class);
+    // Then
+    assertThat(result.getMetadata().getResourceVersion()).isEqualTo("1");
+    assertThat(result.getItems())
+      .hasExactlyElementsOfTypes(Pod.class, ConfigMap.class)
+      .extracting(r -> r.getMetadata().getName())
+      .containsExactly("a", "b");
+    assertThat(((ConfigMap) result.getItems().get(1)).getData()).containsEntry("k", "v");
+  }
 }
@@ -41,6 +41,7 @@ import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.informers.impl.cache.StoreSnapshot;
 import io.fabric8.kubernetes.client.mock.crd.Animal;
 import io.fabric8.kubernetes.client.mock.crd.AnimalSpec;
 import io.fabric8.kubernetes.client.mock.crd.CronTab;
@@ -57,8 +58,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -79,6 +83,9 @@ class DefaultSharedIndexInformerTest {
 
   KubernetesMockServer server;
 
+  @TempDir
+  Path tempDir;
+
   static final Status outdatedStatus = new StatusBuilder().withCode(HttpURLConnection.HTTP_GONE)
       .withMessage(
           "410: The event in requested index is outdated and cleared (the requested history has been cleared [3/1]) [2]")
@@ -158,6 +165,90 @@ class DefaultSharedIndexInformerTest {
     assertEquals(endResourceVersion, podInformer.lastSyncResourceVersion());
   }
 
+  @Test
+  void testResumeFromSnapshot() throws InterruptedException {
+    // Given
+    Path snapshot = tempDir.resolve("pods");
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("1000").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").withResourceVersion("1000").endMetadata().endItem()
+            .build())
+        .once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=1000&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(WATCH_EVENT_EMIT_TIME)
+        .andEmit(new WatchEvent(
+            new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1001").endMetadata().build(),
+            "MODIFIED"))
+        .done().always();
+    // the resumed watch, there must not be another list
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=1001&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done().always();
+
+    SharedIndexInformer<Pod> first = client.pods().inNamespace("test").runnableInformer(0).snapshot(snapshot, 0);
+    first.run();
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS)
+        .until(() -> "1001".equals(first.lastSyncResourceVersion()));
+    first.stop();
+
+    // When
+    CountDownLatch restored = new CountDownLatch(1);
+    SharedIndexInformer<Pod> second = client.pods().inNamespace("test").runnableInformer(0).snapshot(snapshot, 0);
+    second.addEventHandler(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        if ("1001".equals(obj.getMetadata().getResourceVersion())) {
+          restored.countDown();
+        }
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) {
+      }
+    });
+    second.run();
+
+    // Then
+    assertTrue(restored.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS));
+    assertEquals("1001", second.lastSyncResourceVersion());
+    assertThat(second.getStore().list()).hasSize(1);
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS).until(second::isWatching);
+    second.stop();
+  }
+
+  @Test
+  void testSnapshotOfAnotherInformerIsNotRestored() throws IOException {
+    // Given
+    Path snapshot = tempDir.resolve("pods");
+    StoreSnapshot.write(snapshot, "other", "900", Collections.singletonList(
+        new PodBuilder().withNewMetadata().withName("stale").withResourceVersion("900").endMetadata().build()));
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("1000").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").withResourceVersion("1000").endMetadata().endItem()
+            .build())
+        .once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=1000&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done().always();
+
+    // When
+    SharedIndexInformer<Pod> informer = client.pods().inNamespace("test").runnableInformer(0).snapshot(snapshot, 0);
+    informer.run();
+
+    // Then
+    assertEquals("1000", informer.lastSyncResourceVersion());
+    assertThat(informer.getStore().listKeys()).containsExactly("pod1");
+    informer.stop();
+  }
+
   @Test
   void testInformerWithNamespaceAndNameConfigured() throws InterruptedException {
     // Given
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@EnableKubernetesMockClient
+class PartialObjectMetadataTest {
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  @Test
+  void testList() throws InterruptedException {
+    server.expect().withPath("/api/v1/namespaces/test/secrets?labelSelector=app%3Dweb")
+        .andReturn(200, list("1", metadata("secret1", "1")))
+        .once();
+
+    PartialObjectMetadataList list = client.secrets().inNamespace("test").withLabel("app", "web").metadataOnly().list();
+
+    assertThat(list.getItems()).extracting(p -> p.getMetadata().getName()).containsExactly("secret1");
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getHeader("Accept")).isEqualTo("application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1");
+  }
+
+  @Test
+  void testWritesAreRejected() {
+    server.expect().withPath("/api/v1/namespaces/test/secrets")
+        .andReturn(200, list("1", metadata("secret1", "1")))
+        .once();
+
+    Resource<PartialObjectMetadata> resource = client.secrets().inNamespace("test").metadataOnly().resources()
+        .findFirst().get();
+
+    assertThatThrownBy(resource::replace).isInstanceOf(KubernetesClientException.class)
+        .hasMessageContaining("metadata-only");
+    assertThatThrownBy(() -> resource.patch(metadata("secret1", "1"))).isInstanceOf(KubernetesClientException.class)
+        .hasMessageContaining("metadata-only");
+    assertThatThrownBy(resource::createOrReplace).isInstanceOf(KubernetesClientException.class)
+        .hasMessageContaining("metadata-only");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testInform() throws InterruptedException {
+    server.expect().withPath("/api/v1/namespaces/test/configmaps")
+        .andReturn(200, list("1", metadata("cm1", "1")))
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/configmaps?resourceVersion=1&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(100)
+        .andEmit(new WatchEvent(metadata("cm2", "2"), "ADDED"))
+        .done()
+        .always();
+
+    SharedIndexInformer<PartialObjectMetadata> informer = client.configMaps().inNamespace("test").metadataOnly()
+        .inform();
+
+    await().atMost(10, TimeUnit.SECONDS).until(() -> informer.getStore().list().size() == 2);
+    assertThat(informer.getStore().getByKey("test/cm2").getKind()).isEqualTo("PartialObjectMetadata");
+    assertThat(server.takeRequest().getHeader("Accept"))
+        .isEqualTo("application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1");
+    assertThat(server.takeRequest().getHeader("Accept"))
+        .isEqualTo("application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1");
+    informer.stop();
+  }
+
+  private static PartialObjectMetadata metadata(String name, String resourceVersion) {
+    return new PartialObjectMetadataBuilder().withNewMetadata()
+        .withName(name)
+        .withNamespace("test")
+        .withResourceVersion(resourceVersion)
+        .endMetadata()
+        .build();
+  }
+
+  private static PartialObjectMetadataList list(String resourceVersion, PartialObjectMetadata... items) {
+    PartialObjectMetadataList list = new PartialObjectMetadataList();
+    list.setApiVersion("meta.k8s.io/v1");
+    list.setKind("PartialObjectMetadataList");
+    list.setMetadata(new ListMetaBuilder().withResourceVersion(resourceVersion).build());
+    list.getItems().addAll(Arrays.asList(items));
+    return list;
+  }
+
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.extended.logs.PodLogAggregator;
+import io.fabric8.kubernetes.client.extended.logs.PodLogAggregatorConfigBuilder;
+import io.fabric8.kubernetes.client.extended.logs.PodLogLine;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Utils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EnableKubernetesMockClient
+class PodLogAggregatorTest {
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  @Test
+  void shouldFollowContainersOfMatchingPodsUntilDeleted() {
+    // Given
+    Pod pod = new PodBuilder()
+        .withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion("1").endMetadata()
+        .withNewStatus()
+        .addNewContainerStatus().withName("app").withRestartCount(0).withNewState().withNewRunning().endRunning().endState()
+        .endContainerStatus()
+        .endStatus()
+        .build();
+    String selector = "?labelSelector=" + Utils.toUrlEncoded("app=web");
+    server.expect().withPath("/api/v1/namespaces/test/pods" + selector)
+        .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().addToItems(pod).build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods" + selector + "&resourceVersion=1&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(1000).andEmit(new WatchEvent(pod, "DELETED"))
+        .done().always();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1/log?pretty=false&container=app&timestamps=true&follow=true")
+        .andReturn(200, "2022-07-01T10:00:00Z hello\n2022-07-01T10:00:01Z world\n")
+        .once();
+    List<PodLogLine> lines = new CopyOnWriteArrayList<>();
+
+    // When
+    try (PodLogAggregator aggregator = client.podLogAggregator()
+        .withConfig(new PodLogAggregatorConfigBuilder()
+            .withNamespace("test")
+            .withLabels(Collections.singletonMap("app", "web"))
+            .withSink(lines::add)
+            .build())
+        .build()
+        .start()) {
+
+      // Then
+      await().atMost(10, TimeUnit.SECONDS).until(() -> lines.size() == 2);
+      assertThat(lines).extracting(PodLogLine::toString).containsExactly(
+          "[pod1/app] 2022-07-01T10:00:00Z hello",
+          "[pod1/app] 2022-07-01T10:00:01Z world");
+      assertThat(lines.get(1).getTimestamp()).isEqualTo(Instant.parse("2022-07-01T10:00:01Z"));
+      await().atMost(10, TimeUnit.SECONDS).until(() -> aggregator.getFollowedContainers().isEmpty());
+    }
+  }
+
+  @Test
+  void shouldResumeWhenTheStreamEndsWhileTheContainerIsRunning() {
+    // Given
+    Pod pod = new PodBuilder()
+        .withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion("1").endMetadata()
+        .withNewStatus()
+        .addNewContainerStatus().withName("app").withRestartCount(0).withNewState().withNewRunning().endRunning().endState()
+        .endContainerStatus()
+        .endStatus()
+        .build();
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().addToItems(pod).build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=1&allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done().always();
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod).always();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1/log?pretty=false&container=app&timestamps=true&follow=true")
+        .andReturn(200, "2022-07-01T10:00:00.5Z hello\n")
+        .once();
+    // a new line with the timestamp of the last one is not taken for the one already passed on
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1/log?pretty=false&container=app&sinceTime=2022-07-01T10:00:00Z"
+            + "&timestamps=true&follow=true")
+        .andReturn(200, "2022-07-01T10:00:00.5Z hello\n2022-07-01T10:00:00.5Z again\n2022-07-01T10:00:01Z world\n")
+        .once();
+    List<PodLogLine> lines = new CopyOnWriteArrayList<>();
+
+    // When
+    try (PodLogAggregator aggregator = client.podLogAggregator()
+        .withConfig(new PodLogAggregatorConfigBuilder()
+            .withNamespace("test")
+            .withSink(lines::add)
+            .build())
+        .build()
+        .start()) {
+
+      // Then
+      await().atMost(10, TimeUnit.SECONDS).until(() -> lines.size() == 3);
+      assertThat(lines).extracting(PodLogLine::getMessage).containsExactly("hello", "again", "world");
+      assertThat(aggregator.getFollowedContainers()).containsExactly("pod1/app");
+    }
+  }
+
+}
@@ -19,6 +19,7 @@ package io.fabric8.kubernetes.client.mock;
 import io.fabric8.kubernetes.api.model.DeleteOptionsBuilder;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
@@ -34,6 +35,8 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
@@ -56,19 +59,26 @@ import java.io.PipedOutputStream;
 import java.net.HttpURLConnection;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -114,6 +124,36 @@ class PodTest {
     assertEquals(3, podList.getItems().size());
   }
 
+  @Test
+  void testStream() {
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=2")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withContinue("x").endMetadata()
+            .addNewItem().withNewMetadata().withName("pod1").endMetadata().and()
+            .addNewItem().withNewMetadata().withName("pod2").endMetadata().and()
+            .build())
+        .once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=2&continue=x")
+        .andReturn(200, new PodListBuilder()
+            .addNewItem().withNewMetadata().withName("pod3").endMetadata().and()
+            .build())
+        .once();
+
+    List<String> names = client.pods().stream(new ListOptionsBuilder().withLimit(2L).build())
+        .map(p -> p.getMetadata().getName())
+        .collect(Collectors.toList());
+
+    assertEquals(Arrays.asList("pod1", "pod2", "pod3"), names);
+  }
+
+  @Test
+  void testStreamWithError() {
+    server.expect().withPath("/api/v1/namespaces/test/pods").andReturn(HttpURLConnection.HTTP_FORBIDDEN, "forbidden").once();
+
+    Stream<Pod> stream = client.pods().stream();
+
+    assertThrows(KubernetesClientException.class, stream::count);
+  }
+
   @Test
   void testListWithLabels() {
     server.expect()
@@ -409,6 +449,79 @@ class PodTest {
     Assertions.assertThrows(KubernetesClientException.class, () -> podOp.getLog(true));
   }
 
+  @Test
+  void testWatchLogLines() throws InterruptedException {
+    // Given
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1/log?pretty=false&container=c1&timestamps=true&follow=true")
+        .andReturn(200, "2022-07-01T10:00:00Z first\n2022-07-01T10:00:01.5Z second\n")
+        .once();
+    List<String> lines = new CopyOnWriteArrayList<>();
+    CountDownLatch closed = new CountDownLatch(1);
+
+    // When
+    LogWatch logWatch = client.pods().withName("pod1").inContainer("c1").watchLogLines(new LogLineListener() {
+      @Override
+      public void onLine(Instant timestamp, CharBuffer line) {
+        lines.add(timestamp + " " + line);
+      }
+
+      @Override
+      public void onClose(Throwable cause) {
+        closed.countDown();
+      }
+    });
+
+    // Then
+    assertTrue(closed.await(10, TimeUnit.SECONDS));
+    assertNull(logWatch.getOutput());
+    assertEquals(Arrays.asList("2022-07-01T10:00:00Z first", "2022-07-01T10:00:01.500Z second"), lines);
+    logWatch.close();
+  }
+
+  @Test
+  void testWatchLogLinesResumesUntilTheContainerTerminates() throws InterruptedException {
+    // Given
+    Pod running = new PodBuilder()
+        .withNewMetadata().withName("pod1").withNamespace("test").endMetadata()
+        .withNewStatus().withPhase("Running")
+        .addNewContainerStatus().withName("c1").withNewState().withNewRunning().endRunning().endState().endContainerStatus()
+        .endStatus()
+        .build();
+    Pod terminated = new PodBuilder(running).editStatus().editFirstContainerStatus()
+        .withNewState().withNewTerminated().withExitCode(0).endTerminated().endState()
+        .endContainerStatus().endStatus().build();
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, running).times(2);
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, terminated).always();
+    server.expect().withPath("/api/v1/namespaces/test/pods/pod1/log?pretty=false&container=c1&timestamps=true&follow=true")
+        .andReturn(200, "2022-07-01T10:00:00Z first\n")
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1/log?pretty=false&container=c1&sinceTime=2022-07-01T10:00:00Z"
+            + "&timestamps=true&follow=true")
+        .andReturn(200, "2022-07-01T10:00:00Z first\n2022-07-01T10:00:01Z second\n")
+        .once();
+    List<String> lines = new CopyOnWriteArrayList<>();
+    CountDownLatch closed = new CountDownLatch(1);
+
+    // When
+    LogWatch logWatch = client.pods().withName("pod1").inContainer("c1").watchLogLines(new LogLineListener() {
+      @Override
+      public void onLine(Instant timestamp, CharBuffer line) {
+        lines.add(timestamp + " " + line);
+      }
+
+      @Override
+      public void onClose(Throwable cause) {
+        closed.countDown();
+      }
+    });
+
+    // Then
+    assertTrue(closed.await(10, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("2022-07-01T10:00:00Z first", "2022-07-01T10:00:01Z second"), lines);
+    logWatch.close();
+  }
+
   @Test
   void testLoad() {
     Pod pod = client.pods().load(getClass().getResourceAsStream("/test-pod.yml")).get();
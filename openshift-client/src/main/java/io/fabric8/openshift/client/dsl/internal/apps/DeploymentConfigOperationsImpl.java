@@ -19,11 +19,13 @@ import io.fabric8.kubernetes.api.model.autoscaling.v1.Scale;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
+import io.fabric8.kubernetes.client.dsl.internal.LogLineWatchCallback;
 import io.fabric8.kubernetes.client.dsl.internal.LogWatchCallback;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.RollingOperationContext;
@@ -216,6 +218,31 @@ public class DeploymentConfigOperationsImpl
     }
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    // In case of DeploymentConfig we directly get logs at DeploymentConfig Url, but we need to wait for Pods
+    waitUntilDeploymentConfigPodBecomesReady(fromServer().get());
+    return LogLineWatchCallback.watch(this, listener, sinceTime -> {
+      URLBuilder requestUrlBuilder = new URLBuilder(getResourceLogUrl(false, true));
+      requestUrlBuilder.addQueryParameter("timestamps", "true");
+      if (sinceTime != null) {
+        requestUrlBuilder.addQueryParameter("sinceTime", sinceTime);
+      }
+      return requestUrlBuilder.build();
+    }, this::hasDeploymentConfigPodsTerminated);
+  }
+
+  private boolean hasDeploymentConfigPodsTerminated() {
+    DeploymentConfig deploymentConfig = get();
+    if (deploymentConfig == null) {
+      return true;
+    }
+    String containerId = rollingOperationContext.getContainerId();
+    return PodOperationUtil.getPodOperationsForController(context, deploymentConfig.getMetadata().getUid(),
+        getDeploymentConfigPodLabels(deploymentConfig), false, null, containerId).stream()
+        .allMatch(pod -> PodOperationUtil.hasTerminated(pod.get(), containerId));
+  }
+
   private URL getResourceLogUrl(Boolean withPrettyOutput, Boolean follow) throws MalformedURLException {
     URLBuilder requestUrlBuilder = new URLBuilder(URLUtils.join(getResourceUrl().toString(), "log"));
     if (Boolean.TRUE.equals(withPrettyOutput)) {
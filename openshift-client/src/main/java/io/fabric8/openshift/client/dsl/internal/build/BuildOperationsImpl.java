@@ -18,6 +18,7 @@ package io.fabric8.openshift.client.dsl.internal.build;
 import io.fabric8.kubernetes.client.Client;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.BytesLimitTerminateTimeTailPrettyLoggable;
+import io.fabric8.kubernetes.client.dsl.LogLineListener;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.Loggable;
 import io.fabric8.kubernetes.client.dsl.PodResource;
@@ -26,6 +27,7 @@ import io.fabric8.kubernetes.client.dsl.TailPrettyLoggable;
 import io.fabric8.kubernetes.client.dsl.TimeTailPrettyLoggable;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
+import io.fabric8.kubernetes.client.dsl.internal.LogLineWatchCallback;
 import io.fabric8.kubernetes.client.dsl.internal.LogWatchCallback;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.utils.URLUtils;
@@ -172,6 +174,28 @@ public class BuildOperationsImpl extends HasMetadataOperation<Build, BuildList,
     }
   }
 
+  @Override
+  public LogWatch watchLogLines(LogLineListener listener) {
+    // In case of Build we directly get logs at Build Url, but we need to wait for Pods
+    waitUntilBuildPodBecomesReady(fromServer().get());
+    return LogLineWatchCallback.watch(this, listener, sinceTime -> {
+      BuildOperationContext logContext = getContext().withTimestamps(true);
+      if (sinceTime != null) {
+        logContext = logContext.withSinceSeconds(null).withTailingLines(null).withSinceTimestamp(sinceTime);
+      }
+      String logParameters = new BuildOperationsImpl(logContext, context).getLogParameters();
+      return new URL(URLUtils.join(getResourceUrl().toString(), logParameters + "&follow=true"));
+    }, () -> hasFinished(get()));
+  }
+
+  private static boolean hasFinished(Build build) {
+    if (build == null) {
+      return true;
+    }
+    String phase = build.getStatus() != null ? build.getStatus().getPhase() : null;
+    return "Complete".equals(phase) || "Failed".equals(phase) || "Error".equals(phase) || "Cancelled".equals(phase);
+  }
+
   @Override
   public Loggable withLogWaitTimeout(Integer logWaitTimeout) {
     BuildOperationsImpl result = newInstance(context);